@@ -0,0 +1,104 @@
+/*
+ * AGELParserBenchmark.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import com.akigo.core.el.AGELParser;
+import com.akigo.core.el.CompiledExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AGELParser#eval(String)}のベンチマーク<br>
+ * <pre>
+ * 表現式の種類（算術、10進数、数値の定数参照、関数、定数参照、テンプレート）と定数マップの件数ごとに計測する。
+ * AGELParserは全スレッドで共有する（-threadsで複数スレッドからの同時評価を計測できる）。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AGELParserBenchmark {
+
+    @Param({"arithmetic", "decimal", "numericConstant", "function", "constant", "template"})
+    private String expressionType;
+
+    @Param({"10", "1000"})
+    private int constantCount;
+
+    private AGELParser parser;
+
+    private String expression;
+
+    private CompiledExpression compiled;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> constantsMap = new HashMap<>();
+        for (int i = 0; i < this.constantCount; i++) {
+            constantsMap.put("C" + i, String.valueOf(i));
+        }
+        constantsMap.put("RATE", "#{$CONSTANTS.C1$ + $CONSTANTS.C2$ * 10}");
+        constantsMap.put("NAME", "abcdef");
+        constantsMap.put("A", "15");
+        constantsMap.put("B", "36.5");
+
+        switch (this.expressionType) {
+            case "arithmetic":
+                this.expression = "#{(12 + 34) * 5 / 7 - 8 > 20}";
+                break;
+            case "decimal":
+                this.expression = "#{(1.25 + 2.5) * (3 - 0.75) / 1.5 >= 5.625 && 10 * 10 < 101}";
+                break;
+            case "numericConstant":
+                this.expression = "#{$CONSTANTS.A$ * 12 + $CONSTANTS.B$ / 4 - 7 > 100 ? 1 : 0}";
+                break;
+            case "function":
+                this.expression = "#{substring(substring(abcdef, 1, 5), length(substring(ab, 1)), 3)}";
+                break;
+            case "constant":
+                this.expression = "#{$CONSTANTS.RATE$ * 2 > $CONSTANTS.C5$ ? ok : ng}";
+                break;
+            default:
+                this.expression = "name: #{length($CONSTANTS.NAME$) + $CONSTANTS.RATE$} yen";
+                break;
+        }
+
+        this.parser = new AGELParser(constantsMap);
+        this.compiled = AGELParser.compile(this.expression);
+    }
+
+    @Benchmark
+    public String eval() {
+        return this.parser.eval(this.expression);
+    }
+
+    @Benchmark
+    public String evalCompiled() {
+        return this.compiled.eval(this.parser);
+    }
+}
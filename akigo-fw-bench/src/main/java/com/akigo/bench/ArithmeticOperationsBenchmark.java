@@ -0,0 +1,173 @@
+/*
+ * ArithmeticOperationsBenchmark.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import com.akigo.core.util.ArithmeticColumnResult;
+import com.akigo.core.util.ArithmeticColumns;
+import com.akigo.core.util.ArithmeticOperations;
+import com.akigo.core.util.ArithmeticProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * {@link ArithmeticOperations}のベンチマーク<br>
+ * <pre>
+ * 計算式の項数ごとに、文字列の評価、コンパイル済み計算式の評価（long演算、BigDecimalのみ）を計測する。
+ * 列形式の評価は、行数と並列評価（Fork/Join）の有無ごとに計測する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticOperationsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ExpressionState {
+
+        @Param({"4", "16", "64"})
+        private int termCount;
+
+        private String expression;
+
+        private ArithmeticOperations calculator;
+
+        private ArithmeticProgram program;
+
+        private ArithmeticProgram bigDecimalProgram;
+
+        private ArithmeticProgram variableProgram;
+
+        private long[] unscaledValues;
+
+        @Setup
+        public void setUp() {
+            this.expression = buildExpression(this.termCount, i -> (i % 7 + 1) + "." + (i % 90 + 10));
+            this.calculator = new ArithmeticOperations();
+            this.program = ArithmeticOperations.compile(this.expression);
+            this.bigDecimalProgram = this.program.withLongArithmetic(false);
+            this.variableProgram = ArithmeticOperations.compile(buildExpression(this.termCount, i -> "v" + i));
+            this.unscaledValues = new long[this.variableProgram.getVariableNames().size()];
+            for (int i = 0; i < this.unscaledValues.length; i++) {
+                this.unscaledValues[i] = (i % 7 + 1) * 100L + i % 100;
+            }
+        }
+    }
+
+    /**
+     * 4項ずつ括弧で囲んだ計算式の生成処理<br>
+     * 例：(t0 * t1 + t2 / t3) + (t4 * t5 + t6 / t7) - ...
+     */
+    private static String buildExpression(int termCount, IntFunction<String> term) {
+        String[] operators = {null, " * ", " + ", " / "};
+        StringBuilder expression = new StringBuilder();
+        for (int i = 0; i < termCount; i++) {
+            if (i % 4 == 0) {
+                if (i > 0) {
+                    expression.append(i % 8 == 0 ? " - " : " + ");
+                }
+                expression.append('(');
+            } else {
+                expression.append(operators[i % 4]);
+            }
+            expression.append(term.apply(i));
+            if (i % 4 == 3 || i == termCount - 1) {
+                expression.append(')');
+            }
+        }
+        return expression.toString();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ColumnState {
+
+        @Param({"10000", "1000000"})
+        private int rowCount;
+
+        @Param({"false", "true"})
+        private boolean forkJoin;
+
+        private ArithmeticProgram program;
+
+        private ArithmeticColumns longColumns;
+
+        private ArithmeticColumns decimalColumns;
+
+        @Setup
+        public void setUp() {
+            long[] a = new long[this.rowCount];
+            long[] b = new long[this.rowCount];
+            long[] c = new long[this.rowCount];
+            BigDecimal[] decimals = new BigDecimal[this.rowCount];
+            Random random = new Random(1L);
+            for (int i = 0; i < this.rowCount; i++) {
+                a[i] = random.nextInt(10000000);
+                b[i] = random.nextInt(100000);
+                c[i] = 1 + random.nextInt(500);
+                decimals[i] = BigDecimal.valueOf(a[i], 2);
+            }
+            this.program = ArithmeticOperations.compile("(a + b) * c / 100");
+            this.longColumns = new ArithmeticColumns().put("a", a, 2).put("b", b, 2).put("c", c, 0);
+            this.decimalColumns = new ArithmeticColumns().put("a", decimals).put("b", b, 2).put("c", c, 0);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal evalString(ExpressionState state) {
+        return state.calculator.eval(state.expression);
+    }
+
+    @Benchmark
+    public BigDecimal evalProgram(ExpressionState state) {
+        return state.program.eval();
+    }
+
+    @Benchmark
+    public BigDecimal evalProgramBigDecimal(ExpressionState state) {
+        return state.bigDecimalProgram.eval();
+    }
+
+    @Benchmark
+    public BigDecimal evalProgramLongVariables(ExpressionState state) {
+        return state.variableProgram.eval(2, state.unscaledValues);
+    }
+
+    @Benchmark
+    public ArithmeticColumnResult evalLongColumns(ColumnState state) {
+        return state.program.evalColumns(state.longColumns, state.forkJoin);
+    }
+
+    @Benchmark
+    public ArithmeticColumnResult evalDecimalColumns(ColumnState state) {
+        return state.program.evalColumns(state.decimalColumns, state.forkJoin);
+    }
+
+    @Benchmark
+    public ArithmeticColumnResult evalDoubleColumns(ColumnState state) {
+        return state.program.evalColumnsAsDouble(state.longColumns, state.forkJoin);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * BenchmarkMain.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ベンチマークの実行クラス<br>
+ * <pre>
+ * JMHのコマンドラインオプションに加えて、以下のオプションを指定できる。
+ * ・-threads 1,2,4：スレッド数ごとに全てのベンチマークを実行する（デフォルト：1）
+ *
+ * 実行結果は、結果形式（-rf）、出力先（-rff）を指定しない場合、JSON形式でjmh-result.jsonに出力する。
+ * 全てのスレッド数の実行結果を一つのファイルに出力するため、コミット間の比較に使用できる。
+ *
+ * 使用例：
+ * {@code
+ *      mvn -pl akigo-fw-bench -am package -DskipTests
+ *      java -jar akigo-fw-bench/target/benchmarks.jar ArithmeticOperations -threads 1,4 -rff before.json
+ *      java -jar akigo-fw-bench/target/benchmarks.jar Strings -p length=64 -f 1 -wi 3 -i 5
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class BenchmarkMain {
+
+    private static final String THREADS_OPTION = "-threads";
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        int[] threadCounts = {1};
+        int index = jmhArgs.indexOf(THREADS_OPTION);
+        if (index >= 0) {
+            if (index + 1 >= jmhArgs.size()) {
+                throw new IllegalArgumentException(THREADS_OPTION + "にスレッド数を指定してください。例：" + THREADS_OPTION + " 1,2,4");
+            }
+            threadCounts = Arrays.stream(jmhArgs.get(index + 1).split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+            jmhArgs.subList(index, index + 2).clear();
+        }
+
+        CommandLineOptions commandLine = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+            return;
+        }
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threadCount : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .threads(threadCount)
+                    // 実行結果はスレッド数ごとに出力せず、最後にまとめて出力する
+                    .resultFormat(ResultFormatType.TEXT)
+                    .result(createTempFile())
+                    .build();
+            results.addAll(new Runner(options).run());
+        }
+
+        ResultFormatType format = commandLine.getResultFormat().orElse(ResultFormatType.JSON);
+        String file = commandLine.getResult().orElse(DEFAULT_RESULT_FILE);
+        ResultFormatFactory.getInstance(format, file).writeOut(results);
+        System.out.println("ベンチマーク結果を出力しました：" + file);
+    }
+
+    private static String createTempFile() throws IOException {
+        File file = File.createTempFile("jmh-", ".txt");
+        file.deleteOnExit();
+        return file.getPath();
+    }
+}
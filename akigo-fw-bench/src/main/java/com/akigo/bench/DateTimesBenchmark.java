@@ -0,0 +1,96 @@
+/*
+ * DateTimesBenchmark.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import com.akigo.core.util.DateTimes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateTimes}の日付解析、営業日数計算のベンチマーク<br>
+ * <pre>
+ * 日付解析は、ISO形式と書式指定（yyyy/MM/dd）で、異なる日付の文字列を順に解析する。
+ * 営業日数、休日数の計算は、期間の日数ごとに計測する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimesBenchmark {
+
+    private static final int DATE_COUNT = 1024;
+
+    @Param({"30", "365", "3650"})
+    private int days;
+
+    private String[] isoDates;
+
+    private String[] formattedDates;
+
+    private int index;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        this.isoDates = new String[DATE_COUNT];
+        this.formattedDates = new String[DATE_COUNT];
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < DATE_COUNT; i++) {
+            this.isoDates[i] = date.plusDays(i * 7L).toString();
+            this.formattedDates[i] = date.plusDays(i * 7L).format(formatter);
+        }
+        this.from = LocalDate.of(2024, 4, 1);
+        this.to = this.from.plusDays(this.days - 1L);
+    }
+
+    @Benchmark
+    public Optional<LocalDate> parseIsoDate() {
+        return DateTimes.toDateFrom(this.isoDates[this.index++ & (DATE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Optional<LocalDate> parseFormattedDate() {
+        return DateTimes.toDateFrom(this.formattedDates[this.index++ & (DATE_COUNT - 1)], "yyyy/MM/dd");
+    }
+
+    @Benchmark
+    public OptionalInt getWeekdaysBetween() {
+        return DateTimes.getWeekdaysBetween(this.from, this.to);
+    }
+
+    @Benchmark
+    public OptionalInt getHolidaysBetween() {
+        return DateTimes.getHolidaysBetween(this.from, this.to);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * ProcessStreamBenchmark.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import com.akigo.core.util.ProcessStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProcessStream}の並列実行のスループットのベンチマーク<br>
+ * <pre>
+ * 処理対象の件数、並列実行スレッド数、処理単位件数ごとに、全件の処理時間を計測する。
+ * 一件ごとの処理は、{@link Blackhole#consumeCPU(long)}で一定のCPU時間を消費する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessStreamBenchmark {
+
+    /**
+     * 一件ごとの処理の重さ（{@link Blackhole#consumeCPU(long)}のトークン数）
+     */
+    private static final long WORK_TOKENS = 64;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallel;
+
+    @Param({"100", "1000"})
+    private int processUnit;
+
+    private List<Integer> targets;
+
+    @Setup
+    public void setUp() {
+        this.targets = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.targets.add(i);
+        }
+    }
+
+    @Benchmark
+    public boolean reduce() {
+        return ProcessStream.of(this.targets)
+                .processUnit(this.processUnit)
+                .parallel(this.parallel)
+                .filter(target -> target % 10 != 0)
+                .reduce(targets -> Blackhole.consumeCPU(WORK_TOKENS * targets.size()));
+    }
+
+    @Benchmark
+    public boolean forEach() {
+        return ProcessStream.of(this.targets)
+                .processUnit(this.processUnit)
+                .parallel(this.parallel)
+                .forEach(target -> Blackhole.consumeCPU(WORK_TOKENS));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * QuerySpliteratorBenchmark.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import com.akigo.dao.util.QuerySpliterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QuerySpliterator#splitQuery}のベンチマーク<br>
+ * <pre>
+ * パラメーター数ごとに、分割実行（デフォルトの分割単位：1000件）、重複排除、ソートの処理時間を計測する。
+ * コールバックはDBアクセスの代わりに、パラメーターごとに二件（うち一件は他のパラメーターと重複）の結果を返却する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuerySpliteratorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<String> params;
+
+    @Setup
+    public void setUp() {
+        this.params = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.params.add(String.format("K%08d", i));
+        }
+    }
+
+    private static List<String> search(List<String> params) {
+        List<String> results = new ArrayList<>(params.size() * 2);
+        for (String param : params) {
+            results.add(param);
+            results.add(param.substring(0, param.length() - 1));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<String> splitQuery() {
+        return QuerySpliterator.splitQuery(this.params, QuerySpliteratorBenchmark::search);
+    }
+
+    @Benchmark
+    public List<String> splitQueryDistinctSorted() {
+        return QuerySpliterator.splitQuery(this.params, QuerySpliteratorBenchmark::search,
+                result -> result, Comparator.reverseOrder());
+    }
+}
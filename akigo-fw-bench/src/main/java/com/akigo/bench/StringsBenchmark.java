@@ -0,0 +1,105 @@
+/*
+ * StringsBenchmark.java
+ * Created on  2026/10/17 22:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.bench;
+
+import com.akigo.core.util.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Strings}の文字種チェック、バイト数チェックのベンチマーク<br>
+ * <pre>
+ * 文字列の長さと文字種（半角英数字、全角かな漢字）ごとに計測する。
+ * 文字種がチェック内容と一致しない場合は、最初の文字でチェックが終了する（falseを返却する）場合の計測となる。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringsBenchmark {
+
+    private static final String HALF_CHARACTERS = "abcXYZ0123456789";
+
+    private static final String FULL_CHARACTERS = "あいうアイウ漢字全角ＡＢ１２";
+
+    @Param({"8", "64", "1024"})
+    private int length;
+
+    @Param({"half", "full"})
+    private String characterType;
+
+    private String text;
+
+    private String number;
+
+    private String decimal;
+
+    @Setup
+    public void setUp() {
+        String characters = "half".equals(this.characterType) ? HALF_CHARACTERS : FULL_CHARACTERS;
+        this.text = repeat(characters, this.length);
+        this.number = repeat("half".equals(this.characterType) ? "0123456789" : "０１２３４５６７８９", this.length);
+        this.decimal = "-" + repeat("1234567890", this.length - 3) + ".5";
+    }
+
+    private static String repeat(String characters, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(characters.charAt(i % characters.length()));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public boolean isHalfAlphanumeric() {
+        return Strings.isHalfAlphanumeric(this.text);
+    }
+
+    @Benchmark
+    public boolean isFullOnly() {
+        return Strings.isFullOnly(this.text);
+    }
+
+    @Benchmark
+    public boolean isNumber() {
+        return Strings.isNumber(this.number);
+    }
+
+    @Benchmark
+    public boolean isDecimal() {
+        return Strings.isDecimal(this.decimal);
+    }
+
+    @Benchmark
+    public boolean isLimitedBytesUtf8() {
+        return Strings.isLimitedBytes(this.text, this.length * 3, "UTF-8");
+    }
+
+    @Benchmark
+    public boolean isLimitedBytesMs932() {
+        return Strings.isLimitedBytes(this.text, this.length * 2, "MS932");
+    }
+}
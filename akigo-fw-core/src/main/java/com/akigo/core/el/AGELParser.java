@@ -8,19 +8,14 @@
  */
 package com.akigo.core.el;
 
-import com.akigo.core.el.operator.AbstractOperator;
-import com.akigo.core.el.operator.OperatorFactory;
-import com.akigo.core.el.operator.function.ParamSeparator;
-import com.akigo.core.el.operator.parenthesis.LeftParenthesis;
-import com.akigo.core.el.operator.parenthesis.RightParenthesis;
+import com.akigo.core.instrument.ExpressionListener;
+import com.akigo.core.instrument.Instrumentation;
+import com.akigo.core.util.BoundedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.Stack;
-import java.util.regex.Matcher;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 /**
@@ -28,6 +23,9 @@ import java.util.regex.Pattern;
  * <pre>
  *   #{}で囲んでいる表現式の解析
  *   例：#{($CONSTANTS.S1$ == $CONSTANTS.S2$) ? substring($CONSTANTS.S3$, 1, 4) : abcd}
+ *
+ *   評価中の状態は評価ごとの{@link EvaluationContext}に保持するため、
+ *   一つのインスタンスを複数スレッドで共有して評価できる。（定数マップは参照のみで、更新しない）
  * </pre>
  *
  * @author chenhao
@@ -41,10 +39,14 @@ public class AGELParser {
     private static final String EXPRESSION_FINISHER = "\\}";
     private static final String EXPRESSION_REGEX = EXPRESSION_STARTER + ".+" + EXPRESSION_FINISHER;
 
+    static final Pattern EXPRESSION_PATTERN = Pattern.compile(EXPRESSION_REGEX);
+
     /**
-     * タブ、改行、スペース
+     * コンパイル済み表現式キャッシュの最大件数
      */
-    private static final String TOKEN_SEPARATOR = "[\t\r\n ]+";
+    private static final int EXPRESSION_CACHE_SIZE = 4096;
+
+    private static final BoundedCache<String, CompiledExpression> EXPRESSION_CACHE = new BoundedCache<>(EXPRESSION_CACHE_SIZE);
 
     private final ValueExpressionParser valueExpressionParser;
     private final Map<String, String> constantsMap;
@@ -54,109 +56,58 @@ public class AGELParser {
     }
 
     public AGELParser(Map<String, String> constantsMap) {
-        /*
-         * 当該スレッドが異常終了した可能性があるので、
-         * 新AGELParserインスタンスは当該スレッドを再利用する場合、前の残った関数のパラメーターカウントをクリア必要がある。
-         */
-        OperatorFactory.ofOperator(ParamSeparator.class).clearFuncParamCount();
-
         this.constantsMap = constantsMap;
         this.valueExpressionParser = new ValueExpressionParser(this);
     }
 
-    public String eval(String expression) {
-        if (isLogicExpression(expression)) {
-            LOGGER.debug(expression + " の解析開始");
-
-            String returnValue = expression;
-
-            Pattern p = Pattern.compile(EXPRESSION_REGEX);
-            Matcher m = p.matcher(expression);
-            while (m.find()) {
-                String matchedRegex = m.group();
-                returnValue = m.replaceFirst(evalAGEL(matchedRegex));
-                m = p.matcher(returnValue);
+    /**
+     * 表現式のコンパイル処理<br>
+     * コンパイル済み表現式はキャッシュされ、同じ表現式を再度コンパイルしない。<br>
+     *
+     * @param expression 表現式
+     * @return コンパイル済み表現式
+     */
+    public static CompiledExpression compile(String expression) {
+        Objects.requireNonNull(expression);
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            CompiledExpression cached = EXPRESSION_CACHE.get(expression);
+            listener.onCompile(ExpressionListener.Engine.AGEL, expression, cached != null);
+            if (cached != null) {
+                return cached;
             }
-
-            LOGGER.debug(expression + " の解析結果 = " + returnValue);
-
-            return returnValue;
-        } else {
-            return this.valueExpressionParser.parseValue(expression);
         }
+        return EXPRESSION_CACHE.computeIfAbsent(expression, ExpressionCompiler::compile);
     }
 
-    public boolean isLogicExpression(String expression) {
-        Pattern p = Pattern.compile(EXPRESSION_REGEX);
-        Matcher m = p.matcher(expression);
-        return m.find();
+    /**
+     * コンパイル済み表現式キャッシュのクリア処理<br>
+     * 関数の登録などで、同じ表現式のコンパイル結果が変わる場合に呼び出す。<br>
+     */
+    public static void clearCache() {
+        EXPRESSION_CACHE.clear();
     }
 
-    private String evalAGEL(String expression) {
-        LOGGER.debug(expression + " の解析開始");
-        List<String> tokens = parseTokens(expression);
-
-        Stack<AbstractOperator> opStack = new Stack<>();
-        Stack<Object> valStack = new Stack<>();
-
-        for (String token : tokens) {
-            if (OperatorFactory.isOperator(token)) {
-                AbstractOperator op = OperatorFactory.ofOperator(token).get();
-                if (op.equals(OperatorFactory.ofOperator(RightParenthesis.class))) {
-                    op.accept(opStack, valStack);
-                } else {
-                    while (!opStack.isEmpty()
-                            && op.getPriority() <= opStack.peek().getPriority()
-                            && !opStack.peek().equals(OperatorFactory.ofOperator(ParamSeparator.class))
-                            && !opStack.peek().equals(OperatorFactory.ofOperator(LeftParenthesis.class))) {
-                        AbstractOperator peekOp = opStack.pop();
-                        peekOp.accept(opStack, valStack);
-                    }
-                    opStack.push(op);
-                }
-            } else {
-                valStack.push(this.valueExpressionParser.parseValue(token));
-            }
-        }
+    public String eval(String expression) {
+        String result = compile(expression).eval(this);
 
-        while (!opStack.isEmpty()) {
-            opStack.pop().accept(opStack, valStack);
-        }
+        LOGGER.debug("{} の解析結果 = {}", expression, result);
 
-        String result = AbstractOperator.getString(valStack.peek());
+        return result;
+    }
 
-        LOGGER.debug(expression + " の解析結果 = " + result);
+    public boolean isLogicExpression(String expression) {
+        return containsLogicExpression(expression);
+    }
 
-        return result;
+    static boolean containsLogicExpression(String expression) {
+        return expression != null
+                && expression.contains("#{")
+                && EXPRESSION_PATTERN.matcher(expression).find();
     }
 
-    private List<String> parseTokens(String expression) {
-        String expressionValue = expression.substring(2, expression.length() - 1);
-
-        String[] tokens = expressionValue.split(TOKEN_SEPARATOR);
-
-        List<String> tokenList = new ArrayList<>();
-        for (String token : tokens) {
-            StringBuilder sb = new StringBuilder();
-            for (int j = 0; j < token.length(); j++) {
-                String c = token.substring(j, j + 1);
-                if (!c.equals(OperatorFactory.ofOperator(LeftParenthesis.class).getSymbol())
-                        && !c.equals(OperatorFactory.ofOperator(RightParenthesis.class).getSymbol())
-                        && !c.equals(OperatorFactory.ofOperator(ParamSeparator.class).getSymbol())) {
-                    sb.append(c);
-                } else {
-                    if (sb.length() > 0) {
-                        tokenList.add(sb.toString());
-                    }
-                    tokenList.add(c);
-                    sb = new StringBuilder();
-                }
-            }
-            if (sb.length() > 0) {
-                tokenList.add(sb.toString());
-            }
-        }
-        return tokenList;
+    final ValueExpressionParser getValueExpressionParser() {
+        return this.valueExpressionParser;
     }
 
     public final Map<String, String> getConstantsMap() {
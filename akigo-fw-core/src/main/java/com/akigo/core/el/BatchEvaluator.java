@@ -0,0 +1,360 @@
+/*
+ * BatchEvaluator.java
+ * Created on  2026/10/17 17:05
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.node.ValueExpressionNode;
+import com.akigo.core.el.value.ConstantValue;
+import com.akigo.core.exception.SystemException;
+import com.akigo.core.instrument.ExpressionListener;
+import com.akigo.core.instrument.Instrumentation;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * AGEL表現式の一括評価クラス<br>
+ * <pre>
+ * 一つの表現式を複数レコード（行）に対して評価し、評価結果を行順の配列で返却する。
+ * 表現式のクロージャー化、定数（$CONSTANTS.X$）の参照先のスロット番号への解決は生成時に一度だけ行う。
+ * 各行の評価は、分割単位ごとに一つの{@link AGELParser}の定数マップの参照先（行）を入れ替えながら行い、
+ * 行ごとに{@link AGELParser}、定数マップを生成しない。
+ *
+ * ・列形式：定数名 → 行ごとの値の配列。スロットごとの列の配列を一括評価ごとに取得し、行番号で参照する。
+ * ・行形式：レコードごとの定数マップのリスト。スロットごとの定数名で参照する。
+ *
+ * 並列評価を指定した場合、行を分割してFork/Join（{@link ForkJoinPool#commonPool()}）で評価する。
+ * ジョブ全体で変わらない定数は、事前に{@link CompiledExpression#bind(Map)}で束縛しておくこと。
+ * {@link Instrumentation}にリスナーを登録した場合、行ごとの評価を一回の評価として通知する。
+ *
+ * 使用例：
+ * {@code
+ *      BatchEvaluator evaluator = new BatchEvaluator(AGELParser.compile(expression).bind(jobConstantsMap));
+ *      String[] results = evaluator.evalColumns(columns, true);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class BatchEvaluator {
+
+    /**
+     * 並列評価時の分割単位（行数）
+     */
+    static final int PARALLEL_UNIT = 1024;
+
+    private final CompiledExpression expression;
+
+    /**
+     * スロット番号 → 表現式中で参照する定数名
+     */
+    private final String[] slotNames;
+
+    /**
+     * 定数をスロットに束縛し、クロージャー化した構文木
+     */
+    private final Node[] nodes;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param expression コンパイル済み表現式
+     */
+    public BatchEvaluator(CompiledExpression expression) {
+        this.expression = Objects.requireNonNull(expression);
+
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        this.nodes = ClosureCompiler.compile(bindSlots(expression.getSourceNodes(), slots));
+        this.slotNames = slots.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param expression 表現式
+     */
+    public BatchEvaluator(String expression) {
+        this(AGELParser.compile(expression));
+    }
+
+    /**
+     * 列形式の一括評価処理<br>
+     *
+     * @param columns 定数名 → 行ごとの値の配列（全ての配列は同じ長さであること）
+     * @return 行ごとの評価結果
+     */
+    public String[] evalColumns(Map<String, String[]> columns) {
+        return evalColumns(columns, false);
+    }
+
+    /**
+     * 列形式の一括評価処理<br>
+     *
+     * @param columns  定数名 → 行ごとの値の配列（全ての配列は同じ長さであること）
+     * @param parallel 並列評価する場合はtrue
+     * @return 行ごとの評価結果
+     */
+    public String[] evalColumns(Map<String, String[]> columns, boolean parallel) {
+        Objects.requireNonNull(columns);
+
+        int rowCount = getRowCount(columns);
+        String[][] slotColumns = new String[this.slotNames.length][];
+        for (int slot = 0; slot < this.slotNames.length; slot++) {
+            slotColumns[slot] = columns.get(this.slotNames[slot]);
+        }
+        String[] results = new String[rowCount];
+
+        evaluate(rowCount, parallel, results, () -> new ColumnRow(columns, slotColumns));
+
+        return results;
+    }
+
+    /**
+     * 行形式の一括評価処理<br>
+     *
+     * @param rows レコードごとの定数マップ
+     * @return 行ごとの評価結果
+     */
+    public String[] evalRows(List<? extends Map<String, String>> rows) {
+        return evalRows(rows, false);
+    }
+
+    /**
+     * 行形式の一括評価処理<br>
+     *
+     * @param rows     レコードごとの定数マップ
+     * @param parallel 並列評価する場合はtrue
+     * @return 行ごとの評価結果
+     */
+    public String[] evalRows(List<? extends Map<String, String>> rows, boolean parallel) {
+        Objects.requireNonNull(rows);
+
+        List<? extends Map<String, String>> records = rows instanceof RandomAccess ? rows : new ArrayList<>(rows);
+        String[] results = new String[records.size()];
+
+        evaluate(records.size(), parallel, results, () -> new RecordRow(records, this.slotNames));
+
+        return results;
+    }
+
+    private static int getRowCount(Map<String, String[]> columns) {
+        int rowCount = -1;
+        for (Map.Entry<String, String[]> column : columns.entrySet()) {
+            if (column.getValue() == null) {
+                throw new SystemException("Column:" + column.getKey() + "の値がnullです。");
+            }
+            if (rowCount < 0) {
+                rowCount = column.getValue().length;
+            } else if (rowCount != column.getValue().length) {
+                throw new SystemException("Column:" + column.getKey() + "の行数（" + column.getValue().length
+                        + "）が他の列の行数（" + rowCount + "）と一致しません。");
+            }
+        }
+        return Math.max(rowCount, 0);
+    }
+
+    private static Node[] bindSlots(Node[] nodes, Map<String, Integer> slots) {
+        Node[] bound = new Node[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            bound[i] = bindSlots(nodes[i], slots);
+        }
+        return bound;
+    }
+
+    private static Node bindSlots(Node node, Map<String, Integer> slots) {
+        if (node instanceof OperatorNode) {
+            OperatorNode operatorNode = (OperatorNode) node;
+            return new OperatorNode(operatorNode.getOperator(), bindSlots(operatorNode.getOperands(), slots));
+        }
+        if (node instanceof ValueExpressionNode
+                && ((ValueExpressionNode) node).getValueExpression() instanceof ConstantValue) {
+            String expression = ((ValueExpressionNode) node).getExpression();
+            Integer slotIndex = slots.get(ConstantValue.getConstantName(expression));
+            if (slotIndex == null) {
+                slotIndex = slots.size();
+                slots.put(ConstantValue.getConstantName(expression), slotIndex);
+            }
+            int slot = slotIndex;
+            return new ClosureNode(expression, context -> {
+                String value = ((BatchRow) context.getParser().getConstantsMap()).getSlot(slot);
+                // 表現式を含まない値はそのまま返却し、その以外（null、表現式を含む値）は定数として解析する
+                if (value != null && value.indexOf('$') < 0 && value.indexOf('#') < 0) {
+                    return value;
+                }
+                return node.eval(context);
+            });
+        }
+        return node;
+    }
+
+    private void evaluate(int rowCount, boolean parallel, String[] results, Supplier<BatchRow> rowFactory) {
+        ExpressionListener listener = Instrumentation.getListener();
+        RangeEvaluation evaluation = (from, to) -> {
+            // 分割単位ごとに一つの定数マップ、AGELParserを使い回し、参照先の行のみ入れ替える
+            BatchRow row = rowFactory.get();
+            AGELParser parser = new AGELParser(row);
+            ValueExpressionParser valueExpressionParser = parser.getValueExpressionParser();
+            for (int i = from; i < to; i++) {
+                row.rowIndex = i;
+                // 定数の解析結果は他の列の値に依存する場合があるため、行をまたいで再利用しない
+                valueExpressionParser.clearResolvedConstants();
+                EvaluationContext context = new EvaluationContext(parser, i, null, listener);
+                results[i] = listener == null
+                        ? this.expression.evaluate(this.nodes, context)
+                        : this.expression.evalInstrumented(listener, this.nodes, context);
+            }
+        };
+        if (parallel && rowCount > PARALLEL_UNIT) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(0, rowCount, evaluation));
+        } else {
+            evaluation.evaluate(0, rowCount);
+        }
+    }
+
+    /**
+     * 行範囲の評価処理
+     */
+    @FunctionalInterface
+    private interface RangeEvaluation {
+        void evaluate(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final transient RangeEvaluation evaluation;
+
+        private RangeTask(int from, int to, RangeEvaluation evaluation) {
+            this.from = from;
+            this.to = to;
+            this.evaluation = evaluation;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_UNIT) {
+                this.evaluation.evaluate(this.from, this.to);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeTask(this.from, middle, this.evaluation), new RangeTask(middle, this.to, this.evaluation));
+        }
+    }
+
+    /**
+     * 評価中の一行分を参照する定数マップ（参照先の行を入れ替えて使い回す、スレッド間で共有しない）<br>
+     */
+    private abstract static class BatchRow extends AbstractMap<String, String> {
+
+        int rowIndex;
+
+        /**
+         * スロットの値の取得処理<br>
+         *
+         * @param slot スロット番号
+         * @return 値
+         */
+        abstract String getSlot(int slot);
+    }
+
+    /**
+     * 列形式の定数の一行分を参照する定数マップ（列の配列はコピーしない）<br>
+     */
+    private static final class ColumnRow extends BatchRow {
+
+        private final Map<String, String[]> columns;
+
+        private final String[][] slotColumns;
+
+        private ColumnRow(Map<String, String[]> columns, String[][] slotColumns) {
+            this.columns = columns;
+            this.slotColumns = slotColumns;
+        }
+
+        @Override
+        String getSlot(int slot) {
+            String[] column = this.slotColumns[slot];
+            return column == null ? null : column[this.rowIndex];
+        }
+
+        @Override
+        public String get(Object key) {
+            String[] column = this.columns.get(key);
+            return column == null ? null : column[this.rowIndex];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.columns.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            Set<Entry<String, String>> entries = new LinkedHashSet<>();
+            for (Map.Entry<String, String[]> column : this.columns.entrySet()) {
+                entries.add(new SimpleImmutableEntry<>(column.getKey(), column.getValue()[this.rowIndex]));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * 行形式のレコードを参照する定数マップ<br>
+     */
+    private static final class RecordRow extends BatchRow {
+
+        private final List<? extends Map<String, String>> records;
+
+        private final String[] slotNames;
+
+        private RecordRow(List<? extends Map<String, String>> records, String[] slotNames) {
+            this.records = records;
+            this.slotNames = slotNames;
+        }
+
+        @Override
+        String getSlot(int slot) {
+            return this.records.get(this.rowIndex).get(this.slotNames[slot]);
+        }
+
+        @Override
+        public String get(Object key) {
+            return this.records.get(this.rowIndex).get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.records.get(this.rowIndex).containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return Collections.unmodifiableMap(this.records.get(this.rowIndex)).entrySet();
+        }
+    }
+}
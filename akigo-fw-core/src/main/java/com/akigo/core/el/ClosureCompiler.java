@@ -0,0 +1,61 @@
+/*
+ * ClosureCompiler.java
+ * Created on  2026/10/17 15:55
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.node.ValueExpressionNode;
+
+import java.util.function.Function;
+
+/**
+ * 構文木のクロージャー化クラス<br>
+ * <pre>
+ * 評価回数が閾値を超えた表現式の構文木を、事前解析済みの値を束縛したラムダ式の木に変換する。
+ * ・値表現式：{@link com.akigo.core.el.value.AbstractValueExpression#bind(String)}で事前解析する
+ * ・オペレーター：{@link com.akigo.core.el.operator.AbstractOperator#compileClosure(Node[])}に委譲する
+ *   （算術、論理、比較、三項演算子、関数は、オペランドを束縛した評価処理のラムダ式に置き換える）
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class ClosureCompiler {
+
+    private ClosureCompiler() {
+    }
+
+    /**
+     * クロージャー化処理<br>
+     *
+     * @param nodes 構文木
+     * @return クロージャー化した構文木
+     */
+    static Node[] compile(Node[] nodes) {
+        Node[] compiled = new Node[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            compiled[i] = compile(nodes[i]);
+        }
+        return compiled;
+    }
+
+    private static Node compile(Node node) {
+        if (node instanceof OperatorNode) {
+            OperatorNode operatorNode = (OperatorNode) node;
+            return operatorNode.getOperator().compileClosure(compile(operatorNode.getOperands()));
+        }
+        if (node instanceof ValueExpressionNode && ((ValueExpressionNode) node).getValueExpression() != null) {
+            ValueExpressionNode valueNode = (ValueExpressionNode) node;
+            Function<ValueExpressionParser, String> bound = valueNode.getValueExpression().bind(valueNode.getExpression());
+            return new ClosureNode(valueNode.getExpression(), context -> bound.apply(context.getValueExpressionParser()));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * CompiledExpression.java
+ * Created on  2026/10/17 10:40
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.instrument.ExpressionListener;
+import com.akigo.core.instrument.ExpressionTracer;
+import com.akigo.core.instrument.Instrumentation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * コンパイル済みAGEL表現式クラス<br>
+ * <pre>
+ * 表現式文字列を一度だけ解析した結果（#{}の外の文字列と、#{}内の構文木）を保持する。
+ * 不変オブジェクトなので、複数スレッドで共有して評価できる。
+ * 評価時は正規表現、トークン分割、操車場アルゴリズムのいずれも実行しない。
+ *
+ * 評価回数がシステムプロパティ"akigo.el.closureThreshold"（デフォルト：1000回、0以下の場合は無効）に
+ * 達した場合、構文木を{@link ClosureCompiler}でクロージャー化して、以降の評価に使用する。
+ *
+ * ジョブ全体で変わらない定数は{@link #bind(Map)}で束縛できる。束縛した定数のみに依存する部分は
+ * 畳み込まれ（三項演算子の不要な分岐も削除）、評価時はその以外の部分のみ評価する。
+ *
+ * {@link Instrumentation}にリスナーを登録した場合、評価ごとに評価時間、短絡評価で省略したオペランドを通知する。
+ * トレースする評価は、クロージャー化前の構文木で評価し、演算子ごとの評価値を通知する。
+ *
+ * 使用例：
+ * {@code
+ *      CompiledExpression compiled = AGELParser.compile("#{$CONSTANTS.C1$ == 1 ? a : b}");
+ *      String result = compiled.eval(constantsMap);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class CompiledExpression {
+
+    /**
+     * クロージャー化する評価回数の閾値
+     */
+    static final int CLOSURE_THRESHOLD = Integer.getInteger("akigo.el.closureThreshold", 1000);
+
+    private final String expression;
+
+    /**
+     * #{}の外の文字列（{@link #nodes}の前後）、値表現式の場合はnull
+     */
+    private final String[] texts;
+
+    /**
+     * #{}内の構文木、または値表現式全体の構文木（クロージャー化前）
+     */
+    private final Node[] sourceNodes;
+
+    /**
+     * 評価に使用する構文木
+     */
+    private volatile Node[] nodes;
+
+    private volatile boolean closureCompiled;
+
+    private final AtomicInteger evaluationCount = new AtomicInteger();
+
+    /**
+     * 直近に束縛した定数と束縛結果
+     */
+    private volatile Binding lastBinding;
+
+    /**
+     * コンストラクタ（値表現式用）<br>
+     *
+     * @param expression 表現式
+     * @param valueNode  値表現式の構文木
+     */
+    CompiledExpression(String expression, Node valueNode) {
+        this.expression = expression;
+        this.texts = null;
+        this.sourceNodes = new Node[]{valueNode};
+        this.nodes = this.sourceNodes;
+    }
+
+    /**
+     * コンストラクタ（AGEL表現式用）<br>
+     *
+     * @param expression 表現式
+     * @param texts      #{}の外の文字列（長さは{@code nodes.length + 1}）
+     * @param nodes      #{}内の構文木
+     */
+    CompiledExpression(String expression, String[] texts, Node[] nodes) {
+        this.expression = expression;
+        this.texts = texts;
+        this.sourceNodes = nodes;
+        this.nodes = nodes;
+    }
+
+    /**
+     * クロージャー化した表現式の生成処理<br>
+     *
+     * @return クロージャー化した表現式
+     */
+    CompiledExpression toClosure() {
+        CompiledExpression compiled = new CompiledExpression(this.expression, this.texts, ClosureCompiler.compile(this.sourceNodes));
+        compiled.closureCompiled = true;
+        return compiled;
+    }
+
+    /**
+     * 定数の束縛処理<br>
+     * <pre>
+     * ジョブ全体で変わらない定数を束縛し、束縛した定数のみに依存する部分を畳み込んだ表現式を返却する。
+     * 束縛結果は当該表現式に保持し、同じ定数マップ（同一インスタンス）で再度束縛した場合は再利用する。
+     * 束縛後の表現式を評価する際は、束縛していない定数を含む定数マップを指定すること。
+     *
+     * 使用例：
+     * {@code
+     *      CompiledExpression bound = AGELParser.compile(expression).bind(jobConstantsMap);
+     *      for (Map<String, String> record : records) {
+     *          String result = bound.eval(record);
+     *      }
+     * }
+     * </pre>
+     *
+     * @param constantsMap 束縛する定数マップ（束縛後に変更しないこと）
+     * @return 束縛後の表現式
+     */
+    public CompiledExpression bind(Map<String, String> constantsMap) {
+        Objects.requireNonNull(constantsMap);
+
+        Binding binding = this.lastBinding;
+        if (binding != null && binding.constantsMap == constantsMap) {
+            return binding.bound;
+        }
+
+        ValueExpressionParser constants = new AGELParser(constantsMap).getValueExpressionParser();
+        Node[] optimized = ExpressionOptimizer.optimize(this.sourceNodes, constants);
+        CompiledExpression bound = isLogicExpression()
+                ? new CompiledExpression(this.expression, this.texts, optimized)
+                : new CompiledExpression(this.expression, optimized[0]);
+
+        this.lastBinding = new Binding(constantsMap, bound);
+
+        return bound;
+    }
+
+    /**
+     * 評価処理<br>
+     *
+     * @param constantsMap 定数マップ
+     * @return 評価結果
+     */
+    public String eval(Map<String, String> constantsMap) {
+        return eval(new AGELParser(constantsMap));
+    }
+
+    /**
+     * 評価処理<br>
+     *
+     * @param parser 定数マップを保持する{@link AGELParser}
+     * @return 評価結果
+     */
+    public String eval(AGELParser parser) {
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            return evalInstrumented(listener, parser);
+        }
+
+        Node[] currentNodes = this.nodes;
+        if (!this.closureCompiled) {
+            countEvaluation();
+        }
+
+        return evaluate(currentNodes, new EvaluationContext(parser));
+    }
+
+    private String evalInstrumented(ExpressionListener listener, AGELParser parser) {
+        return evalInstrumented(listener, null, new EvaluationContext(parser, 0, null, listener));
+    }
+
+    /**
+     * 評価時間を通知する評価処理<br>
+     * トレースする場合は、{@code currentNodes}に関わらずクロージャー化前の構文木で評価する。<br>
+     *
+     * @param listener     リスナー
+     * @param currentNodes 評価する構文木、nullの場合は当該表現式の構文木（評価回数をカウントする）
+     * @param context      評価コンテキスト（トレーサーなし、{@code listener}を設定済み）
+     * @return 評価結果
+     */
+    String evalInstrumented(ExpressionListener listener, Node[] currentNodes, EvaluationContext context) {
+        ExpressionTracer tracer = listener.startTrace(ExpressionListener.Engine.AGEL, this.expression);
+        long start = System.nanoTime();
+        String result = null;
+        Throwable failure = null;
+        try {
+            if (tracer != null) {
+                result = evaluate(this.sourceNodes,
+                        new EvaluationContext(context.getParser(), context.getRowIndex(), tracer, listener));
+            } else if (currentNodes != null) {
+                result = evaluate(currentNodes, context);
+            } else {
+                Node[] nodes = this.nodes;
+                if (!this.closureCompiled) {
+                    countEvaluation();
+                }
+                result = evaluate(nodes, context);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            listener.onEvaluated(ExpressionListener.Engine.AGEL, this.expression, System.nanoTime() - start, failure);
+            if (tracer != null) {
+                tracer.finish(result, failure);
+            }
+        }
+    }
+
+    /**
+     * 構文木の評価処理<br>
+     *
+     * @param currentNodes 評価する構文木（{@link #sourceNodes}と同じ構造であること）
+     * @param context      評価コンテキスト
+     * @return 評価結果
+     */
+    String evaluate(Node[] currentNodes, EvaluationContext context) {
+        if (!isLogicExpression()) {
+            return (String) currentNodes[0].eval(context);
+        }
+
+        if (currentNodes.length == 1 && this.texts[0].isEmpty() && this.texts[1].isEmpty()) {
+            return evalNode(currentNodes[0], context);
+        }
+
+        StringBuilder sb = new StringBuilder(this.expression.length());
+        for (int i = 0; i < currentNodes.length; i++) {
+            sb.append(this.texts[i]).append(evalNode(currentNodes[i], context));
+        }
+        sb.append(this.texts[currentNodes.length]);
+
+        return sb.toString();
+    }
+
+    private void countEvaluation() {
+        // 閾値に達したスレッドのみクロージャー化する
+        if (CLOSURE_THRESHOLD > 0 && this.evaluationCount.incrementAndGet() == CLOSURE_THRESHOLD) {
+            this.nodes = ClosureCompiler.compile(this.sourceNodes);
+            this.closureCompiled = true;
+        }
+    }
+
+    private static String evalNode(Node node, EvaluationContext context) {
+        String result = AbstractOperator.getString(node.eval(context));
+        // 評価結果に表現式が含まれる場合、再度解析する
+        if (AGELParser.containsLogicExpression(result)) {
+            return context.getParser().eval(result);
+        }
+        return result;
+    }
+
+    /**
+     * #{}で囲んでいる表現式を含む場合はtrue、値表現式の場合はfalse<br>
+     *
+     * @return boolean
+     */
+    public boolean isLogicExpression() {
+        return this.texts != null;
+    }
+
+    /**
+     * クロージャー化済みの場合はtrue<br>
+     *
+     * @return boolean
+     */
+    public boolean isClosureCompiled() {
+        return this.closureCompiled;
+    }
+
+    /**
+     * 評価に使用する構文木の取得処理<br>
+     *
+     * @return 構文木
+     */
+    Node[] getNodes() {
+        return this.nodes.clone();
+    }
+
+    /**
+     * クロージャー化前の構文木の取得処理<br>
+     *
+     * @return 構文木
+     */
+    Node[] getSourceNodes() {
+        return this.sourceNodes.clone();
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+
+    private static final class Binding {
+
+        private final Map<String, String> constantsMap;
+
+        private final CompiledExpression bound;
+
+        private Binding(Map<String, String> constantsMap, CompiledExpression bound) {
+            this.constantsMap = constantsMap;
+            this.bound = bound;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * ConstantsGraph.java
+ * Created on  2026/10/17 18:20
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.value.ConstantValue;
+import com.akigo.core.el.value.ValueExpression;
+import com.akigo.core.exception.SystemException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 定数の依存関係グラフクラス<br>
+ * <pre>
+ * 定数マップの全ての定数を一度だけ解析し、定数の値に含まれる定数（$CONSTANTS.X$）への参照から依存関係を求める。
+ * 循環参照は生成時に検出して{@link SystemException}をスローする。
+ *
+ * 定数の解析結果は{@link ValueExpressionParser}の解析済み定数（ConcurrentHashMap）に保持し、
+ * {@link #getParser()}で取得する{@link AGELParser}の評価でも再利用する。
+ * {@link #resolveAll(boolean)}は依存関係の順（依存先が先）に評価し、同じ階層の定数は並列に評価できる。
+ *
+ * 不変オブジェクトなので、複数スレッドで共有できる。定数を変更する場合は{@link #withChanges(Map)}で
+ * 新しいグラフを生成する。変更した定数とその依存元のみ再評価し、その以外の定数の解析結果は引き継ぐ。
+ *
+ * 使用例：
+ * {@code
+ *      ConstantsGraph graph = new ConstantsGraph(ruleParameters);
+ *      graph.resolveAll(true);
+ *      String result = AGELParser.compile(expression).eval(graph.getParser());
+ *
+ *      ConstantsGraph swapped = graph.withChanges(changedParameters);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ConstantsGraph {
+
+    private static final Pattern CONSTANT_PATTERN = Pattern.compile(ConstantValue.class.getAnnotation(ValueExpression.class).regex());
+
+    private final Map<String, String> constantsMap;
+
+    /**
+     * 定数名 → 参照している定数名
+     */
+    private final Map<String, Set<String>> dependencies;
+
+    /**
+     * 定数名 → 当該定数を参照している定数名
+     */
+    private final Map<String, Set<String>> dependents;
+
+    /**
+     * 評価順の階層（各階層の定数は、前の階層までの定数のみに依存する）
+     */
+    private final List<List<String>> levels;
+
+    private final AGELParser parser;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param constantsMap 定数マップ（コピーして保持する）
+     */
+    public ConstantsGraph(Map<String, String> constantsMap) {
+        this(new HashMap<>(Objects.requireNonNull(constantsMap)), null, Collections.emptySet());
+    }
+
+    private ConstantsGraph(Map<String, String> constantsMap, ConstantsGraph previous, Set<String> changedNames) {
+        this.constantsMap = Collections.unmodifiableMap(constantsMap);
+        this.dependencies = new HashMap<>(constantsMap.size() * 2);
+        this.dependents = new HashMap<>(constantsMap.size() * 2);
+
+        constantsMap.forEach((name, value) -> this.dependencies.put(name, findDependencies(value)));
+        this.dependencies.forEach((name, references) -> references.forEach(
+                reference -> this.dependents.computeIfAbsent(reference, key -> new LinkedHashSet<>()).add(name)));
+
+        this.levels = sortLevels();
+        this.parser = new AGELParser(this.constantsMap);
+
+        if (previous != null) {
+            Set<String> affected = collectDependents(changedNames);
+            this.parser.getValueExpressionParser().inheritResolvedConstants(
+                    previous.parser.getValueExpressionParser(), name -> !affected.contains(name));
+        }
+    }
+
+    /**
+     * 定数を変更したグラフの生成処理<br>
+     * 変更した定数とその依存元（間接的な依存元を含む）のみ再評価の対象とする。<br>
+     *
+     * @param changes 変更する定数（値がnullの場合は削除）
+     * @return 変更後のグラフ
+     */
+    public ConstantsGraph withChanges(Map<String, String> changes) {
+        Map<String, String> changed = new HashMap<>(this.constantsMap);
+        Set<String> changedNames = new HashSet<>();
+        changes.forEach((name, value) -> {
+            boolean modified = value == null
+                    ? changed.remove(name) != null || this.constantsMap.containsKey(name)
+                    : !value.equals(changed.put(name, value));
+            if (modified) {
+                changedNames.add(name);
+            }
+        });
+        return new ConstantsGraph(changed, this, changedNames);
+    }
+
+    /**
+     * 定数の解析処理<br>
+     *
+     * @param constantName 定数名
+     * @return 解析後値
+     */
+    public String resolve(String constantName) {
+        if (!this.constantsMap.containsKey(constantName)) {
+            throw new SystemException("Constant:" + constantName + "が見つかりませんでした。");
+        }
+        return this.parser.getValueExpressionParser().resolveConstant(constantName);
+    }
+
+    /**
+     * 全ての定数の解析処理<br>
+     *
+     * @return 定数名 → 解析後値（評価順）
+     */
+    public Map<String, String> resolveAll() {
+        return resolveAll(false);
+    }
+
+    /**
+     * 全ての定数の解析処理<br>
+     * 依存先から順に評価する。並列評価する場合は、同じ階層の定数を並列に評価する。<br>
+     *
+     * @param parallel 並列評価する場合はtrue
+     * @return 定数名 → 解析後値（評価順）
+     */
+    public Map<String, String> resolveAll(boolean parallel) {
+        ValueExpressionParser valueExpressionParser = this.parser.getValueExpressionParser();
+        for (List<String> level : this.levels) {
+            if (parallel && level.size() > 1) {
+                level.parallelStream().forEach(valueExpressionParser::resolveConstant);
+            } else {
+                level.forEach(valueExpressionParser::resolveConstant);
+            }
+        }
+
+        Map<String, String> results = new LinkedHashMap<>(this.constantsMap.size() * 2);
+        for (String name : getEvaluationOrder()) {
+            results.put(name, valueExpressionParser.resolveConstant(name));
+        }
+        return results;
+    }
+
+    /**
+     * 解析済みの場合はtrue<br>
+     *
+     * @param constantName 定数名
+     * @return boolean
+     */
+    public boolean isResolved(String constantName) {
+        return this.parser.getValueExpressionParser().isResolved(constantName);
+    }
+
+    /**
+     * 当該グラフの解析結果を再利用する{@link AGELParser}の取得処理<br>
+     *
+     * @return {@link AGELParser}
+     */
+    public AGELParser getParser() {
+        return this.parser;
+    }
+
+    /**
+     * 参照している定数名の取得処理<br>
+     *
+     * @param constantName 定数名
+     * @return 参照している定数名
+     */
+    public Set<String> getDependencies(String constantName) {
+        Set<String> references = this.dependencies.get(constantName);
+        return references == null ? Collections.emptySet() : Collections.unmodifiableSet(references);
+    }
+
+    /**
+     * 評価順（依存先が先）の定数名の取得処理<br>
+     *
+     * @return 定数名のリスト
+     */
+    public List<String> getEvaluationOrder() {
+        List<String> order = new ArrayList<>(this.constantsMap.size());
+        this.levels.forEach(order::addAll);
+        return order;
+    }
+
+    public Map<String, String> getConstantsMap() {
+        return this.constantsMap;
+    }
+
+    private static Set<String> findDependencies(String value) {
+        if (value == null || value.indexOf('$') < 0) {
+            return Collections.emptySet();
+        }
+        Set<String> references = new LinkedHashSet<>();
+        Matcher matcher = CONSTANT_PATTERN.matcher(value);
+        while (matcher.find()) {
+            references.add(ConstantValue.getConstantName(matcher.group()));
+        }
+        return references;
+    }
+
+    private List<List<String>> sortLevels() {
+        // 定義されている依存先の数（未定義の定数は評価時にエラーとなるため、順序には影響しない）
+        Map<String, Integer> remaining = new HashMap<>(this.constantsMap.size() * 2);
+        List<String> roots = new ArrayList<>();
+        this.dependencies.forEach((name, references) -> {
+            int count = 0;
+            for (String reference : references) {
+                if (this.constantsMap.containsKey(reference)) {
+                    count++;
+                }
+            }
+            remaining.put(name, count);
+            if (count == 0) {
+                roots.add(name);
+            }
+        });
+
+        List<List<String>> sorted = new ArrayList<>();
+        int sortedCount = 0;
+        List<String> level = roots;
+        while (!level.isEmpty()) {
+            Collections.sort(level);
+            sorted.add(Collections.unmodifiableList(level));
+            sortedCount += level.size();
+
+            List<String> next = new ArrayList<>();
+            for (String name : level) {
+                for (String dependent : this.dependents.getOrDefault(name, Collections.emptySet())) {
+                    if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+            level = next;
+        }
+
+        if (sortedCount < this.constantsMap.size()) {
+            throw new SystemException("定数の循環参照が見つかりました：" + String.join(" -> ", findCycle(remaining)));
+        }
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private List<String> findCycle(Map<String, Integer> remaining) {
+        // 評価できなかった定数から依存先を辿り、再度現れた定数までを循環とする
+        String current = null;
+        for (Map.Entry<String, Integer> entry : remaining.entrySet()) {
+            if (entry.getValue() > 0 && (current == null || entry.getKey().compareTo(current) < 0)) {
+                current = entry.getKey();
+            }
+        }
+
+        List<String> path = new ArrayList<>();
+        Map<String, Integer> visited = new HashMap<>();
+        while (!visited.containsKey(current)) {
+            visited.put(current, path.size());
+            path.add(current);
+            for (String reference : this.dependencies.get(current)) {
+                if (remaining.getOrDefault(reference, 0) > 0) {
+                    current = reference;
+                    break;
+                }
+            }
+        }
+
+        List<String> cycle = new ArrayList<>(path.subList(visited.get(current), path.size()));
+        cycle.add(current);
+        return cycle;
+    }
+
+    private Set<String> collectDependents(Set<String> changedNames) {
+        Set<String> affected = new HashSet<>(changedNames);
+        Deque<String> queue = new ArrayDeque<>(changedNames);
+        while (!queue.isEmpty()) {
+            for (String dependent : this.dependents.getOrDefault(queue.poll(), Collections.emptySet())) {
+                if (affected.add(dependent)) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        return affected;
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * EvaluationContext.java
+ * Created on  2026/10/17 10:32
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.instrument.ExpressionListener;
+import com.akigo.core.instrument.ExpressionTracer;
+
+import java.math.BigDecimal;
+
+/**
+ * AGEL表現式の評価コンテキストクラス<br>
+ * <pre>
+ * コンパイル済み表現式{@link CompiledExpression}の評価ごとに生成し、
+ * 評価中の構文木ノードに定数などの評価情報を提供する。
+ *
+ * 数値レジスタ：
+ * 数値を要求するオペレーター（四則演算、大小比較など）は、オペランドの評価結果を
+ * 文字列に変換せず、当該コンテキストの数値レジスタ（long型の整数値とスケール、またはBigDecimal型）で受け取る。
+ * 小数点以下18桁までの10進数は整数値とスケールで保持し、BigDecimalを生成しない。
+ * 文字列への変換は、最終結果または文字列を要求するオペレーターのみで行う。
+ * 評価ごとに生成するため、スレッド間で共有しないこと。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public class EvaluationContext {
+
+    private final AGELParser parser;
+
+    /**
+     * 一括評価時の評価対象行番号
+     */
+    private final int rowIndex;
+
+    /**
+     * 演算子ごとの評価値のトレーサー（トレースしない場合はnull）
+     */
+    private final ExpressionTracer tracer;
+
+    /**
+     * 計測リスナー（計測しない場合はnull）
+     */
+    private final ExpressionListener listener;
+
+    private boolean longNumber;
+
+    /**
+     * long型の値（スケールが0以外の場合は整数値）
+     */
+    private long longValue;
+
+    /**
+     * long型の値のスケール
+     */
+    private int scale;
+
+    private BigDecimal decimalValue;
+
+    /**
+     * 数値レジスタの値の文字列表現（リテラルなど元の文字列がある場合のみ）
+     */
+    private String numberText;
+
+    public EvaluationContext(AGELParser parser) {
+        this(parser, 0);
+    }
+
+    /**
+     * コンストラクタ（一括評価用）<br>
+     *
+     * @param parser   定数マップを保持する{@link AGELParser}
+     * @param rowIndex 評価対象行番号
+     */
+    public EvaluationContext(AGELParser parser, int rowIndex) {
+        this(parser, rowIndex, null);
+    }
+
+    /**
+     * コンストラクタ（トレース用）<br>
+     *
+     * @param parser   定数マップを保持する{@link AGELParser}
+     * @param rowIndex 評価対象行番号
+     * @param tracer   演算子ごとの評価値のトレーサー、null可
+     */
+    public EvaluationContext(AGELParser parser, int rowIndex, ExpressionTracer tracer) {
+        this(parser, rowIndex, tracer, null);
+    }
+
+    /**
+     * コンストラクタ（計測用）<br>
+     *
+     * @param parser   定数マップを保持する{@link AGELParser}
+     * @param rowIndex 評価対象行番号
+     * @param tracer   演算子ごとの評価値のトレーサー、null可
+     * @param listener 評価を省略したオペランドを通知するリスナー、null可
+     */
+    public EvaluationContext(AGELParser parser, int rowIndex, ExpressionTracer tracer, ExpressionListener listener) {
+        this.parser = parser;
+        this.rowIndex = rowIndex;
+        this.tracer = tracer;
+        this.listener = listener;
+    }
+
+    public final AGELParser getParser() {
+        return this.parser;
+    }
+
+    /**
+     * 評価対象行番号の取得処理<br>
+     * {@link BatchEvaluator}以外で評価する場合は0を返却する。<br>
+     *
+     * @return 評価対象行番号
+     */
+    public final int getRowIndex() {
+        return this.rowIndex;
+    }
+
+    /**
+     * トレーサーの取得処理<br>
+     *
+     * @return トレーサー、トレースしない場合はnull
+     */
+    public final ExpressionTracer getTracer() {
+        return this.tracer;
+    }
+
+    /**
+     * 評価を省略したオペランドの通知処理<br>
+     * 計測しない場合は何もしない。<br>
+     *
+     * @param operator 評価を省略したオペレーターの符号
+     */
+    public final void notifySkipped(String operator) {
+        if (this.listener != null) {
+            this.listener.onSkipped(ExpressionListener.Engine.AGEL, operator);
+        }
+    }
+
+    public final ValueExpressionParser getValueExpressionParser() {
+        return this.parser.getValueExpressionParser();
+    }
+
+    /**
+     * 数値レジスタにlong型の値を設定する<br>
+     *
+     * @param value 値
+     */
+    public final void setNumber(long value) {
+        setNumber(value, null);
+    }
+
+    /**
+     * 数値レジスタにlong型の値を設定する<br>
+     *
+     * @param value 値
+     * @param text  値の元の文字列、null可
+     */
+    public final void setNumber(long value, String text) {
+        setNumber(value, 0, text);
+    }
+
+    /**
+     * 数値レジスタに整数値とスケールで表した値を設定する<br>
+     *
+     * @param unscaledValue 整数値
+     * @param scale         スケール（0～{@link NumberLiterals#MAX_SCALE}）
+     */
+    public final void setNumber(long unscaledValue, int scale) {
+        setNumber(unscaledValue, scale, null);
+    }
+
+    /**
+     * 数値レジスタに整数値とスケールで表した値を設定する<br>
+     *
+     * @param unscaledValue 整数値
+     * @param scale         スケール（0～{@link NumberLiterals#MAX_SCALE}）
+     * @param text          値の元の文字列、null可
+     */
+    public final void setNumber(long unscaledValue, int scale, String text) {
+        this.longNumber = true;
+        this.longValue = unscaledValue;
+        this.scale = scale;
+        this.decimalValue = null;
+        this.numberText = text;
+    }
+
+    /**
+     * 数値レジスタにBigDecimal型の値を設定する<br>
+     *
+     * @param value 値
+     */
+    public final void setNumber(BigDecimal value) {
+        setNumber(value, null);
+    }
+
+    /**
+     * 数値レジスタにBigDecimal型の値を設定する<br>
+     *
+     * @param value 値
+     * @param text  値の元の文字列、null可
+     */
+    public final void setNumber(BigDecimal value, String text) {
+        this.longNumber = false;
+        this.longValue = 0L;
+        this.scale = 0;
+        this.decimalValue = value;
+        this.numberText = text;
+    }
+
+    /**
+     * 評価結果を数値レジスタに設定する<br>
+     * 数値に変換できない場合はfalseを返却し、{@link #getNumberText()}で評価結果の文字列を取得できる。<br>
+     *
+     * @param value 評価結果
+     * @return 数値の場合はtrue、その以外場合はfalse
+     */
+    public final boolean loadNumber(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            setNumber(((Number) value).longValue());
+            return true;
+        }
+        if (value instanceof BigDecimal) {
+            setNumber((BigDecimal) value);
+            return true;
+        }
+
+        String text = AbstractOperator.getString(value);
+        switch (NumberLiterals.kindOf(text)) {
+            case NumberLiterals.LONG:
+                setNumber(Long.parseLong(text), text);
+                return true;
+            case NumberLiterals.DECIMAL:
+                int textScale = NumberLiterals.scaleOf(text);
+                if (textScale >= 0) {
+                    setNumber(NumberLiterals.unscaledValueOf(text), textScale, text);
+                } else {
+                    setNumber(new BigDecimal(text), text);
+                }
+                return true;
+            default:
+                this.longNumber = false;
+                this.decimalValue = null;
+                this.numberText = text;
+                return false;
+        }
+    }
+
+    /**
+     * 数値レジスタの値がlong型の整数（スケールが0）の場合はtrue<br>
+     *
+     * @return boolean
+     */
+    public final boolean isLongNumber() {
+        return this.longNumber && this.scale == 0;
+    }
+
+    /**
+     * 数値レジスタの値が整数値とスケールで表されている場合はtrue<br>
+     * {@link #getLongNumber()}、{@link #getScale()}で値を取得できる。<br>
+     *
+     * @return boolean
+     */
+    public final boolean isScaledLongNumber() {
+        return this.longNumber;
+    }
+
+    /**
+     * 数値レジスタのlong型の値の取得処理<br>
+     *
+     * @return long型の値（スケールが0以外の場合は整数値）
+     */
+    public final long getLongNumber() {
+        return this.longValue;
+    }
+
+    public final int getScale() {
+        return this.scale;
+    }
+
+    public final BigDecimal getDecimalNumber() {
+        return this.longNumber ? BigDecimal.valueOf(this.longValue, this.scale) : this.decimalValue;
+    }
+
+    public final double getDoubleNumber() {
+        if (!this.longNumber) {
+            return this.decimalValue.doubleValue();
+        }
+        if (this.scale == 0) {
+            return (double) this.longValue;
+        }
+        // 2の53乗未満の整数値はdoubleで正確に表せるため、一回の割算で正しく丸めた値になる
+        if (Math.abs(this.longValue) < (1L << 53)) {
+            return this.longValue / Math.pow(10, this.scale);
+        }
+        return BigDecimal.valueOf(this.longValue, this.scale).doubleValue();
+    }
+
+    /**
+     * 数値レジスタの値の元の文字列の取得処理<br>
+     * {@link #getNumberText()}と異なり、元の文字列がない場合は文字列に変換せずnullを返却する。<br>
+     *
+     * @return 元の文字列、ない場合はnull
+     */
+    public final String getOriginalNumberText() {
+        return this.numberText;
+    }
+
+    /**
+     * 数値レジスタの値の文字列表現の取得処理<br>
+     * 元の文字列がある場合はそのまま、その以外場合は{@link BigDecimal#toPlainString()}と同じ形式で返却する。<br>
+     * 直前の{@link #loadNumber(Object)}が数値以外の場合は、評価結果の文字列を返却する。<br>
+     *
+     * @return 文字列表現
+     */
+    public final String getNumberText() {
+        if (this.numberText != null) {
+            return this.numberText;
+        }
+        return this.longNumber ? NumberLiterals.toPlainString(this.longValue, this.scale) : this.decimalValue.toPlainString();
+    }
+}
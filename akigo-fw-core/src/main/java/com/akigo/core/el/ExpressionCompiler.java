@@ -0,0 +1,150 @@
+/*
+ * ExpressionCompiler.java
+ * Created on  2026/10/17 10:48
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.ValueExpressionNode;
+import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.operator.OperatorFactory;
+import com.akigo.core.el.operator.OperatorSymbol;
+import com.akigo.core.el.value.AbstractValueExpression;
+import com.akigo.core.el.value.ValueExpressionScanner;
+import com.akigo.core.exception.SystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+import java.util.regex.Matcher;
+
+/**
+ * AGEL表現式のコンパイラークラス<br>
+ * <pre>
+ * 表現式文字列を解析して{@link CompiledExpression}を生成する。
+ * #{}内の表現式は、操車場アルゴリズムで構文木{@link Node}に変換する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class ExpressionCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionCompiler.class);
+
+    private ExpressionCompiler() {
+    }
+
+    /**
+     * コンパイル処理<br>
+     *
+     * @param expression 表現式
+     * @return コンパイル済み表現式
+     */
+    static CompiledExpression compile(String expression) {
+        LOGGER.debug("{} のコンパイル開始", expression);
+
+        Matcher m = AGELParser.EXPRESSION_PATTERN.matcher(expression);
+        if (!m.find()) {
+            return new CompiledExpression(expression, compileValue(expression));
+        }
+
+        List<String> texts = new ArrayList<>();
+        List<Node> nodes = new ArrayList<>();
+        int lastEnd = 0;
+        do {
+            texts.add(expression.substring(lastEnd, m.start()));
+            nodes.add(compileAGEL(expression, m.start(), m.end()));
+            lastEnd = m.end();
+        } while (m.find());
+        texts.add(expression.substring(lastEnd));
+
+        return new CompiledExpression(expression, texts.toArray(new String[0]), nodes.toArray(new Node[0]));
+    }
+
+    /**
+     * 値（オペレーター以外のトークン）のコンパイル処理<br>
+     *
+     * @param value 値
+     * @return 値のノード
+     */
+    static Node compileValue(String value) {
+        if (AGELParser.containsLogicExpression(value)) {
+            return new ValueExpressionNode(value, null);
+        }
+        ValueExpressionScanner scanner = ValueExpressionScanner.getInstance();
+        AbstractValueExpression valueExpression = scanner.matchWhole(value);
+        if (valueExpression != null) {
+            return new ValueExpressionNode(value, valueExpression);
+        }
+        if (scanner.contains(value)) {
+            return new ValueExpressionNode(value, null);
+        }
+        return new LiteralNode(value);
+    }
+
+    private static Node compileAGEL(String expression, int start, int end) {
+        // "#{"と"}"を除いた部分を字句解析する
+        List<Token> tokens = ExpressionLexer.tokenize(expression, start + 2, end - 1);
+
+        Stack<AbstractOperator> opStack = new Stack<>();
+        Stack<Object> valStack = new Stack<>();
+
+        AbstractOperator paramSeparator = OperatorFactory.ofOperator(OperatorSymbol.PARAM_SEPARATOR);
+        AbstractOperator leftParenthesis = OperatorFactory.ofOperator(OperatorSymbol.LEFT_PARENTHESIS);
+
+        for (Token token : tokens) {
+            switch (token.getType()) {
+                case OPERATOR:
+                    AbstractOperator op = OperatorFactory.ofOperator(token.getSymbol());
+                    if (token.getSymbol() == OperatorSymbol.RIGHT_PARENTHESIS) {
+                        op.accept(opStack, valStack);
+                    } else {
+                        pushOperator(op, opStack, valStack, paramSeparator, leftParenthesis);
+                    }
+                    break;
+                case FUNCTION:
+                    pushOperator(token.getFunction(), opStack, valStack, paramSeparator, leftParenthesis);
+                    break;
+                case VALUE_EXPRESSION:
+                    valStack.push(compileValue(token.getText()));
+                    break;
+                default:
+                    valStack.push(new LiteralNode(token.getText()));
+                    break;
+            }
+        }
+
+        while (!opStack.isEmpty()) {
+            opStack.pop().accept(opStack, valStack);
+        }
+
+        if (!(valStack.peek() instanceof Node)) {
+            throw new SystemException(expression + "の解析に失敗しました。（パラメーター分割符号の位置を確認してください）");
+        }
+        Node node = ExpressionOptimizer.optimize((Node) valStack.peek(), null);
+
+        LOGGER.debug("{} のコンパイル結果 = {}", expression, node);
+
+        return node;
+    }
+
+    private static void pushOperator(AbstractOperator op, Stack<AbstractOperator> opStack, Stack<Object> valStack,
+                                     AbstractOperator paramSeparator, AbstractOperator leftParenthesis) {
+        while (!opStack.isEmpty()
+                && op.getPriority() <= opStack.peek().getPriority()
+                && !opStack.peek().equals(paramSeparator)
+                && !opStack.peek().equals(leftParenthesis)) {
+            AbstractOperator peekOp = opStack.pop();
+            peekOp.accept(opStack, valStack);
+        }
+        opStack.push(op);
+    }
+}
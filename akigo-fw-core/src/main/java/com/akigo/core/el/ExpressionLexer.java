@@ -0,0 +1,118 @@
+/*
+ * ExpressionLexer.java
+ * Created on  2026/10/17 12:03
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.operator.OperatorSymbol;
+import com.akigo.core.el.operator.function.FunctionRegistry;
+import com.akigo.core.el.operator.function.UserDefinedFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AGEL表現式の字句解析クラス<br>
+ * <pre>
+ * 表現式を一回だけ走査してトークン列に分割する。
+ * ・タブ、改行、スペースはトークンの区切り
+ * ・"("、")"、","は単語の途中でも単独のトークン
+ * ・その以外の単語は、オペレーター符号と完全一致する場合のみオペレーター
+ * ・登録済みのユーザー定義関数名と完全一致する単語は関数
+ * ・"$"または"#"を含む単語は値表現式、数値形式の単語は数値リテラル、その以外は文字列リテラル
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class ExpressionLexer {
+
+    private ExpressionLexer() {
+    }
+
+    /**
+     * 字句解析処理<br>
+     *
+     * @param expression 表現式
+     * @param start      解析開始位置（含む）
+     * @param end        解析終了位置（含まない）
+     * @return トークン列
+     */
+    static List<Token> tokenize(CharSequence expression, int start, int end) {
+        List<Token> tokens = new ArrayList<>();
+
+        int wordStart = -1;
+        for (int i = start; i < end; i++) {
+            char c = expression.charAt(i);
+            switch (c) {
+                case '\t':
+                case '\r':
+                case '\n':
+                case ' ':
+                    if (wordStart >= 0) {
+                        tokens.add(word(expression, wordStart, i));
+                        wordStart = -1;
+                    }
+                    break;
+                case '(':
+                case ')':
+                case ',':
+                    if (wordStart >= 0) {
+                        tokens.add(word(expression, wordStart, i));
+                        wordStart = -1;
+                    }
+                    tokens.add(Token.operator(delimiter(c)));
+                    break;
+                default:
+                    if (wordStart < 0) {
+                        wordStart = i;
+                    }
+                    break;
+            }
+        }
+        if (wordStart >= 0) {
+            tokens.add(word(expression, wordStart, end));
+        }
+
+        return tokens;
+    }
+
+    private static OperatorSymbol delimiter(char c) {
+        switch (c) {
+            case '(':
+                return OperatorSymbol.LEFT_PARENTHESIS;
+            case ')':
+                return OperatorSymbol.RIGHT_PARENTHESIS;
+            default:
+                return OperatorSymbol.PARAM_SEPARATOR;
+        }
+    }
+
+    private static Token word(CharSequence expression, int start, int end) {
+        OperatorSymbol symbol = OperatorSymbol.match(expression, start, end);
+        if (symbol != null) {
+            return Token.operator(symbol);
+        }
+
+        String text = expression.subSequence(start, end).toString();
+        UserDefinedFunction function = FunctionRegistry.lookup(text);
+        if (function != null) {
+            return Token.function(function);
+        }
+
+        TokenType type = NumberLiterals.kindOf(expression, start, end) != NumberLiterals.NOT_NUMBER
+                ? TokenType.NUMBER : TokenType.STRING;
+        for (int i = start; i < end; i++) {
+            char c = expression.charAt(i);
+            if (c == '$' || c == '#') {
+                type = TokenType.VALUE_EXPRESSION;
+                break;
+            }
+        }
+        return Token.value(type, text);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * ExpressionOptimizer.java
+ * Created on  2026/10/17 16:30
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.node.ValueExpressionNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 構文木の最適化クラス<br>
+ * <pre>
+ * 構文木を葉から順に辿り、値が確定する部分木をリテラルに畳み込む。
+ * ・値表現式：束縛した定数で解析できる場合はリテラルに置き換える
+ * ・オペレーター：{@link com.akigo.core.el.operator.AbstractOperator#optimize(Node[])}に委譲する
+ *   （全てのオペランドがリテラルの場合は評価結果に畳み込み、三項演算子は判定式が確定した場合に
+ *   選択されない分岐を削除する）
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class ExpressionOptimizer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionOptimizer.class);
+
+    private ExpressionOptimizer() {
+    }
+
+    /**
+     * 最適化処理<br>
+     *
+     * @param nodes     構文木
+     * @param constants 束縛した定数の解析用{@link ValueExpressionParser}、定数を束縛しない場合はnull
+     * @return 最適化した構文木
+     */
+    static Node[] optimize(Node[] nodes, ValueExpressionParser constants) {
+        Node[] optimized = new Node[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            optimized[i] = optimize(nodes[i], constants);
+        }
+        return optimized;
+    }
+
+    /**
+     * 最適化処理<br>
+     *
+     * @param node      構文木
+     * @param constants 束縛した定数の解析用{@link ValueExpressionParser}、定数を束縛しない場合はnull
+     * @return 最適化した構文木
+     */
+    static Node optimize(Node node, ValueExpressionParser constants) {
+        if (node instanceof OperatorNode) {
+            OperatorNode operatorNode = (OperatorNode) node;
+            Node[] operands = optimize(operatorNode.getOperands(), constants);
+            return operatorNode.getOperator().optimize(operands);
+        }
+        if (node instanceof ValueExpressionNode && constants != null) {
+            return bindConstant((ValueExpressionNode) node, constants);
+        }
+        return node;
+    }
+
+    private static Node bindConstant(ValueExpressionNode node, ValueExpressionParser constants) {
+        String value;
+        try {
+            value = node.getValueExpression() != null
+                    ? node.getValueExpression().eval(node.getExpression(), constants)
+                    : constants.parseValue(node.getExpression());
+        } catch (RuntimeException e) {
+            // 束縛していない定数を参照する場合、定数の評価でエラーとなる場合は、評価時に解析する（評価時に同じエラーとなる）
+            LOGGER.debug("{} は束縛できません。（{}）", node.getExpression(), e.getMessage());
+            return node;
+        }
+        return value == null ? node : new LiteralNode(value);
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * MemoizingEvaluator.java
+ * Created on  2026/10/17 23:50
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.node.ValueExpressionNode;
+import com.akigo.core.el.operator.function.UserDefinedFunction;
+import com.akigo.core.el.value.ConstantValue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AGEL表現式のメモ化評価クラス<br>
+ * <pre>
+ * 同じ入力値（表現式が参照する定数の値の組）の評価結果をキャッシュし、再評価しない。
+ * 同じ値の組を持つレコードが多い場合（商品コードと地域が同じなど）に使用する。
+ *
+ * キャッシュのキーは、表現式が参照する定数（$CONSTANTS.X$）の値の組とし、各値のハッシュ値を組み合わせた
+ * フィンガープリントで検索する（衝突時は値を比較する）。
+ * キャッシュは最大件数と最大重み（キーの値と評価結果の文字数の合計）で上限を設け、
+ * 上限を超えた場合は最も長く参照されていないエントリから破棄する（LRU）。
+ * 複数スレッドから評価できるよう、フィンガープリントで分割したセグメントごとにロックする。
+ *
+ * 以下の場合はメモ化せず、毎回評価する。
+ * ・純粋関数以外の関数（{@link com.akigo.core.el.operator.function.FunctionDefinition#isPure()}がfalse）を含む表現式
+ * ・定数（$CONSTANTS.X$）以外の値表現式、または定数を含む文字列（例：abc$CONSTANTS.X$）を含む表現式
+ * ・参照する定数が存在しない、または定数の値に表現式（$、#を含む値）が含まれる評価（{@link #getBypassCount()}）
+ *
+ * 使用例：
+ * {@code
+ *      MemoizingEvaluator evaluator = new MemoizingEvaluator(AGELParser.compile(expression).bind(jobConstantsMap));
+ *      for (Map<String, String> record : records) {
+ *          String result = evaluator.eval(record);
+ *      }
+ *      LOGGER.info("hit rate: {}", evaluator.getHitRate());
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class MemoizingEvaluator {
+
+    /**
+     * デフォルトの最大件数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * デフォルトの最大重み（文字数）
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 4L * 1024 * 1024;
+
+    /**
+     * エントリごとの重み（文字数）の加算値
+     */
+    private static final int ENTRY_OVERHEAD = 16;
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final CompiledExpression expression;
+
+    /**
+     * 表現式が参照する定数名、メモ化しない場合はnull
+     */
+    private final String[] constantNames;
+
+    private final Segment[] segments;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder bypassCount = new LongAdder();
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param expression コンパイル済み表現式
+     */
+    public MemoizingEvaluator(CompiledExpression expression) {
+        this(expression, DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param expression 表現式
+     */
+    public MemoizingEvaluator(String expression) {
+        this(AGELParser.compile(expression));
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param expression    コンパイル済み表現式
+     * @param maximumSize   最大件数
+     * @param maximumWeight 最大重み（キーの値と評価結果の文字数の合計、エントリごとに16を加算）
+     */
+    public MemoizingEvaluator(CompiledExpression expression, int maximumSize, long maximumWeight) {
+        if (maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException("maximumSize: " + maximumSize + ", maximumWeight: " + maximumWeight);
+        }
+        this.expression = Objects.requireNonNull(expression);
+        this.constantNames = collectConstantNames(expression.getSourceNodes());
+
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(maximumSize / segmentCount, maximumWeight / segmentCount);
+        }
+    }
+
+    /**
+     * 評価処理<br>
+     * {@link AGELParser}は、メモ化しない場合、またはキャッシュに存在しない場合のみ生成する。<br>
+     *
+     * @param constantsMap 定数マップ
+     * @return 評価結果
+     */
+    public String eval(Map<String, String> constantsMap) {
+        return eval(constantsMap, null);
+    }
+
+    /**
+     * 評価処理<br>
+     *
+     * @param parser 定数マップを保持する{@link AGELParser}
+     * @return 評価結果
+     */
+    public String eval(AGELParser parser) {
+        return eval(parser.getConstantsMap(), parser);
+    }
+
+    private String eval(Map<String, String> constantsMap, AGELParser parser) {
+        Key key = this.constantNames == null ? null : createKey(constantsMap);
+        if (key == null) {
+            this.bypassCount.increment();
+            return evaluate(constantsMap, parser);
+        }
+
+        Segment segment = this.segments[key.hash & (this.segments.length - 1)];
+        String result = segment.get(key);
+        if (result != null) {
+            this.hitCount.increment();
+            return result;
+        }
+
+        this.missCount.increment();
+        result = evaluate(constantsMap, parser);
+        if (result != null) {
+            segment.put(key, result);
+        }
+        return result;
+    }
+
+    private String evaluate(Map<String, String> constantsMap, AGELParser parser) {
+        return parser != null ? this.expression.eval(parser) : this.expression.eval(constantsMap);
+    }
+
+    /**
+     * キャッシュのキーの生成処理<br>
+     *
+     * @param constantsMap 定数マップ
+     * @return キー、メモ化できない場合はnull
+     */
+    private Key createKey(Map<String, String> constantsMap) {
+        if (constantsMap == null) {
+            return this.constantNames.length == 0 ? new Key(new String[0]) : null;
+        }
+        String[] values = new String[this.constantNames.length];
+        for (int i = 0; i < values.length; i++) {
+            String value = constantsMap.get(this.constantNames[i]);
+            // 存在しない定数、または表現式を含む値（他の定数を参照する可能性がある）はメモ化しない
+            if (value == null || value.indexOf('$') >= 0 || value.indexOf('#') >= 0) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return new Key(values);
+    }
+
+    /**
+     * 表現式が参照する定数名の取得処理<br>
+     *
+     * @param nodes 構文木
+     * @return 定数名（出現順）、メモ化できない場合はnull
+     */
+    private static String[] collectConstantNames(Node[] nodes) {
+        Set<String> constantNames = new LinkedHashSet<>();
+        for (Node node : nodes) {
+            if (!collectConstantNames(node, constantNames)) {
+                return null;
+            }
+        }
+        return constantNames.toArray(new String[0]);
+    }
+
+    private static boolean collectConstantNames(Node node, Set<String> constantNames) {
+        if (node instanceof OperatorNode) {
+            OperatorNode operatorNode = (OperatorNode) node;
+            if (operatorNode.getOperator() instanceof UserDefinedFunction
+                    && !((UserDefinedFunction) operatorNode.getOperator()).getDefinition().isPure()) {
+                return false;
+            }
+            for (Node operand : operatorNode.getOperands()) {
+                if (!collectConstantNames(operand, constantNames)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (node instanceof ValueExpressionNode) {
+            ValueExpressionNode valueNode = (ValueExpressionNode) node;
+            if (!(valueNode.getValueExpression() instanceof ConstantValue)) {
+                return false;
+            }
+            constantNames.add(ConstantValue.getConstantName(valueNode.getExpression()));
+        }
+        return true;
+    }
+
+    /**
+     * メモ化する場合はtrue（純粋関数と定数のみで構成された表現式の場合）<br>
+     *
+     * @return boolean
+     */
+    public boolean isMemoizable() {
+        return this.constantNames != null;
+    }
+
+    public CompiledExpression getExpression() {
+        return this.expression;
+    }
+
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * メモ化せずに評価した回数の取得処理<br>
+     *
+     * @return 回数
+     */
+    public long getBypassCount() {
+        return this.bypassCount.sum();
+    }
+
+    /**
+     * ヒット率の取得処理<br>
+     *
+     * @return ヒット回数 / （ヒット回数 + ミス回数）、評価していない場合は0
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0d : (double) hits / total;
+    }
+
+    public long getEvictionCount() {
+        long count = 0;
+        for (Segment segment : this.segments) {
+            count += segment.getEvictionCount();
+        }
+        return count;
+    }
+
+    /**
+     * キャッシュ件数の取得処理<br>
+     *
+     * @return 件数
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * キャッシュの重みの取得処理<br>
+     *
+     * @return 重み（文字数）
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : this.segments) {
+            weight += segment.getWeight();
+        }
+        return weight;
+    }
+
+    /**
+     * キャッシュのクリア処理<br>
+     */
+    public void clear() {
+        for (Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * キャッシュのキー（定数の値の組）<br>
+     */
+    private static final class Key {
+
+        private final String[] values;
+
+        /**
+         * フィンガープリント
+         */
+        private final int hash;
+
+        private Key(String[] values) {
+            this.values = values;
+            int h = 1;
+            for (String value : values) {
+                h = 31 * h + value.hashCode();
+            }
+            // セグメントの選択に下位ビットを使用するため、上位ビットを混ぜる
+            this.hash = h ^ (h >>> 16);
+        }
+
+        private int weight() {
+            int weight = ENTRY_OVERHEAD;
+            for (String value : this.values) {
+                weight += value.length();
+            }
+            return weight;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && this.hash == ((Key) obj).hash && Arrays.equals(this.values, ((Key) obj).values);
+        }
+    }
+
+    /**
+     * LRUのセグメント<br>
+     */
+    private static final class Segment {
+
+        private final int maximumSize;
+
+        private final long maximumWeight;
+
+        private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private long weight;
+
+        private long evictionCount;
+
+        private Segment(int maximumSize, long maximumWeight) {
+            this.maximumSize = Math.max(maximumSize, 1);
+            this.maximumWeight = Math.max(maximumWeight, 1L);
+        }
+
+        private synchronized String get(Key key) {
+            return this.entries.get(key);
+        }
+
+        private synchronized void put(Key key, String result) {
+            long entryWeight = key.weight() + result.length();
+            if (entryWeight > this.maximumWeight) {
+                return;
+            }
+            String previous = this.entries.put(key, result);
+            if (previous != null) {
+                this.weight -= key.weight() + previous.length();
+            }
+            this.weight += entryWeight;
+
+            Iterator<Map.Entry<Key, String>> eldest = this.entries.entrySet().iterator();
+            while (this.entries.size() > this.maximumSize || this.weight > this.maximumWeight) {
+                Map.Entry<Key, String> entry = eldest.next();
+                this.weight -= entry.getKey().weight() + entry.getValue().length();
+                eldest.remove();
+                this.evictionCount++;
+            }
+        }
+
+        private synchronized int size() {
+            return this.entries.size();
+        }
+
+        private synchronized long getWeight() {
+            return this.weight;
+        }
+
+        private synchronized long getEvictionCount() {
+            return this.evictionCount;
+        }
+
+        private synchronized void clear() {
+            this.entries.clear();
+            this.weight = 0L;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * NumberLiterals.java
+ * Created on  2026/10/17 13:45
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import java.math.BigDecimal;
+
+/**
+ * AGEL表現式の数値リテラル判定クラス<br>
+ * <pre>
+ * 例外を使わずに、文字列が10進数（符号、小数点、指数を含む、半角数字のみ）かどうかを判定する。
+ * {@link #LONG}の場合は{@link Long#parseLong(String)}、{@link #DECIMAL}の場合は
+ * {@link java.math.BigDecimal#BigDecimal(String)}で必ず変換できる。
+ *
+ * 整数値とスケールの表現：
+ * 小数点以下{@link #MAX_SCALE}桁までの10進数は、BigDecimalの代わりに「long型の整数値（unscaled value）とスケール」
+ * （値は{@code unscaledValue × 10^-scale}）で表し、BigDecimalを生成せずに演算、比較、文字列変換できる。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class NumberLiterals {
+
+    /**
+     * 数値以外
+     */
+    public static final int NOT_NUMBER = 0;
+
+    /**
+     * long型で表現できる整数（18桁まで）
+     */
+    public static final int LONG = 1;
+
+    /**
+     * その以外の10進数
+     */
+    public static final int DECIMAL = 2;
+
+    /**
+     * 整数値とスケールで表現する最大のスケール
+     */
+    public static final int MAX_SCALE = 18;
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    private NumberLiterals() {
+    }
+
+    /**
+     * 数値の種類の判定処理<br>
+     *
+     * @param seq 判定対象文字列
+     * @return {@link #NOT_NUMBER}、{@link #LONG}、{@link #DECIMAL}のいずれか
+     */
+    public static int kindOf(CharSequence seq) {
+        return seq == null ? NOT_NUMBER : kindOf(seq, 0, seq.length());
+    }
+
+    /**
+     * 数値の種類の判定処理<br>
+     *
+     * @param seq   判定対象文字列
+     * @param start 開始位置（含む）
+     * @param end   終了位置（含まない）
+     * @return {@link #NOT_NUMBER}、{@link #LONG}、{@link #DECIMAL}のいずれか
+     */
+    public static int kindOf(CharSequence seq, int start, int end) {
+        int i = start;
+        if (i < end && (seq.charAt(i) == '+' || seq.charAt(i) == '-')) {
+            i++;
+        }
+        int intDigits = 0;
+        while (i < end && isDigit(seq.charAt(i))) {
+            i++;
+            intDigits++;
+        }
+        if (i == end) {
+            if (intDigits == 0) {
+                return NOT_NUMBER;
+            }
+            return intDigits <= MAX_LONG_DIGITS ? LONG : DECIMAL;
+        }
+
+        int fractionDigits = 0;
+        if (seq.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(seq.charAt(i))) {
+                i++;
+                fractionDigits++;
+            }
+        }
+        if (intDigits + fractionDigits == 0) {
+            return NOT_NUMBER;
+        }
+        if (i < end && (seq.charAt(i) == 'e' || seq.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (seq.charAt(i) == '+' || seq.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && isDigit(seq.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            // 指数がint型を超える場合はBigDecimalに変換できないため、数値以外とする
+            if (exponentDigits == 0 || exponentDigits > MAX_EXPONENT_DIGITS) {
+                return NOT_NUMBER;
+            }
+        }
+        return i == end ? DECIMAL : NOT_NUMBER;
+    }
+
+    /**
+     * 整数値とスケールで表現できる10進数のスケールの取得処理<br>
+     * 指数を含まず、数字が合計18桁までの10進数の場合のみ、小数点以下の桁数を返却する。<br>
+     *
+     * @param seq 判定対象文字列（{@link #kindOf(CharSequence)}が{@link #NOT_NUMBER}以外であること）
+     * @return スケール、整数値とスケールで表現できない場合は-1
+     */
+    public static int scaleOf(CharSequence seq) {
+        int length = seq.length();
+        int i = 0;
+        if (i < length && (seq.charAt(i) == '+' || seq.charAt(i) == '-')) {
+            i++;
+        }
+        int digits = 0;
+        int scale = -1;
+        for (; i < length; i++) {
+            char c = seq.charAt(i);
+            if (isDigit(c)) {
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (digits > MAX_LONG_DIGITS) {
+            return -1;
+        }
+        return Math.max(scale, 0);
+    }
+
+    /**
+     * 10進数の整数値の取得処理<br>
+     *
+     * @param seq 変換対象文字列（{@link #scaleOf(CharSequence)}が0以上であること）
+     * @return 小数点を除いた整数値
+     */
+    public static long unscaledValueOf(CharSequence seq) {
+        int length = seq.length();
+        int i = 0;
+        boolean negative = false;
+        if (seq.charAt(0) == '+' || seq.charAt(0) == '-') {
+            negative = seq.charAt(0) == '-';
+            i++;
+        }
+        long value = 0L;
+        for (; i < length; i++) {
+            char c = seq.charAt(i);
+            if (c != '.') {
+                value = value * 10L + (c - '0');
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 10の累乗倍の処理<br>
+     *
+     * @param value    値
+     * @param exponent 指数（0以上）
+     * @return {@code value × 10^exponent}、long型で表現できない場合は{@link Long#MIN_VALUE}
+     */
+    public static long scaleUp(long value, int exponent) {
+        if (exponent == 0 || value == 0L) {
+            return value;
+        }
+        if (exponent > MAX_SCALE) {
+            return Long.MIN_VALUE;
+        }
+        long limit = Long.MAX_VALUE / POWERS_OF_TEN[exponent];
+        if (value > limit || value < -limit) {
+            return Long.MIN_VALUE;
+        }
+        return value * POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * 整数値とスケールで表した数値の比較処理<br>
+     *
+     * @param unscaledValue1 数値1の整数値
+     * @param scale1         数値1のスケール
+     * @param unscaledValue2 数値2の整数値
+     * @param scale2         数値2のスケール
+     * @return {@link java.math.BigDecimal#compareTo}と同じ結果
+     */
+    public static int compare(long unscaledValue1, int scale1, long unscaledValue2, int scale2) {
+        if (scale1 < scale2) {
+            long aligned = scaleUp(unscaledValue1, scale2 - scale1);
+            if (aligned == Long.MIN_VALUE) {
+                // 桁あふれした方の絶対値が大きい
+                return unscaledValue1 < 0 ? -1 : 1;
+            }
+            return Long.compare(aligned, unscaledValue2);
+        }
+        if (scale1 > scale2) {
+            return -compare(unscaledValue2, scale2, unscaledValue1, scale1);
+        }
+        return Long.compare(unscaledValue1, unscaledValue2);
+    }
+
+    /**
+     * 整数値とスケールで表した数値の文字列変換処理<br>
+     *
+     * @param unscaledValue 整数値
+     * @param scale         スケール（0以上）
+     * @return {@link java.math.BigDecimal#toPlainString()}と同じ形式の文字列
+     */
+    public static String toPlainString(long unscaledValue, int scale) {
+        if (scale == 0) {
+            return Long.toString(unscaledValue);
+        }
+        if (unscaledValue == Long.MIN_VALUE) {
+            return BigDecimal.valueOf(unscaledValue, scale).toPlainString();
+        }
+        String digits = Long.toString(Math.abs(unscaledValue));
+        int integerLength = digits.length() - scale;
+        StringBuilder sb = new StringBuilder(digits.length() + scale + 3);
+        if (unscaledValue < 0) {
+            sb.append('-');
+        }
+        if (integerLength > 0) {
+            sb.append(digits, 0, integerLength).append('.').append(digits, integerLength, digits.length());
+        } else {
+            sb.append("0.");
+            for (int i = integerLength; i < 0; i++) {
+                sb.append('0');
+            }
+            sb.append(digits);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * TemplateRenderer.java
+ * Created on  2026/10/17 18:55
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.exception.SystemException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * AGEL表現式テンプレートのストリーミング出力クラス<br>
+ * <pre>
+ * テンプレートを{@link Readable}（{@link java.io.Reader}、{@link CharBuffer}など）から一定サイズずつ読み込み、
+ * #{}で囲んでいる表現式を評価して、評価結果とその以外の文字列を{@link Appendable}（{@link java.io.Writer}など）に
+ * 順に出力する。テンプレート全体を一つの文字列として保持しないため、使用メモリはテンプレートのサイズに依存しない。
+ *
+ * ・表現式の範囲："#{"から対応する"}"まで（表現式内の"{"、"}"の入れ子を含む）
+ * ・表現式は{@link AGELParser#compile(String)}でコンパイルし（キャッシュを使用）、{@link AGELParser}の定数で評価する
+ * ・#{}の外の文字列はそのまま出力する（値表現式は解析しない）
+ * ・{@link AGELParser#eval(String)}と同様に、改行を含む範囲、または閉じていない範囲は表現式とせず、そのまま出力する
+ *
+ * 使用例：
+ * {@code
+ *      try (Reader reader = Files.newBufferedReader(template); Writer writer = Files.newBufferedWriter(output)) {
+ *          new TemplateRenderer(new AGELParser(constantsMap)).render(reader, writer);
+ *      }
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class TemplateRenderer {
+
+    /**
+     * 読み込み単位（文字数）
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 一つの表現式の最大文字数
+     */
+    static final int MAX_EXPRESSION_LENGTH = Integer.getInteger("akigo.el.maxExpressionLength", 65536);
+
+    private final AGELParser parser;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param parser 定数マップを保持する{@link AGELParser}
+     */
+    public TemplateRenderer(AGELParser parser) {
+        this.parser = Objects.requireNonNull(parser);
+    }
+
+    /**
+     * テンプレートの出力処理<br>
+     *
+     * @param template テンプレート
+     * @param out      出力先
+     */
+    public void render(CharSequence template, Appendable out) {
+        render(new StringReader(template.toString()), out);
+    }
+
+    /**
+     * テンプレートの出力処理<br>
+     * 入力、出力のクローズは呼び出し元で行うこと。<br>
+     *
+     * @param in  テンプレートの入力元
+     * @param out 出力先
+     */
+    public void render(Readable in, Appendable out) {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(out);
+
+        CharBuffer buffer = CharBuffer.allocate(BUFFER_SIZE);
+        Scanner scanner = new Scanner(out);
+        try {
+            while (in.read(buffer) >= 0) {
+                buffer.flip();
+                scanner.scan(buffer);
+                buffer.clear();
+            }
+            scanner.finish();
+        } catch (IOException e) {
+            throw new SystemException(e);
+        }
+    }
+
+    /**
+     * 表現式の範囲を検出する状態機械<br>
+     */
+    private final class Scanner {
+
+        private final Appendable out;
+
+        /**
+         * 前の読み込み単位が'#'で終わった場合はtrue
+         */
+        private boolean pendingHash;
+
+        /**
+         * 表現式の読み込み中の"{"の入れ子の深さ（0の場合は表現式外）
+         */
+        private int depth;
+
+        private final StringBuilder expression = new StringBuilder();
+
+        private Scanner(Appendable out) {
+            this.out = out;
+        }
+
+        private void scan(CharBuffer chunk) throws IOException {
+            int length = chunk.remaining();
+            int textStart = 0;
+            int i = 0;
+            while (i < length) {
+                char c = chunk.get(i);
+                if (this.depth > 0) {
+                    i++;
+                    appendExpression(c);
+                    textStart = i;
+                    continue;
+                }
+                if (this.pendingHash) {
+                    this.pendingHash = false;
+                    if (c == '{') {
+                        startExpression();
+                        i++;
+                        textStart = i;
+                        continue;
+                    }
+                    this.out.append('#');
+                }
+                if (c == '#') {
+                    this.out.append(chunk, textStart, i);
+                    if (i + 1 < length && chunk.get(i + 1) == '{') {
+                        startExpression();
+                        i += 2;
+                    } else {
+                        this.pendingHash = true;
+                        i++;
+                    }
+                    textStart = i;
+                    continue;
+                }
+                i++;
+            }
+            if (this.depth == 0) {
+                this.out.append(chunk, textStart, length);
+            }
+        }
+
+        private void finish() throws IOException {
+            if (this.pendingHash) {
+                this.out.append('#');
+            }
+            if (this.depth > 0) {
+                // 閉じていない表現式はそのまま出力する
+                this.out.append(this.expression);
+            }
+        }
+
+        private void startExpression() {
+            this.depth = 1;
+            this.expression.setLength(0);
+            this.expression.append("#{");
+        }
+
+        private void appendExpression(char c) throws IOException {
+            if (c == '\n' || c == '\r') {
+                // 改行を含む範囲は表現式としない
+                this.depth = 0;
+                this.out.append(this.expression).append(c);
+                return;
+            }
+
+            this.expression.append(c);
+            if (c == '{') {
+                this.depth++;
+            } else if (c == '}' && --this.depth == 0) {
+                this.out.append(AGELParser.compile(this.expression.toString()).eval(TemplateRenderer.this.parser));
+                return;
+            }
+
+            if (this.expression.length() > MAX_EXPRESSION_LENGTH) {
+                throw new SystemException("表現式の文字数が上限（" + MAX_EXPRESSION_LENGTH + "）を超えました：" + this.expression.substring(0, Math.min(64, this.expression.length())) + "...");
+            }
+        }
+    }
+}
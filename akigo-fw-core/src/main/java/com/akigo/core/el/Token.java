@@ -0,0 +1,95 @@
+/*
+ * Token.java
+ * Created on  2026/10/17 11:55
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+import com.akigo.core.el.operator.OperatorSymbol;
+import com.akigo.core.el.operator.function.UserDefinedFunction;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * AGEL表現式のトークンクラス<br>
+ * <br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class Token {
+
+    private static final Map<OperatorSymbol, Token> OPERATOR_TOKENS = new EnumMap<>(OperatorSymbol.class);
+
+    static {
+        for (OperatorSymbol symbol : OperatorSymbol.values()) {
+            OPERATOR_TOKENS.put(symbol, new Token(TokenType.OPERATOR, symbol.symbol(), symbol));
+        }
+    }
+
+    private final TokenType type;
+
+    private final String text;
+
+    private final OperatorSymbol symbol;
+
+    private final UserDefinedFunction function;
+
+    private Token(TokenType type, String text, OperatorSymbol symbol) {
+        this(type, text, symbol, null);
+    }
+
+    private Token(TokenType type, String text, OperatorSymbol symbol, UserDefinedFunction function) {
+        this.type = type;
+        this.text = text;
+        this.symbol = symbol;
+        this.function = function;
+    }
+
+    static Token operator(OperatorSymbol symbol) {
+        return OPERATOR_TOKENS.get(symbol);
+    }
+
+    static Token function(UserDefinedFunction function) {
+        return new Token(TokenType.FUNCTION, function.getSymbol(), null, function);
+    }
+
+    static Token value(TokenType type, String text) {
+        return new Token(type, text, null);
+    }
+
+    TokenType getType() {
+        return this.type;
+    }
+
+    String getText() {
+        return this.text;
+    }
+
+    /**
+     * オペレーター符号の取得処理<br>
+     *
+     * @return オペレーター符号、オペレーター以外の場合はnull
+     */
+    OperatorSymbol getSymbol() {
+        return this.symbol;
+    }
+
+    /**
+     * ユーザー定義関数の取得処理<br>
+     *
+     * @return ユーザー定義関数、その以外の場合はnull
+     */
+    UserDefinedFunction getFunction() {
+        return this.function;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + ":" + this.text;
+    }
+}
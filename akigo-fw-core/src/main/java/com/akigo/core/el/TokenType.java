@@ -0,0 +1,39 @@
+/*
+ * TokenType.java
+ * Created on  2026/10/17 11:52
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el;
+
+/**
+ * AGEL表現式のトークン種類Enum<br>
+ * <br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+enum TokenType {
+    /**
+     * オペレーター（+、&amp;&amp;、substringなど）
+     */
+    OPERATOR,
+    /**
+     * ユーザー定義関数（{@link com.akigo.core.el.operator.function.FunctionRegistry}に登録した関数）
+     */
+    FUNCTION,
+    /**
+     * 数値リテラル（123、-1.5など）
+     */
+    NUMBER,
+    /**
+     * 文字列リテラル（abcdなど）
+     */
+    STRING,
+    /**
+     * 値表現式を含むトークン（$CONSTANTS.C1$など）
+     */
+    VALUE_EXPRESSION
+}
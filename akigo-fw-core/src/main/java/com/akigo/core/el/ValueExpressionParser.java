@@ -8,12 +8,18 @@
  */
 package com.akigo.core.el;
 
-import com.akigo.core.el.value.ValueExpressionFactory;
+import com.akigo.core.el.value.AbstractValueExpression;
+import com.akigo.core.el.value.ValueExpressionScanner;
+import com.akigo.core.exception.SystemException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * 値表現式解析クラス<br>
@@ -32,6 +38,13 @@ public class ValueExpressionParser {
     private final Map<String, String> constantsMap;
     private final AGELParser agelParser;
 
+    /**
+     * 解析済み定数（定数名 → 解析前の値と解析結果）<br>
+     * 呼び出し元の定数マップを更新せずに解析結果を再利用する。複数スレッドから同時に参照、更新できる。<br>
+     * 解析中の定数は、解析中のスレッドを保持するエントリーを設定して循環参照の検出に使用する。<br>
+     */
+    private final Map<String, ResolvedConstant> resolvedConstants = new ConcurrentHashMap<>();
+
     public ValueExpressionParser(AGELParser agelParser) {
         this.agelParser = agelParser;
         this.constantsMap = agelParser.getConstantsMap();
@@ -46,45 +59,156 @@ public class ValueExpressionParser {
     public final String parseValue(String value) {
         if (agelParser.isLogicExpression(value)) {
             return agelParser.eval(value);
-        } else if (isValueExpression(value) || hasValueExpression(value)) {
-            return parseValueExpression(value);
+        }
+
+        ValueExpressionScanner scanner = ValueExpressionScanner.getInstance();
+        AbstractValueExpression valueExpression = scanner.matchWhole(value);
+        if (valueExpression != null) {
+            return valueExpression.eval(value, this);
+        }
+        if (scanner.contains(value)) {
+            return parseValueExpression(value, scanner);
         }
         return value;
     }
 
-    private boolean isValueExpression(String value) {
-        return ValueExpressionFactory.getValueExpressions().stream().anyMatch(ve -> ve.isValueExpression(value));
-    }
+    private String parseValueExpression(String valueExpression, ValueExpressionScanner scanner) {
+        LOGGER.debug("{} の解析開始", valueExpression);
 
-    private boolean hasValueExpression(String value) {
-        return ValueExpressionFactory.getValueExpressions().stream().anyMatch(ve -> ve.hasValueExpression(value));
+        String result = scanner.resolveAll(valueExpression, this);
+
+        LOGGER.debug("{} の解析結果 = {}", valueExpression, result);
+
+        return result;
     }
 
-    private String parseValueExpression(String valueExpression) {
-        LOGGER.debug(valueExpression + " の解析開始");
+    /**
+     * 定数の解析処理<br>
+     * 定数の値に表現式が含まれる場合は解析し、解析結果を再利用する。<br>
+     * 定数マップの値が変更された場合は再解析する。<br>
+     * 解析中の定数を再度解析する場合（循環参照）は{@link SystemException}をスローする。<br>
+     *
+     * @param constantName 定数名
+     * @return 解析後値
+     */
+    public final String resolveConstant(String constantName) {
+        String value = this.constantsMap.get(constantName);
 
-        String result;
+        ResolvedConstant resolved = this.resolvedConstants.get(constantName);
+        if (resolved != null && Objects.equals(resolved.value, value)) {
+            if (resolved.resolvingThread == null) {
+                return resolved.result;
+            }
+            if (resolved.resolvingThread == Thread.currentThread()) {
+                throw new ConstantCycleException(constantName);
+            }
+            // 他のスレッドが解析中の場合は、当該スレッドでも解析する
+        }
 
-        Optional<String> parsedValue = ValueExpressionFactory.getValueExpressions()
-                .stream()
-                .filter(ve -> ve.isValueExpression(valueExpression))
-                .map(ve -> ve.eval(valueExpression, this))
-                .findFirst();
-        if (parsedValue.isPresent()) {
-            result = parsedValue.get();
+        String result;
+        if (value != null && (value.indexOf('$') >= 0 || value.indexOf('#') >= 0)) {
+            // 他の定数を参照する可能性がある値のみ、解析中であることを記録して循環参照を検出する
+            ResolvedConstant resolving = new ResolvedConstant(value, null, Thread.currentThread());
+            this.resolvedConstants.put(constantName, resolving);
+            try {
+                result = parseValue(value);
+            } catch (ConstantCycleException e) {
+                this.resolvedConstants.remove(constantName, resolving);
+                throw e.through(constantName);
+            } catch (RuntimeException | Error e) {
+                this.resolvedConstants.remove(constantName, resolving);
+                throw e;
+            }
         } else {
-            result = ValueExpressionFactory.getValueExpressions()
-                    .stream()
-                    .filter(ve -> ve.hasValueExpression(valueExpression))
-                    .reduce(valueExpression, (s, ve) -> ve.evalAll(s, this), (s, s2) -> s = s2);
+            result = parseValue(value);
         }
-
-        LOGGER.debug(valueExpression + " の解析結果 = " + result);
+        this.resolvedConstants.put(constantName, new ResolvedConstant(value, result, null));
 
         return result;
     }
 
+    /**
+     * 他の{@link ValueExpressionParser}の解析済み定数の引き継ぎ処理<br>
+     * 再利用可能な定数のうち、解析前の値が当該定数マップと同じもののみ引き継ぐ。<br>
+     *
+     * @param source   引き継ぎ元
+     * @param reusable 再利用可能な定数名の判定処理
+     */
+    final void inheritResolvedConstants(ValueExpressionParser source, Predicate<String> reusable) {
+        source.resolvedConstants.forEach((constantName, resolved) -> {
+            if (reusable.test(constantName) && resolved.resolvingThread == null && Objects.equals(resolved.value, this.constantsMap.get(constantName))) {
+                this.resolvedConstants.put(constantName, resolved);
+            }
+        });
+    }
+
+    /**
+     * 解析済み定数のクリア処理<br>
+     * 定数マップの参照先を入れ替えて再利用する場合（{@link BatchEvaluator}の行ごと）に呼び出す。<br>
+     */
+    final void clearResolvedConstants() {
+        if (!this.resolvedConstants.isEmpty()) {
+            this.resolvedConstants.clear();
+        }
+    }
+
+    /**
+     * 解析済みの場合はtrue<br>
+     *
+     * @param constantName 定数名
+     * @return boolean
+     */
+    final boolean isResolved(String constantName) {
+        ResolvedConstant resolved = this.resolvedConstants.get(constantName);
+        return resolved != null && resolved.resolvingThread == null
+                && Objects.equals(resolved.value, this.constantsMap.get(constantName));
+    }
+
     public final Map<String, String> getConstantsMap() {
         return this.constantsMap;
     }
+
+    private static final class ResolvedConstant {
+
+        private final String value;
+
+        private final String result;
+
+        /**
+         * 解析中のスレッド、解析済みの場合はnull
+         */
+        private final Thread resolvingThread;
+
+        private ResolvedConstant(String value, String result, Thread resolvingThread) {
+            this.value = value;
+            this.result = result;
+            this.resolvingThread = resolvingThread;
+        }
+    }
+
+    /**
+     * 循環参照の検出時の例外<br>
+     * 解析中の定数の呼び出し元を遡りながら循環の経路を組み立て、循環の起点に戻った時点で
+     * {@link SystemException}に置き換える。<br>
+     */
+    private static final class ConstantCycleException extends SystemException {
+
+        private final String constantName;
+
+        private final Deque<String> path = new ArrayDeque<>();
+
+        private ConstantCycleException(String constantName) {
+            super("定数の循環参照が見つかりました：" + constantName);
+            this.constantName = constantName;
+            this.path.add(constantName);
+        }
+
+        private RuntimeException through(String callerName) {
+            this.path.addFirst(callerName);
+            if (!callerName.equals(this.constantName)) {
+                return this;
+            }
+            return new SystemException("定数の循環参照が見つかりました：" + String.join(" -> ", this.path));
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * ClosureNode.java
+ * Created on  2026/10/17 15:40
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.node;
+
+import com.akigo.core.el.EvaluationContext;
+
+/**
+ * クロージャー化したノードクラス<br>
+ * <pre>
+ * 評価回数が多い表現式の構文木を、事前解析済みの値を束縛したラムダ式に置き換えたノード。
+ * 評価結果は置き換え前のノードと同じであること。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ClosureNode extends Node {
+
+    /**
+     * 評価処理のクロージャー
+     */
+    @FunctionalInterface
+    public interface ValueClosure {
+        Object eval(EvaluationContext context);
+    }
+
+    /**
+     * 数値評価処理のクロージャー
+     */
+    @FunctionalInterface
+    public interface NumberClosure {
+        boolean evalNumber(EvaluationContext context);
+    }
+
+    private final String source;
+
+    private final ValueClosure valueClosure;
+
+    private final NumberClosure numberClosure;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param source       置き換え前のノードの文字列表現
+     * @param valueClosure 評価処理
+     */
+    public ClosureNode(String source, ValueClosure valueClosure) {
+        this(source, valueClosure, context -> context.loadNumber(valueClosure.eval(context)));
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param source        置き換え前のノードの文字列表現
+     * @param valueClosure  評価処理
+     * @param numberClosure 数値評価処理
+     */
+    public ClosureNode(String source, ValueClosure valueClosure, NumberClosure numberClosure) {
+        this.source = source;
+        this.valueClosure = valueClosure;
+        this.numberClosure = numberClosure;
+    }
+
+    @Override
+    public Object eval(EvaluationContext context) {
+        return this.valueClosure.eval(context);
+    }
+
+    @Override
+    public boolean evalNumber(EvaluationContext context) {
+        return this.numberClosure.evalNumber(context);
+    }
+
+    @Override
+    public String toString() {
+        return this.source;
+    }
+}
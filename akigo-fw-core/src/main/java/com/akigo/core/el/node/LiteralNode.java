@@ -0,0 +1,112 @@
+/*
+ * LiteralNode.java
+ * Created on  2026/10/17 10:22
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.node;
+
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
+
+import java.math.BigDecimal;
+
+/**
+ * リテラル（値表現式を含まない値）のノードクラス<br>
+ * 例：abcd、123<br>
+ * 数値のリテラルはコンパイル時に変換しておき、評価時は再変換しない。<br>
+ * <br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public class LiteralNode extends Node {
+
+    private final String value;
+
+    private final int numberKind;
+
+    /**
+     * long型の値（スケールが0以外の場合は整数値）
+     */
+    private final long longValue;
+
+    /**
+     * {@link #longValue}のスケール、整数値とスケールで表現できない場合は-1
+     */
+    private final int scale;
+
+    private final BigDecimal decimalValue;
+
+    private final double doubleValue;
+
+    public LiteralNode(String value) {
+        this.value = value;
+        this.numberKind = NumberLiterals.kindOf(value);
+        this.decimalValue = this.numberKind == NumberLiterals.DECIMAL ? new BigDecimal(value) : null;
+        if (this.numberKind == NumberLiterals.LONG) {
+            this.longValue = Long.parseLong(value);
+            this.scale = 0;
+        } else if (this.decimalValue != null && NumberLiterals.scaleOf(value) >= 0) {
+            this.longValue = NumberLiterals.unscaledValueOf(value);
+            this.scale = NumberLiterals.scaleOf(value);
+        } else {
+            this.longValue = 0L;
+            this.scale = -1;
+        }
+        this.doubleValue = this.decimalValue != null ? this.decimalValue.doubleValue() : (double) this.longValue;
+    }
+
+    @Override
+    public Object eval(EvaluationContext context) {
+        return this.value;
+    }
+
+    @Override
+    public boolean evalNumber(EvaluationContext context) {
+        switch (this.numberKind) {
+            case NumberLiterals.LONG:
+                context.setNumber(this.longValue, this.value);
+                return true;
+            case NumberLiterals.DECIMAL:
+                if (this.scale >= 0) {
+                    context.setNumber(this.longValue, this.scale, this.value);
+                } else {
+                    context.setNumber(this.decimalValue, this.value);
+                }
+                return true;
+            default:
+                return context.loadNumber(this.value);
+        }
+    }
+
+    public String getValue() {
+        return this.value;
+    }
+
+    /**
+     * 数値のリテラルの場合はtrue<br>
+     *
+     * @return boolean
+     */
+    public boolean isNumber() {
+        return this.numberKind != NumberLiterals.NOT_NUMBER;
+    }
+
+    /**
+     * 数値のリテラルのdouble値の取得処理<br>
+     * {@link EvaluationContext#getDoubleNumber()}と同じ値を返却する。<br>
+     *
+     * @return double値、数値以外の場合は0
+     */
+    public double getDoubleValue() {
+        return this.doubleValue;
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Node.java
+ * Created on  2026/10/17 10:20
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.node;
+
+import com.akigo.core.el.EvaluationContext;
+
+/**
+ * AGEL表現式（AkiGo Expression Language）の構文木ノードの抽象化クラス<br>
+ * <pre>
+ * 表現式は一度だけ解析して構文木に変換し、評価時は構文木を辿るのみで再解析しない。
+ * ノードは不変であり、複数スレッドから同時に評価できる。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public abstract class Node {
+
+    /**
+     * ノード評価処理<br>
+     *
+     * @param context 評価コンテキスト
+     * @return 評価結果
+     */
+    public abstract Object eval(EvaluationContext context);
+
+    /**
+     * ノード数値評価処理<br>
+     * 評価結果を{@code context}の数値レジスタに設定する。<br>
+     *
+     * @param context 評価コンテキスト
+     * @return 評価結果が数値の場合はtrue、その以外場合はfalse
+     * @see EvaluationContext#loadNumber(Object)
+     */
+    public boolean evalNumber(EvaluationContext context) {
+        return context.loadNumber(eval(context));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * OperatorNode.java
+ * Created on  2026/10/17 10:28
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.node;
+
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.instrument.ExpressionTracer;
+
+import java.util.Arrays;
+
+/**
+ * オペレーター（演算、判定式、関数、選択肢）のノードクラス<br>
+ * 評価は{@link AbstractOperator#evaluate(Node[], EvaluationContext)}に委譲する。<br>
+ * 評価コンテキストにトレーサーがある場合、評価値をトレーサーに通知する。<br>
+ * <br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public class OperatorNode extends Node {
+
+    private final AbstractOperator operator;
+
+    private final Node[] operands;
+
+    public OperatorNode(AbstractOperator operator, Node[] operands) {
+        this.operator = operator;
+        this.operands = operands;
+    }
+
+    @Override
+    public Object eval(EvaluationContext context) {
+        Object result = this.operator.evaluate(this.operands, context);
+        ExpressionTracer tracer = context.getTracer();
+        if (tracer != null) {
+            tracer.step(this.operator.getSymbol(), operandsToString(), result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean evalNumber(EvaluationContext context) {
+        if (context.getTracer() != null) {
+            return context.loadNumber(eval(context));
+        }
+        return this.operator.evaluateNumber(this.operands, context);
+    }
+
+    public AbstractOperator getOperator() {
+        return this.operator;
+    }
+
+    public Node[] getOperands() {
+        return Arrays.copyOf(this.operands, this.operands.length);
+    }
+
+    private String operandsToString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < this.operands.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(this.operands[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.operator.getSymbol() + '(' + operandsToString() + ')';
+    }
+}
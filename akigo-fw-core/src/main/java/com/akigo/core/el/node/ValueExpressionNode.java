@@ -0,0 +1,68 @@
+/*
+ * ValueExpressionNode.java
+ * Created on  2026/10/17 10:25
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.node;
+
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.value.AbstractValueExpression;
+
+/**
+ * 値表現式のノードクラス<br>
+ * <pre>
+ * 例：$CONSTANTS.TD$
+ * 値表現式全体が一つの{@link AbstractValueExpression}に一致する場合、コンパイル時に解決した
+ * {@link AbstractValueExpression}で直接評価する。
+ * その以外（abc$CONSTANTS.TD$など）の場合、評価時に{@link com.akigo.core.el.ValueExpressionParser}で解析する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public class ValueExpressionNode extends Node {
+
+    private final String expression;
+
+    private final AbstractValueExpression valueExpression;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param expression      値表現式
+     * @param valueExpression 値表現式全体に一致する{@link AbstractValueExpression}、null可
+     */
+    public ValueExpressionNode(String expression, AbstractValueExpression valueExpression) {
+        this.expression = expression;
+        this.valueExpression = valueExpression;
+    }
+
+    @Override
+    public Object eval(EvaluationContext context) {
+        if (this.valueExpression != null) {
+            return this.valueExpression.eval(this.expression, context.getValueExpressionParser());
+        }
+        return context.getValueExpressionParser().parseValue(this.expression);
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    /**
+     * 値表現式全体に一致する{@link AbstractValueExpression}の取得処理<br>
+     *
+     * @return {@link AbstractValueExpression}、存在しない場合はnull
+     */
+    public AbstractValueExpression getValueExpression() {
+        return this.valueExpression;
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+}
@@ -8,6 +8,12 @@
  */
 package com.akigo.core.el.operator;
 
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.exception.SystemException;
 import com.akigo.core.util.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +46,10 @@ public abstract class AbstractOperator {
 
     public static boolean isNumber(Object str) {
         String target = getString(str);
+        if (NumberLiterals.kindOf(target) != NumberLiterals.NOT_NUMBER) {
+            return true;
+        }
+        // 10進数以外でもDouble型に変換できる形式（1d、NaNなど）は数値とする
         try {
             Double.valueOf(target);
         } catch (NumberFormatException e) {
@@ -54,19 +64,139 @@ public abstract class AbstractOperator {
     }
 
     public static boolean isBoolean(Object str) {
+        if (str instanceof Boolean) {
+            return true;
+        }
         String target = getString(str);
         return Boolean.TRUE.toString().equalsIgnoreCase(target) || Boolean.FALSE.toString().equalsIgnoreCase(target);
     }
 
     public static boolean getBoolean(Object str) {
+        if (str instanceof Boolean) {
+            return (Boolean) str;
+        }
         String target = getString(str);
         return Boolean.parseBoolean(target);
     }
 
     private final Operator operator;
 
+    /**
+     * 表現式解析処理<br>
+     * 操車場アルゴリズムでオペレーターを確定した時点で呼び出され、{@code valStack}のオペランド（{@link Node}）から
+     * 構文木を組み立てる。<br>
+     *
+     * @param opStack  オペレータースタック
+     * @param valStack オペランド（{@link Node}）スタック
+     */
     public abstract void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack);
 
+    /**
+     * 評価処理<br>
+     * 構文木に含まれないオペレーター（カッコ、パラメーター分割符号など）は評価対象外。<br>
+     *
+     * @param operands オペランド
+     * @param context  評価コンテキスト
+     * @return 評価結果
+     */
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        throw new SystemException(getSymbol() + "は評価できないオペレーターです。");
+    }
+
+    /**
+     * 数値評価処理<br>
+     * 評価結果を{@code context}の数値レジスタに設定する。数値を生成するオペレーターは、
+     * 文字列に変換せずにレジスタへ直接設定するようオーバーライドする。<br>
+     *
+     * @param operands オペランド
+     * @param context  評価コンテキスト
+     * @return 評価結果が数値の場合はtrue、その以外場合はfalse
+     */
+    public boolean evaluateNumber(Node[] operands, EvaluationContext context) {
+        return context.loadNumber(evaluate(operands, context));
+    }
+
+    /**
+     * 最適化処理<br>
+     * 全てのオペランドがリテラルの場合、評価結果のリテラルに畳み込む。評価時にエラーとなる場合は畳み込まない。<br>
+     * オペランドの一部が確定した時点で簡略化できるオペレーターはオーバーライドする。<br>
+     *
+     * @param operands 最適化済みのオペランド
+     * @return 当該オペレーターのノード、または畳み込んだノード
+     */
+    public Node optimize(Node[] operands) {
+        for (Node operand : operands) {
+            if (!(operand instanceof LiteralNode)) {
+                return new OperatorNode(this, operands);
+            }
+        }
+
+        Object value;
+        try {
+            value = evaluate(operands, new EvaluationContext(null));
+        } catch (RuntimeException e) {
+            // 評価時に同じエラーとなるよう、畳み込まない
+            return new OperatorNode(this, operands);
+        }
+        return value == null ? new OperatorNode(this, operands) : new LiteralNode(getString(value));
+    }
+
+    /**
+     * クロージャー化処理<br>
+     * 評価回数が多い表現式をクロージャー化する際に呼び出される。特定のオペランド（リテラルなど）に
+     * 特化した評価処理を生成できるオペレーターはオーバーライドする。評価結果は
+     * {@link #evaluate(Node[], EvaluationContext)}と同じであること。<br>
+     *
+     * @param operands クロージャー化済みのオペランド
+     * @return 当該オペレーターのノード
+     */
+    public Node compileClosure(Node[] operands) {
+        return new OperatorNode(this, operands);
+    }
+
+    /**
+     * オペランドをdouble型で評価する<br>
+     *
+     * @param operand オペランド
+     * @param context 評価コンテキスト
+     * @return 評価結果
+     * @throws NumberFormatException 評価結果が数値に変換できない場合
+     */
+    protected static double evalDouble(Node operand, EvaluationContext context) {
+        if (operand.evalNumber(context)) {
+            return context.getDoubleNumber();
+        }
+        return getDouble(context.getNumberText());
+    }
+
+    /**
+     * {@code valStack}から{@code operandCount}個のオペランドを取り出して、当該オペレーターのノードを積む<br>
+     *
+     * @param valStack     オペランド（{@link Node}）スタック
+     * @param operandCount オペランド個数
+     */
+    protected final void reduce(Stack<Object> valStack, int operandCount) {
+        Node[] operands = new Node[operandCount];
+        for (int i = operandCount - 1; i >= 0; i--) {
+            operands[i] = toNode(valStack.pop());
+        }
+        valStack.push(new OperatorNode(this, operands));
+    }
+
+    /**
+     * オペランドスタックの要素を{@link Node}に変換する<br>
+     *
+     * @param operand オペランドスタックの要素
+     * @return ノード
+     * @throws SystemException 関数のパラメーター以外の位置に”,”がある場合
+     */
+    protected final Node toNode(Object operand) {
+        if (!(operand instanceof Node)) {
+            throw new SystemException(getSymbol() + "のオペランドが不正。（パラメーター分割符号の位置を確認してください）");
+        }
+        return (Node) operand;
+    }
+
     public AbstractOperator() {
         this.operator = this.getClass().getAnnotation(Operator.class);
     }
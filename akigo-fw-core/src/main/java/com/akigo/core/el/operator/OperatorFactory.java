@@ -25,7 +25,7 @@ public class OperatorFactory {
     private static final Map<OperatorSymbol, AbstractOperator> OPERATOR_MAP = new HashMap<>();
 
     static {
-        Set<Class<?>> operatorClasses = ReflectionUtils.getAllClassesWith("com.akigo.core.el.operator", Operator.class);
+        Set<Class<?>> operatorClasses = ReflectionUtils.getIndexedClassesWith("com.akigo.core.el.operator", Operator.class);
         operatorClasses.forEach(clazz -> {
             try {
                 AbstractOperator instance = (AbstractOperator) clazz.newInstance();
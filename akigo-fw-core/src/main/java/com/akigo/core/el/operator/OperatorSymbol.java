@@ -8,7 +8,8 @@
  */
 package com.akigo.core.el.operator;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -48,8 +49,32 @@ public enum OperatorSymbol {
     LEFT_PARENTHESIS("("),
     RIGHT_PARENTHESIS(")");
 
+    private static final Map<String, OperatorSymbol> SYMBOL_MAP = new HashMap<>();
+
+    private static final SymbolTrie SYMBOL_TRIE = new SymbolTrie();
+
+    static {
+        for (OperatorSymbol s : values()) {
+            SYMBOL_MAP.put(s.symbol(), s);
+            SYMBOL_TRIE.add(s.symbol(), s);
+        }
+    }
+
     public static Optional<OperatorSymbol> of(String symbol) {
-        return Arrays.stream(OperatorSymbol.values()).filter(s -> s.symbol().equals(symbol)).findFirst();
+        return Optional.ofNullable(SYMBOL_MAP.get(symbol));
+    }
+
+    /**
+     * {@code seq}の{@code start}から{@code end}までの文字列と完全一致する符号の取得処理<br>
+     * 部分文字列を生成せずに符号を検索する。<br>
+     *
+     * @param seq   検索対象文字列
+     * @param start 開始位置（含む）
+     * @param end   終了位置（含まない）
+     * @return 一致する符号、存在しない場合はnull
+     */
+    public static OperatorSymbol match(CharSequence seq, int start, int end) {
+        return SYMBOL_TRIE.match(seq, start, end);
     }
 
     private final String symbol;
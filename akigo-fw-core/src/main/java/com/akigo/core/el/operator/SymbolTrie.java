@@ -0,0 +1,45 @@
+/*
+ * SymbolTrie.java
+ * Created on  2026/10/17 11:40
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * オペレーター符号のトライ木<br>
+ * <br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class SymbolTrie {
+
+    private final Map<Character, SymbolTrie> children = new HashMap<>();
+
+    private OperatorSymbol symbol;
+
+    void add(String text, OperatorSymbol symbol) {
+        SymbolTrie node = this;
+        for (int i = 0; i < text.length(); i++) {
+            node = node.children.computeIfAbsent(text.charAt(i), c -> new SymbolTrie());
+        }
+        node.symbol = symbol;
+    }
+
+    OperatorSymbol match(CharSequence seq, int start, int end) {
+        SymbolTrie node = this;
+        for (int i = start; i < end; i++) {
+            node = node.children.get(seq.charAt(i));
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.symbol;
+    }
+}
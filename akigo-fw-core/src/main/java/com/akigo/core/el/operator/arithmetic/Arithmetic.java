@@ -8,14 +8,132 @@
  */
 package com.akigo.core.el.operator.arithmetic;
 
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.AbstractOperator;
 
+import java.math.BigDecimal;
+import java.util.Stack;
+
 /**
  * 四則演算用オペレーターの抽象化クラス<br>
- * <br>
+ * <pre>
+ * オペランドは{@link EvaluationContext}の数値レジスタで受け取り、文字列に変換しない。
+ * 両方ともlong型の整数の場合はlong型で演算する（小さい整数の高速パス）。
+ * 両方とも整数値とスケールで表した10進数（例：12.34）の場合は、整数値とスケールのまま演算する。
+ * 桁あふれ、スケールの上限超過、または割り切れない場合のみBigDecimal型で演算する。
+ * 演算結果はBigDecimal型で演算した場合と同じ値、同じスケール、同じ文字列表現になる（doubleを経由しない）。
+ * クロージャー化する場合は、オペランドを束縛した数値評価処理に置き換える。
+ * </pre>
  *
  * @author chenhao
  * @since 1.0.0
  */
 public abstract class Arithmetic extends AbstractOperator {
+
+    @Override
+    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
+        reduce(valStack, 2);
+    }
+
+    @Override
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        evaluateNumber(operands[0], operands[1], context);
+        return context.getNumberText();
+    }
+
+    @Override
+    public boolean evaluateNumber(Node[] operands, EvaluationContext context) {
+        return evaluateNumber(operands[0], operands[1], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        Node operand1 = operands[0];
+        Node operand2 = operands[1];
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> {
+            evaluateNumber(operand1, operand2, context);
+            return context.getNumberText();
+        }, context -> evaluateNumber(operand1, operand2, context));
+    }
+
+    private boolean evaluateNumber(Node operand1, Node operand2, EvaluationContext context) {
+        loadOperand(operand1, context);
+        boolean scaled1 = context.isScaledLongNumber();
+        long l1 = context.getLongNumber();
+        int s1 = context.getScale();
+        BigDecimal d1 = scaled1 ? null : context.getDecimalNumber();
+        loadOperand(operand2, context);
+        if (scaled1 && context.isScaledLongNumber()) {
+            long l2 = context.getLongNumber();
+            int s2 = context.getScale();
+            if (s1 == 0 && s2 == 0 ? calculate(l1, l2, context) : calculate(l1, s1, l2, s2, context)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("{} {} {} = {}", NumberLiterals.toPlainString(l1, s1), getSymbol(),
+                            NumberLiterals.toPlainString(l2, s2), context.getNumberText());
+                }
+                return true;
+            }
+            d1 = BigDecimal.valueOf(l1, s1);
+        } else if (scaled1) {
+            d1 = BigDecimal.valueOf(l1, s1);
+        }
+        BigDecimal d2 = context.getDecimalNumber();
+        BigDecimal result = calculate(d1, d2);
+        if (result.scale() < 0) {
+            // 文字列表現（toPlainString）から再変換した場合と同じスケールに揃える
+            result = result.setScale(0);
+        }
+        context.setNumber(result);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} {} {} = {}", d1, getSymbol(), d2, context.getNumberText());
+        }
+        return true;
+    }
+
+    /**
+     * long型の演算処理<br>
+     * 演算結果がlong型で正確に表現できる場合のみ、{@code context}の数値レジスタに設定する。<br>
+     *
+     * @param o1      オペランド1
+     * @param o2      オペランド2
+     * @param context 評価コンテキスト
+     * @return 演算結果を設定した場合はtrue、BigDecimal型で再演算が必要な場合はfalse
+     */
+    protected abstract boolean calculate(long o1, long o2, EvaluationContext context);
+
+    /**
+     * 整数値とスケールで表した10進数の演算処理<br>
+     * 演算結果が整数値とスケール（{@link NumberLiterals#MAX_SCALE}まで）で正確に表現できる場合のみ、
+     * {@code context}の数値レジスタに設定する。デフォルトはBigDecimal型で演算する。<br>
+     *
+     * @param o1      オペランド1の整数値
+     * @param scale1  オペランド1のスケール
+     * @param o2      オペランド2の整数値
+     * @param scale2  オペランド2のスケール
+     * @param context 評価コンテキスト
+     * @return 演算結果を設定した場合はtrue、BigDecimal型で再演算が必要な場合はfalse
+     */
+    protected boolean calculate(long o1, int scale1, long o2, int scale2, EvaluationContext context) {
+        return false;
+    }
+
+    /**
+     * BigDecimal型の演算処理<br>
+     *
+     * @param o1 オペランド1
+     * @param o2 オペランド2
+     * @return 演算結果
+     */
+    protected abstract BigDecimal calculate(BigDecimal o1, BigDecimal o2);
+
+    private static void loadOperand(Node operand, EvaluationContext context) {
+        if (!operand.evalNumber(context)) {
+            // 10進数以外の場合、BigDecimalで変換する（変換できない場合はNumberFormatException）
+            context.setNumber(new BigDecimal(context.getNumberText()));
+        }
+    }
 }
@@ -8,13 +8,13 @@
  */
 package com.akigo.core.el.operator.arithmetic;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
 import java.math.BigDecimal;
-import java.util.Stack;
 
 /**
  * 四則演算の割り算（/）のオペレーター解析クラス<br>
@@ -27,28 +27,48 @@ import java.util.Stack;
 public class Div extends Arithmetic {
 
     @Override
-    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String s2 = getString(valStack.pop());
-        String s1 = getString(valStack.pop());
+    protected boolean calculate(long o1, long o2, EvaluationContext context) {
+        // 割り切れる場合のみlong型で演算する（0除算、桁あふれはBigDecimal型で処理）
+        if (o2 == 0 || (o1 == Long.MIN_VALUE && o2 == -1) || o1 % o2 != 0) {
+            return false;
+        }
+        context.setNumber(o1 / o2);
+        return true;
+    }
 
-        BigDecimal o2 = new BigDecimal(s2);
-        BigDecimal o1 = new BigDecimal(s1);
+    @Override
+    protected boolean calculate(long o1, int scale1, long o2, int scale2, EvaluationContext context) {
+        if (o2 == 0) {
+            return false;
+        }
+        // BigDecimal#divide(BigDecimal)と同じく、推奨スケール（scale1 - scale2、0未満の場合は0）以上で
+        // 割り切れる最小のスケールを求める
+        int scale = Math.max(scale1 - scale2, 0);
+        long dividend = NumberLiterals.scaleUp(o1, scale - scale1 + scale2);
+        while (dividend != Long.MIN_VALUE) {
+            if (dividend % o2 == 0) {
+                context.setNumber(dividend / o2, scale);
+                return true;
+            }
+            if (++scale > NumberLiterals.MAX_SCALE) {
+                return false;
+            }
+            dividend = NumberLiterals.scaleUp(dividend, 1);
+        }
+        return false;
+    }
 
-        String result;
+    @Override
+    protected BigDecimal calculate(BigDecimal o1, BigDecimal o2) {
         try {
-            result = o1.divide(o2).toPlainString();
+            return o1.divide(o2);
         } catch (ArithmeticException e) {
             if ("Non-terminating decimal expansion; no exact representable decimal result.".equals(e.getMessage())) {
                 int scale = Math.max(o1.scale(), o2.scale());
                 // 結果が無限循環小数の場合、四捨五入
-                result = o1.divide(o2, scale, BigDecimal.ROUND_HALF_UP).toPlainString();
-            } else {
-                throw e;
+                return o1.divide(o2, scale, BigDecimal.ROUND_HALF_UP);
             }
+            throw e;
         }
-
-        LOGGER.debug(s1 + " / " + s2 + " = " + result);
-
-        valStack.push(result);
     }
 }
@@ -8,13 +8,13 @@
  */
 package com.akigo.core.el.operator.arithmetic;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
 import java.math.BigDecimal;
-import java.util.Stack;
 
 /**
  * 四則演算の掛け算（*）のオペレーター解析クラス<br>
@@ -27,17 +27,30 @@ import java.util.Stack;
 public class Multi extends Arithmetic {
 
     @Override
-    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String s2 = getString(valStack.pop());
-        String s1 = getString(valStack.pop());
-
-        BigDecimal o2 = new BigDecimal(s2);
-        BigDecimal o1 = new BigDecimal(s1);
-
-        String result = o1.multiply(o2).toPlainString();
+    protected boolean calculate(long o1, long o2, EvaluationContext context) {
+        return calculate(o1, 0, o2, 0, context);
+    }
 
-        LOGGER.debug(s1 + " * " + s2 + " = " + result);
+    @Override
+    protected boolean calculate(long o1, int scale1, long o2, int scale2, EvaluationContext context) {
+        int scale = scale1 + scale2;
+        if (scale > NumberLiterals.MAX_SCALE) {
+            return false;
+        }
+        long result = o1 * o2;
+        // 桁あふれ判定（Math#multiplyExactと同じ）
+        long ax = Math.abs(o1);
+        long ay = Math.abs(o2);
+        if (((ax | ay) >>> 31 != 0)
+                && ((o2 != 0 && result / o2 != o1) || (o1 == Long.MIN_VALUE && o2 == -1))) {
+            return false;
+        }
+        context.setNumber(result, scale);
+        return true;
+    }
 
-        valStack.push(result);
+    @Override
+    protected BigDecimal calculate(BigDecimal o1, BigDecimal o2) {
+        return o1.multiply(o2);
     }
 }
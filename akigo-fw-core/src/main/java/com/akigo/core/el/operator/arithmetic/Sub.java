@@ -8,13 +8,13 @@
  */
 package com.akigo.core.el.operator.arithmetic;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
 import java.math.BigDecimal;
-import java.util.Stack;
 
 /**
  * 四則演算の引き算（-）のオペレーター解析クラス<br>
@@ -27,17 +27,34 @@ import java.util.Stack;
 public class Sub extends Arithmetic {
 
     @Override
-    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String s2 = getString(valStack.pop());
-        String s1 = getString(valStack.pop());
-
-        BigDecimal o2 = new BigDecimal(s2);
-        BigDecimal o1 = new BigDecimal(s1);
-
-        String result = o1.subtract(o2).toPlainString();
+    protected boolean calculate(long o1, long o2, EvaluationContext context) {
+        long result = o1 - o2;
+        // 桁あふれ判定（Math#subtractExactと同じ）
+        if (((o1 ^ o2) & (o1 ^ result)) < 0) {
+            return false;
+        }
+        context.setNumber(result);
+        return true;
+    }
 
-        LOGGER.debug(s1 + " - " + s2 + " = " + result);
+    @Override
+    protected boolean calculate(long o1, int scale1, long o2, int scale2, EvaluationContext context) {
+        int scale = Math.max(scale1, scale2);
+        long a = NumberLiterals.scaleUp(o1, scale - scale1);
+        long b = NumberLiterals.scaleUp(o2, scale - scale2);
+        if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+            return false;
+        }
+        long result = a - b;
+        if (((a ^ b) & (a ^ result)) < 0) {
+            return false;
+        }
+        context.setNumber(result, scale);
+        return true;
+    }
 
-        valStack.push(result);
+    @Override
+    protected BigDecimal calculate(BigDecimal o1, BigDecimal o2) {
+        return o1.subtract(o2);
     }
 }
@@ -8,13 +8,14 @@
  */
 package com.akigo.core.el.operator.function;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
-import java.util.Stack;
-
 /**
  * 関数endsWithのオペレーター解析クラス<br>
  * endsWith(abcd, d)はJavaの"abcd".endsWith("d")と同義<br>
@@ -27,14 +28,28 @@ import java.util.Stack;
 public class EndsWith extends Function {
 
     @Override
-    protected void doFunction(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String suffix = getString(valStack.pop());
-        String targetStr = getString(valStack.pop());
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        return evaluate(operands[0], operands[1], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        if (operands.length < 2) {
+            return super.compileClosure(operands);
+        }
+        Node operand1 = operands[0];
+        Node operand2 = operands[1];
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> evaluate(operand1, operand2, context));
+    }
+
+    private Object evaluate(Node operand1, Node operand2, EvaluationContext context) {
+        String targetStr = getString(operand1.eval(context));
+        String suffix = getString(operand2.eval(context));
 
         Object result = targetStr.endsWith(suffix);
 
-        LOGGER.debug("endsWith(" + targetStr + ", " + suffix + ") = " + result);
+        LOGGER.debug("endsWith({}, {}) = {}", targetStr, suffix, result);
 
-        valStack.push(result);
+        return result;
     }
 }
@@ -8,8 +8,9 @@
  */
 package com.akigo.core.el.operator.function;
 
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.AbstractOperator;
-import com.akigo.core.el.operator.OperatorFactory;
 
 import java.util.Stack;
 
@@ -24,15 +25,14 @@ public abstract class Function extends AbstractOperator {
 
     @Override
     public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        try {
-            doFunction(opStack, valStack);
-        } finally {
-            /*
-             * 当該関数が解析完了した後、必ずこの関数のパラメーターカウントをクリアしてください。
-             */
-            OperatorFactory.ofOperator(ParamSeparator.class).clearFuncParamCount();
+        Object params = valStack.pop();
+
+        Node[] operands;
+        if (params instanceof FunctionParams) {
+            operands = ((FunctionParams) params).toArray();
+        } else {
+            operands = new Node[]{toNode(params)};
         }
+        valStack.push(new OperatorNode(this, operands));
     }
-
-    protected abstract void doFunction(Stack<AbstractOperator> opStack, Stack<Object> valStack);
 }
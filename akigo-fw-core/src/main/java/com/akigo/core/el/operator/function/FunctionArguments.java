@@ -0,0 +1,86 @@
+/*
+ * FunctionArguments.java
+ * Created on  2026/10/17 20:05
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator.function;
+
+import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.exception.SystemException;
+
+import java.math.BigDecimal;
+
+/**
+ * ユーザー定義関数の評価済みパラメーターの一覧クラス<br>
+ * <pre>
+ * パラメーターを型ごとに取得する。型変換できない場合は{@link SystemException}をスローする。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class FunctionArguments {
+
+    private final String functionName;
+
+    private final Object[] values;
+
+    FunctionArguments(String functionName, Object[] values) {
+        this.functionName = functionName;
+        this.values = values;
+    }
+
+    /**
+     * パラメーター個数の取得処理<br>
+     *
+     * @return パラメーター個数
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * パラメーターの取得処理（評価結果のまま）<br>
+     *
+     * @param index パラメーター位置（0から）
+     * @return パラメーター
+     */
+    public Object get(int index) {
+        return this.values[index];
+    }
+
+    public String getString(int index) {
+        return AbstractOperator.getString(this.values[index]);
+    }
+
+    public boolean isEmpty(int index) {
+        return AbstractOperator.isEmptyStr(this.values[index]);
+    }
+
+    public BigDecimal getBigDecimal(int index) {
+        String value = getString(index);
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new SystemException(this.functionName + "の" + (index + 1) + "番目のパラメーター型が不正。（数値が必要）：" + value);
+        }
+    }
+
+    public long getLong(int index) {
+        return getBigDecimal(index).longValue();
+    }
+
+    public int getInt(int index) {
+        return getBigDecimal(index).intValue();
+    }
+
+    public boolean getBoolean(int index) {
+        if (!AbstractOperator.isBoolean(this.values[index])) {
+            throw new SystemException(this.functionName + "の" + (index + 1) + "番目のパラメーター型が不正。（boolean型が必要）");
+        }
+        return AbstractOperator.getBoolean(this.values[index]);
+    }
+}
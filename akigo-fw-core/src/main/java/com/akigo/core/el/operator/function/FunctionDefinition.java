@@ -0,0 +1,95 @@
+/*
+ * FunctionDefinition.java
+ * Created on  2026/10/17 20:05
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator.function;
+
+import com.akigo.core.exception.SystemException;
+
+import java.util.Objects;
+
+/**
+ * ユーザー定義関数の定義クラス<br>
+ * <pre>
+ * {@link FunctionRegistry}に登録する関数の名前、パラメーター個数、実装、純粋関数かどうかを保持する。
+ * 純粋関数（同じパラメーターに対して常に同じ結果を返却し、副作用がない関数）は、
+ * パラメーターが全てリテラルの場合、コンパイル時に評価結果へ畳み込まれる。
+ *
+ * 使用例：
+ * {@code
+ *      FunctionRegistry.register(new FunctionDefinition("round", 2, true,
+ *              args -> args.getBigDecimal(0).setScale(args.getInt(1), RoundingMode.HALF_UP).toPlainString()));
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class FunctionDefinition {
+
+    /**
+     * 可変長パラメーター（1個以上）を表すパラメーター個数
+     */
+    public static final int VARIABLE_ARITY = -1;
+
+    /**
+     * 関数の実装
+     */
+    @FunctionalInterface
+    public interface Implementation {
+
+        /**
+         * 関数の評価処理<br>
+         *
+         * @param arguments 評価済みのパラメーター
+         * @return 評価結果（nullの場合は空文字）
+         */
+        Object apply(FunctionArguments arguments);
+    }
+
+    private final String name;
+
+    private final int arity;
+
+    private final boolean pure;
+
+    private final Implementation implementation;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param name           関数名（表現式中の関数名と完全一致する）
+     * @param arity          パラメーター個数（1以上、または{@link #VARIABLE_ARITY}）
+     * @param pure           純粋関数の場合はtrue
+     * @param implementation 関数の実装
+     */
+    public FunctionDefinition(String name, int arity, boolean pure, Implementation implementation) {
+        if (arity < 1 && arity != VARIABLE_ARITY) {
+            throw new SystemException("関数" + name + "のパラメーター個数が不正。（1以上、またはVARIABLE_ARITYが必要）");
+        }
+        this.name = Objects.requireNonNull(name);
+        this.arity = arity;
+        this.pure = pure;
+        this.implementation = Objects.requireNonNull(implementation);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getArity() {
+        return this.arity;
+    }
+
+    public boolean isPure() {
+        return this.pure;
+    }
+
+    public Implementation getImplementation() {
+        return this.implementation;
+    }
+}
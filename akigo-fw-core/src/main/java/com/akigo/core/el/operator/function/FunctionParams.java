@@ -0,0 +1,42 @@
+/*
+ * FunctionParams.java
+ * Created on  2026/10/17 15:05
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator.function;
+
+import com.akigo.core.el.node.Node;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 解析中の関数パラメーターの一覧クラス<br>
+ * <pre>
+ * パラメーター分割符号”,”の解析時にオペランドスタックに積み、関数の解析時に取り出してパラメーターとする。
+ * パラメーター個数は当該オブジェクトが保持するため、スレッドなどの共有状態を使わない。
+ * ”,”は右から順に解析されるため、パラメーターは先頭に追加する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class FunctionParams {
+
+    private final Deque<Node> params = new ArrayDeque<>();
+
+    FunctionParams(Node last) {
+        this.params.addFirst(last);
+    }
+
+    void addFirst(Node param) {
+        this.params.addFirst(param);
+    }
+
+    Node[] toArray() {
+        return this.params.toArray(new Node[0]);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * FunctionRegistry.java
+ * Created on  2026/10/17 20:15
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator.function;
+
+import com.akigo.core.el.AGELParser;
+import com.akigo.core.el.NumberLiterals;
+import com.akigo.core.el.operator.OperatorSymbol;
+import com.akigo.core.exception.SystemException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ユーザー定義関数の登録クラス<br>
+ * <pre>
+ * 実行時に関数（{@link FunctionDefinition}）を登録する。{@link OperatorSymbol}の追加、パッケージの走査は不要。
+ * 表現式のコンパイル時、関数名と完全一致する単語を当該関数のオペレーター（{@link UserDefinedFunction}）とする。
+ * 登録、削除した場合はコンパイル済み表現式のキャッシュをクリアする（同じ名前の文字列リテラルは関数となる）。
+ *
+ * 関数名の制約：
+ * ・空白、"("、")"、","、"$"、"#"を含まない
+ * ・既存のオペレーター符号、数値形式の文字列でない
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class FunctionRegistry {
+
+    private static final Map<String, UserDefinedFunction> FUNCTIONS = new ConcurrentHashMap<>();
+
+    private FunctionRegistry() {
+    }
+
+    /**
+     * 関数の登録処理<br>
+     * 同じ名前の関数が登録済みの場合は置き換える。<br>
+     *
+     * @param definition 関数の定義
+     */
+    public static void register(FunctionDefinition definition) {
+        Objects.requireNonNull(definition);
+        validateName(definition.getName());
+
+        FUNCTIONS.put(definition.getName(), new UserDefinedFunction(definition));
+        AGELParser.clearCache();
+    }
+
+    /**
+     * 関数の削除処理<br>
+     *
+     * @param name 関数名
+     * @return 削除した場合はtrue
+     */
+    public static boolean unregister(String name) {
+        boolean removed = FUNCTIONS.remove(Objects.requireNonNull(name)) != null;
+        if (removed) {
+            AGELParser.clearCache();
+        }
+        return removed;
+    }
+
+    /**
+     * 関数のオペレーターの取得処理<br>
+     *
+     * @param name 関数名
+     * @return 関数のオペレーター、登録されていない場合はnull
+     */
+    public static UserDefinedFunction lookup(String name) {
+        return FUNCTIONS.isEmpty() ? null : FUNCTIONS.get(name);
+    }
+
+    public static boolean isRegistered(String name) {
+        return FUNCTIONS.containsKey(name);
+    }
+
+    private static void validateName(String name) {
+        boolean valid = !name.isEmpty()
+                && !OperatorSymbol.of(name).isPresent()
+                && NumberLiterals.kindOf(name) == NumberLiterals.NOT_NUMBER;
+        for (int i = 0; valid && i < name.length(); i++) {
+            char c = name.charAt(i);
+            valid = !Character.isWhitespace(c) && c != '(' && c != ')' && c != ',' && c != '$' && c != '#';
+        }
+        if (!valid) {
+            throw new SystemException("関数名" + name + "は使用できません。");
+        }
+    }
+}
@@ -8,13 +8,14 @@
  */
 package com.akigo.core.el.operator.function;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
-import java.util.Stack;
-
 /**
  * 関数isNotEmptyのオペレーター解析クラス<br>
  * isNotEmpty(abcd)はJavaの"abcd".length() != 0と同義<br>
@@ -27,13 +28,26 @@ import java.util.Stack;
 public class IsNotEmpty extends Function {
 
     @Override
-    protected void doFunction(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String target = getString(valStack.pop());
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        return evaluate(operands[0], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        if (operands.length < 1) {
+            return super.compileClosure(operands);
+        }
+        Node operand = operands[0];
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> evaluate(operand, context));
+    }
+
+    private Object evaluate(Node operand, EvaluationContext context) {
+        String target = getString(operand.eval(context));
 
         Object result = !isEmptyStr(target);
 
-        LOGGER.debug("isNotEmpty(" + target + ") = " + result);
+        LOGGER.debug("isNotEmpty({}) = {}", target, result);
 
-        valStack.push(result);
+        return result;
     }
 }
@@ -8,13 +8,14 @@
  */
 package com.akigo.core.el.operator.function;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
-import java.util.Stack;
-
 /**
  * 関数lengthのオペレーター解析クラス<br>
  * length(abcd)はJavaの"abcd".length()と同義<br>
@@ -27,13 +28,31 @@ import java.util.Stack;
 public class Length extends Function {
 
     @Override
-    protected void doFunction(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String target = getString(valStack.pop());
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        return evaluate(operands[0], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        if (operands.length < 1) {
+            return super.compileClosure(operands);
+        }
+        Node operand = operands[0];
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> evaluate(operand, context),
+                context -> {
+                    // 文字列に変換せず、数値レジスタに直接設定する
+                    context.setNumber(((Integer) evaluate(operand, context)).longValue());
+                    return true;
+                });
+    }
+
+    private Object evaluate(Node operand, EvaluationContext context) {
+        String target = getString(operand.eval(context));
 
         Object result = target.length();
 
-        LOGGER.debug("length(" + target + ") = " + result);
+        LOGGER.debug("length({}) = {}", target, result);
 
-        valStack.push(result);
+        return result;
     }
 }
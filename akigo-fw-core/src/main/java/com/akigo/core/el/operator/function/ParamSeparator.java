@@ -8,6 +8,7 @@
  */
 package com.akigo.core.el.operator.function;
 
+import com.akigo.core.el.node.Node;
 import com.akigo.core.el.operator.AbstractOperator;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
@@ -25,26 +26,20 @@ import java.util.Stack;
 @Operator(symbol = OperatorSymbol.PARAM_SEPARATOR, priority = OperatorPriority.PRIORITY_0)
 public class ParamSeparator extends AbstractOperator {
 
-    private final ThreadLocal<Integer> funcParamCount = new ThreadLocal<>();
-
     @Override
     public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        // パラメーター個数が不固定の関数に対して、解析中の関数のパラメーター個数をカウントする
-        if (funcParamCount.get() == null) {
-            funcParamCount.set(2);
+        // パラメーター個数が不固定の関数に対して、解析中の関数のパラメーターを一覧にまとめる
+        Object right = valStack.pop();
+        Node left = toNode(valStack.pop());
+
+        FunctionParams params;
+        if (right instanceof FunctionParams) {
+            params = (FunctionParams) right;
         } else {
-            funcParamCount.set(funcParamCount.get() + 1);
+            params = new FunctionParams(toNode(right));
         }
-    }
-
-    public void clearFuncParamCount() {
-        /*
-         * 当該関数が解析完了した後、必ずこの関数のパラメーターカウントをクリアしてください。
-         */
-        funcParamCount.remove();
-    }
+        params.addFirst(left);
 
-    public int getFuncParamCount() {
-        return funcParamCount.get() == null ? 1 : funcParamCount.get();
+        valStack.push(params);
     }
 }
@@ -8,11 +8,15 @@
  */
 package com.akigo.core.el.operator.function;
 
-import com.akigo.core.el.operator.*;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.operator.Operator;
+import com.akigo.core.el.operator.OperatorPriority;
+import com.akigo.core.el.operator.OperatorSymbol;
 import com.akigo.core.exception.SystemException;
 
-import java.util.Stack;
-
 /**
  * 関数substringのオペレーター解析クラス<br>
  * substring(abcd, 1, 2)はJavaの"abcd".substring(1, 2)と同義<br>
@@ -25,29 +29,54 @@ import java.util.Stack;
 public class Substring extends Function {
 
     @Override
-    protected void doFunction(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        int paramCount = OperatorFactory.ofOperator(ParamSeparator.class).getFuncParamCount();
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        int paramCount = operands.length;
 
-        Object result;
         if (paramCount == 2) {
-            int beginIndex = Double.valueOf(getDouble(valStack.pop())).intValue();
-            String targetStr = getString(valStack.pop());
-
-            result = targetStr.substring(beginIndex);
-
-            LOGGER.debug("substring(" + targetStr + ", " + beginIndex + ") = " + result);
+            return evaluate(operands[0], operands[1], context);
         } else if (paramCount == 3) {
-            int endIndex = Double.valueOf(getDouble(valStack.pop())).intValue();
-            int beginIndex = Double.valueOf(getDouble(valStack.pop())).intValue();
-            String targetStr = getString(valStack.pop());
-
-            result = targetStr.substring(beginIndex, endIndex);
-
-            LOGGER.debug("substring(" + targetStr + ", " + beginIndex + ", " + endIndex + ") = " + result);
+            return evaluate(operands[0], operands[1], operands[2], context);
         } else {
             throw new SystemException(getSymbol() + "のパラメーター個数が不正。（2個または3個が必要）");
         }
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        if (operands.length != 2 && operands.length != 3) {
+            // パラメーター個数が不正の場合は、評価時にエラーとする
+            return super.compileClosure(operands);
+        }
+        String source = new OperatorNode(this, operands).toString();
+        Node operand1 = operands[0];
+        Node operand2 = operands[1];
+        if (operands.length == 2) {
+            return new ClosureNode(source, context -> evaluate(operand1, operand2, context));
+        }
+        Node operand3 = operands[2];
+        return new ClosureNode(source, context -> evaluate(operand1, operand2, operand3, context));
+    }
+
+    private Object evaluate(Node operand1, Node operand2, EvaluationContext context) {
+        String targetStr = getString(operand1.eval(context));
+        int beginIndex = (int) evalDouble(operand2, context);
+
+        Object result = targetStr.substring(beginIndex);
+
+        LOGGER.debug("substring({}, {}) = {}", targetStr, beginIndex, result);
+
+        return result;
+    }
+
+    private Object evaluate(Node operand1, Node operand2, Node operand3, EvaluationContext context) {
+        String targetStr = getString(operand1.eval(context));
+        int beginIndex = (int) evalDouble(operand2, context);
+        int endIndex = (int) evalDouble(operand3, context);
+
+        Object result = targetStr.substring(beginIndex, endIndex);
+
+        LOGGER.debug("substring({}, {}, {}) = {}", targetStr, beginIndex, endIndex, result);
 
-        valStack.push(result);
+        return result;
     }
 }
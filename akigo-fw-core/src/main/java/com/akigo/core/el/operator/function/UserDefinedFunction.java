@@ -0,0 +1,91 @@
+/*
+ * UserDefinedFunction.java
+ * Created on  2026/10/17 20:10
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator.function;
+
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.operator.OperatorPriority;
+import com.akigo.core.exception.SystemException;
+
+/**
+ * ユーザー定義関数のオペレーター解析クラス<br>
+ * <pre>
+ * {@link FunctionRegistry}に登録した{@link FunctionDefinition}ごとに生成し、コンパイル時に構文木へ直接組み込む。
+ * 評価時は関数名の検索を行わず、{@link FunctionDefinition.Implementation}を直接呼び出す。
+ * 純粋関数でない場合は、パラメーターが全てリテラルでも畳み込まない。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class UserDefinedFunction extends Function {
+
+    private final FunctionDefinition definition;
+
+    UserDefinedFunction(FunctionDefinition definition) {
+        this.definition = definition;
+    }
+
+    @Override
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        int arity = this.definition.getArity();
+        if (arity != FunctionDefinition.VARIABLE_ARITY && operands.length != arity) {
+            throw new SystemException(getSymbol() + "のパラメーター個数が不正。（" + arity + "個が必要）");
+        }
+
+        return apply(operands, context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        int arity = this.definition.getArity();
+        if (arity != FunctionDefinition.VARIABLE_ARITY && operands.length != arity) {
+            // パラメーター個数が不正の場合は、評価時にエラーとする
+            return super.compileClosure(operands);
+        }
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> apply(operands, context));
+    }
+
+    private Object apply(Node[] operands, EvaluationContext context) {
+        Object[] values = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            values[i] = operands[i].eval(context);
+        }
+
+        Object result = this.definition.getImplementation().apply(new FunctionArguments(getSymbol(), values));
+
+        LOGGER.debug("{}{} = {}", getSymbol(), values, result);
+
+        return result == null ? "" : result;
+    }
+
+    @Override
+    public Node optimize(Node[] operands) {
+        if (!this.definition.isPure()) {
+            return new OperatorNode(this, operands);
+        }
+        return super.optimize(operands);
+    }
+
+    public FunctionDefinition getDefinition() {
+        return this.definition;
+    }
+
+    @Override
+    public String getSymbol() {
+        return this.definition.getName();
+    }
+
+    @Override
+    public int getPriority() {
+        return OperatorPriority.RIORITY_6.priority();
+    }
+}
@@ -8,6 +8,11 @@
  */
 package com.akigo.core.el.operator.option;
 
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.AbstractOperator;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
@@ -29,18 +34,47 @@ public class OptionResult extends Option {
 
     @Override
     public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        Object result2 = valStack.pop();
-        Object result1 = valStack.pop();
-        Object predicate = valStack.pop();
+        reduce(valStack, 3);
+    }
+
+    @Override
+    public Node optimize(Node[] operands) {
+        // 判定式が確定した場合、選択されない分岐を削除する
+        if (operands[0] instanceof LiteralNode && isBoolean(((LiteralNode) operands[0]).getValue())) {
+            return getBoolean(((LiteralNode) operands[0]).getValue()) ? operands[1] : operands[2];
+        }
+        return super.optimize(operands);
+    }
+
+    @Override
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        return evaluate(operands[0], operands[1], operands[2], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        Node predicateOperand = operands[0];
+        Node trueOperand = operands[1];
+        Node falseOperand = operands[2];
+        return new ClosureNode(new OperatorNode(this, operands).toString(),
+                context -> evaluate(predicateOperand, trueOperand, falseOperand, context));
+    }
+
+    private Object evaluate(Node predicateOperand, Node trueOperand, Node falseOperand, EvaluationContext context) {
+        Object predicate = predicateOperand.eval(context);
 
         if (!isBoolean(predicate)) {
             throw new SystemException("OPTION:" + getSymbol() + "の判定式の型が不正。（boolean型が必要）");
         }
 
-        Object result = getBoolean(predicate) ? result1 : result2;
+        // 選択された分岐のみ評価する
+        Object result = getBoolean(predicate) ? trueOperand.eval(context) : falseOperand.eval(context);
+        context.notifySkipped(getSymbol());
 
-        LOGGER.debug(predicate + " ? " + result1 + " : " + result2 + " = " + result);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} ? {} : {} = {}", predicate, trueOperand, falseOperand, result);
+        }
 
-        valStack.push(result);
+        return result;
     }
 }
@@ -28,7 +28,7 @@ public class LeftParenthesis extends Parenthesis {
 
     @Override
     public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        if (opStack.peek() instanceof Function) {
+        if (!opStack.isEmpty() && opStack.peek() instanceof Function) {
             AbstractOperator lastOp = opStack.pop();
             lastOp.accept(opStack, valStack);
         }
@@ -8,17 +8,19 @@
  */
 package com.akigo.core.el.operator.predicate;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 import com.akigo.core.exception.SystemException;
 
-import java.util.Stack;
-
 /**
  * 判定式”&&”のオペレーター解析クラス<br>
- * Javaの”&&”と同義<br>
+ * Javaの”&&”と同義（短絡評価）<br>
  * <br>
  *
  * @author chenhao
@@ -28,18 +30,50 @@ import java.util.Stack;
 public class And extends Predicate {
 
     @Override
-    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String s2 = getString(valStack.pop());
-        String s1 = getString(valStack.pop());
+    public Node optimize(Node[] operands) {
+        // 左オペランドで結果が確定する場合、右オペランドを削除する
+        if (operands[0] instanceof LiteralNode) {
+            String s1 = ((LiteralNode) operands[0]).getValue();
+            if (isBoolean(s1) && !getBoolean(s1)) {
+                return new LiteralNode(Boolean.toString(false));
+            }
+        }
+        return super.optimize(operands);
+    }
+
+    @Override
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        return evaluate(operands[0], operands[1], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        Node operand1 = operands[0];
+        Node operand2 = operands[1];
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> evaluate(operand1, operand2, context));
+    }
 
-        if (!isBoolean(s1) || !isBoolean(s2)) {
+    private Object evaluate(Node operand1, Node operand2, EvaluationContext context) {
+        Object o1 = operand1.eval(context);
+        if (!isBoolean(o1)) {
             throw new SystemException("PREDICATE:" + getSymbol() + "のパラメーター型が不正。（boolean型が必要）");
         }
+        boolean b1 = getBoolean(o1);
+        if (!b1) {
+            // 左オペランドで結果が確定するため、右オペランドを評価しない
+            context.notifySkipped(getSymbol());
+            LOGGER.debug("{} && (省略) = {}", o1, b1);
+            return b1;
+        }
 
-        Object result = getBoolean(s1) && getBoolean(s2);
+        Object o2 = operand2.eval(context);
+        if (!isBoolean(o2)) {
+            throw new SystemException("PREDICATE:" + getSymbol() + "のパラメーター型が不正。（boolean型が必要）");
+        }
+        Object result = getBoolean(o2);
 
-        LOGGER.debug(s1 + " && " + s2 + " = " + result);
+        LOGGER.debug("{} && {} = {}", o1, o2, result);
 
-        valStack.push(result);
+        return result;
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Comparison.java
+ * Created on  2026/10/17 14:20
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.operator.predicate;
+
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.NumberLiterals;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
+
+import java.math.BigDecimal;
+
+/**
+ * 大小比較の判定式オペレーターの抽象化クラス<br>
+ * <pre>
+ * 両方とも10進数の場合は正確に比較し（doubleに変換しない）、その以外の場合は文字列で比較する。
+ * 両方とも整数値とスケールで表した数値（小さい整数を含む）の場合はlong型で、その以外の場合はBigDecimal型で比較する。
+ * 10進数以外の数値の文字列（1d、NaNなど）はdouble型で比較する。
+ * オペランドは{@link EvaluationContext}の数値レジスタで受け取り、数値の場合は文字列に変換しない。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public abstract class Comparison extends Predicate {
+
+    @Override
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        boolean number1 = operands[0].evalNumber(context);
+        boolean scaled1 = number1 && context.isScaledLongNumber();
+        long l1 = context.getLongNumber();
+        int s1 = context.getScale();
+        BigDecimal d1 = number1 && !scaled1 ? context.getDecimalNumber() : null;
+        // 片方のみ数値の場合は文字列で比較するため、元の文字列を保持する（オペランドは再評価しない）
+        String str1 = number1 ? context.getOriginalNumberText() : context.getNumberText();
+
+        boolean number2 = operands[1].evalNumber(context);
+
+        boolean result;
+        if (number1 && number2) {
+            if (scaled1 && context.isScaledLongNumber()) {
+                result = test(NumberLiterals.compare(l1, s1, context.getLongNumber(), context.getScale()));
+            } else {
+                result = test((scaled1 ? BigDecimal.valueOf(l1, s1) : d1).compareTo(context.getDecimalNumber()));
+            }
+        } else {
+            String str2 = context.getNumberText();
+            if (number1 && str1 == null) {
+                str1 = scaled1 ? NumberLiterals.toPlainString(l1, s1) : d1.toPlainString();
+            }
+            if (isNumber(str1) && isNumber(str2)) {
+                result = test(getDouble(str1), getDouble(str2));
+            } else {
+                result = test(str1.compareTo(str2));
+            }
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} {} {} = {}", operands[0], getSymbol(), operands[1], result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        if (operands[1] instanceof LiteralNode && ((LiteralNode) operands[1]).isNumber()) {
+            return compileLiteralClosure(operands, operands[0], (LiteralNode) operands[1], false);
+        }
+        if (operands[0] instanceof LiteralNode && ((LiteralNode) operands[0]).isNumber()) {
+            return compileLiteralClosure(operands, operands[1], (LiteralNode) operands[0], true);
+        }
+        return super.compileClosure(operands);
+    }
+
+    /**
+     * 片方が数値のリテラルの場合、リテラルの値を束縛したクロージャーを生成する<br>
+     */
+    private Node compileLiteralClosure(Node[] operands, Node other, LiteralNode literal, boolean literalFirst) {
+        EvaluationContext literalContext = new EvaluationContext(null);
+        literal.evalNumber(literalContext);
+        boolean scaled = literalContext.isScaledLongNumber();
+        long unscaledValue = literalContext.getLongNumber();
+        int scale = literalContext.getScale();
+        BigDecimal decimal = literalContext.getDecimalNumber();
+        double constant = literal.getDoubleValue();
+        String constantText = literal.getValue();
+
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> {
+            int compareResult;
+            if (other.evalNumber(context)) {
+                compareResult = scaled && context.isScaledLongNumber()
+                        ? NumberLiterals.compare(context.getLongNumber(), context.getScale(), unscaledValue, scale)
+                        : context.getDecimalNumber().compareTo(decimal);
+            } else {
+                String str = context.getNumberText();
+                if (isNumber(str)) {
+                    double d = getDouble(str);
+                    return literalFirst ? test(constant, d) : test(d, constant);
+                }
+                compareResult = str.compareTo(constantText);
+            }
+            return test(literalFirst ? -Integer.signum(compareResult) : compareResult);
+        });
+    }
+
+    /**
+     * 数値の比較処理<br>
+     *
+     * @param o1 オペランド1
+     * @param o2 オペランド2
+     * @return 比較結果
+     */
+    protected abstract boolean test(double o1, double o2);
+
+    /**
+     * 文字列の比較処理<br>
+     *
+     * @param compareResult {@link String#compareTo(String)}の結果
+     * @return 比較結果
+     */
+    protected abstract boolean test(int compareResult);
+}
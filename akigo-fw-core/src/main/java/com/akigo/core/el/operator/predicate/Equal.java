@@ -8,13 +8,14 @@
  */
 package com.akigo.core.el.operator.predicate;
 
-import com.akigo.core.el.operator.AbstractOperator;
+import com.akigo.core.el.EvaluationContext;
+import com.akigo.core.el.node.ClosureNode;
+import com.akigo.core.el.node.Node;
+import com.akigo.core.el.node.OperatorNode;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
-import java.util.Stack;
-
 /**
  * 判定式”==”のオペレーター解析クラス<br>
  * Javaの”==”と同義<br>
@@ -27,14 +28,25 @@ import java.util.Stack;
 public class Equal extends Predicate {
 
     @Override
-    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String s2 = getString(valStack.pop());
-        String s1 = getString(valStack.pop());
+    public Object evaluate(Node[] operands, EvaluationContext context) {
+        return evaluate(operands[0], operands[1], context);
+    }
+
+    @Override
+    public Node compileClosure(Node[] operands) {
+        Node operand1 = operands[0];
+        Node operand2 = operands[1];
+        return new ClosureNode(new OperatorNode(this, operands).toString(), context -> evaluate(operand1, operand2, context));
+    }
+
+    private Object evaluate(Node operand1, Node operand2, EvaluationContext context) {
+        String s1 = getString(operand1.eval(context));
+        String s2 = getString(operand2.eval(context));
 
         Object result = s1.equals(s2);
 
-        LOGGER.debug(s1 + " == " + s2 + " = " + result);
+        LOGGER.debug("{} == {} = {}", s1, s2, result);
 
-        valStack.push(result);
+        return result;
     }
 }
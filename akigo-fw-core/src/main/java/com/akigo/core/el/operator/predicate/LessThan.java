@@ -8,13 +8,10 @@
  */
 package com.akigo.core.el.operator.predicate;
 
-import com.akigo.core.el.operator.AbstractOperator;
 import com.akigo.core.el.operator.Operator;
 import com.akigo.core.el.operator.OperatorPriority;
 import com.akigo.core.el.operator.OperatorSymbol;
 
-import java.util.Stack;
-
 /**
  * 判定式”<”のオペレーター解析クラス<br>
  * Javaの”<”と同義<br>
@@ -24,22 +21,15 @@ import java.util.Stack;
  * @since 1.0.0
  */
 @Operator(symbol = OperatorSymbol.LT, priority = OperatorPriority.RIORITY_3)
-public class LessThan extends Predicate {
+public class LessThan extends Comparison {
 
     @Override
-    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
-        String str2 = getString(valStack.pop());
-        String str1 = getString(valStack.pop());
-
-        Object result = null;
-        if (isNumber(str1) && isNumber(str2)) {
-            result = getDouble(str1) < getDouble(str2);
-        } else {
-            result = str1.compareTo(str2) < 0;
-        }
-
-        LOGGER.debug(str1 + " < " + str2 + " = " + result);
+    protected boolean test(double o1, double o2) {
+        return o1 < o2;
+    }
 
-        valStack.push(result);
+    @Override
+    protected boolean test(int compareResult) {
+        return compareResult < 0;
     }
 }
@@ -10,6 +10,8 @@ package com.akigo.core.el.operator.predicate;
 
 import com.akigo.core.el.operator.AbstractOperator;
 
+import java.util.Stack;
+
 /**
  * 判定式オペレーターの抽象化クラス<br>
  * <br>
@@ -18,4 +20,9 @@ import com.akigo.core.el.operator.AbstractOperator;
  * @since 1.0.0
  */
 public abstract class Predicate extends AbstractOperator {
+
+    @Override
+    public void accept(Stack<AbstractOperator> opStack, Stack<Object> valStack) {
+        reduce(valStack, 2);
+    }
 }
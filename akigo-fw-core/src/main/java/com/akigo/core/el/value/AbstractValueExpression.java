@@ -12,6 +12,7 @@ import com.akigo.core.el.ValueExpressionParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,8 +29,11 @@ public abstract class AbstractValueExpression {
 
     private final ValueExpression valueExpression;
 
+    private final Pattern expressionPattern;
+
     public AbstractValueExpression() {
         this.valueExpression = this.getClass().getAnnotation(ValueExpression.class);
+        this.expressionPattern = Pattern.compile(getExpressionRegex());
     }
 
     /**
@@ -39,7 +43,7 @@ public abstract class AbstractValueExpression {
      * @return boolean
      */
     public boolean isValueExpression(String value) {
-        return value != null && value.matches(getExpressionRegex());
+        return value != null && this.expressionPattern.matcher(value).matches();
     }
 
     /**
@@ -52,9 +56,7 @@ public abstract class AbstractValueExpression {
         if (value == null) {
             return false;
         }
-        Pattern p = Pattern.compile(getExpressionRegex());
-        Matcher m = p.matcher(value);
-        return m.find();
+        return this.expressionPattern.matcher(value).find();
     }
 
     /**
@@ -66,6 +68,18 @@ public abstract class AbstractValueExpression {
      */
     public abstract String eval(String valueExpression, ValueExpressionParser parser);
 
+    /**
+     * 値表現式（シングル値表現式）の束縛処理<br>
+     * 評価のたびに値表現式を解析しないよう、事前解析済みの評価処理を返却する。<br>
+     * 返却する評価処理の結果は{@link #eval(String, ValueExpressionParser)}と同じであること。<br>
+     *
+     * @param valueExpression 値表現式
+     * @return 値表現式に束縛した評価処理
+     */
+    public Function<ValueExpressionParser, String> bind(String valueExpression) {
+        return parser -> eval(valueExpression, parser);
+    }
+
     /**
      * 解析対象の中の全ての値表現式の解析処理<br>
      *
@@ -74,17 +88,22 @@ public abstract class AbstractValueExpression {
      * @return 解析後文字列
      */
     public String evalAll(String valueExpression, ValueExpressionParser parser) {
-        String value = valueExpression;
-
-        Pattern pattern = Pattern.compile(getExpressionRegex());
-        Matcher matcher = pattern.matcher(value);
-        while (matcher.find()) {
-            String matchedRegex = matcher.group();
-            value = matcher.replaceFirst(parser.parseValue(matchedRegex));
-            matcher = pattern.matcher(value);
+        Matcher matcher = this.expressionPattern.matcher(valueExpression);
+        if (!matcher.find()) {
+            return valueExpression;
         }
 
-        return value;
+        // 左から右へ一度だけ走査し、解析結果はそのまま連結する
+        StringBuilder sb = new StringBuilder(valueExpression.length() + 16);
+        int lastEnd = 0;
+        do {
+            sb.append(valueExpression, lastEnd, matcher.start());
+            sb.append(parser.parseValue(matcher.group()));
+            lastEnd = matcher.end();
+        } while (matcher.find());
+        sb.append(valueExpression, lastEnd, valueExpression.length());
+
+        return sb.toString();
     }
 
     /**
@@ -11,6 +11,8 @@ package com.akigo.core.el.value;
 import com.akigo.core.el.ValueExpressionParser;
 import com.akigo.core.exception.SystemException;
 
+import java.util.function.Function;
+
 /**
  * 定数値表現式クラス<br>
  * <pre>
@@ -34,22 +36,44 @@ public class ConstantValue extends AbstractValueExpression {
      */
     @Override
     public String eval(String valueExpression, ValueExpressionParser parser) {
-        LOGGER.debug(valueExpression + " の解析開始。");
+        return evalConstant(valueExpression, getConstantName(valueExpression), parser);
+    }
 
+    /**
+     * 値表現式（シングル値表現式）の束縛処理<br>
+     * 定数名を事前に取り出しておき、評価時は定数の解析のみ行う。<br>
+     *
+     * @param valueExpression 値表現式
+     * @return 値表現式に束縛した評価処理
+     */
+    @Override
+    public Function<ValueExpressionParser, String> bind(String valueExpression) {
+        String constantName = getConstantName(valueExpression);
+        return parser -> evalConstant(valueExpression, constantName, parser);
+    }
+
+    /**
+     * 定数名の取得処理<br>
+     *
+     * @param valueExpression 値表現式（例：$CONSTANTS.TD$）
+     * @return 定数名（例：TD）
+     */
+    public static String getConstantName(String valueExpression) {
         String valueExpressionTmp = valueExpression.substring(1, valueExpression.length() - 1);
         String[] valueExpressionArr = valueExpressionTmp.split("\\.");
-        String constantName = valueExpressionArr[1];
+        return valueExpressionArr[1];
+    }
+
+    private static String evalConstant(String valueExpression, String constantName, ValueExpressionParser parser) {
+        LOGGER.debug("{} の解析開始。", valueExpression);
 
         if (!parser.getConstantsMap().containsKey(constantName)) {
             throw new SystemException("Constant:" + constantName + "が見つかりませんでした。");
         }
-        String value = parser.getConstantsMap().get(constantName);
-
-        value = parser.parseValue(value);
-        // 解析したConstantをマップに更新
-        parser.getConstantsMap().put(constantName, value);
+        // 解析結果は定数マップに書き戻さず、ValueExpressionParserで再利用する
+        String value = parser.resolveConstant(constantName);
 
-        LOGGER.debug(valueExpression + " の解析結果= " + value);
+        LOGGER.debug("{} の解析結果= {}", valueExpression, value);
 
         return value;
     }
@@ -27,7 +27,7 @@ public class ValueExpressionFactory {
     private static final List<AbstractValueExpression> VALUE_EXPRESSIONS = new ArrayList<>();
 
     static {
-        Set<Class<?>> valueExpressionClasses = ReflectionUtils.getAllClassesWith("com.akigo.core.el.value", ValueExpression.class);
+        Set<Class<?>> valueExpressionClasses = ReflectionUtils.getIndexedClassesWith("com.akigo.core.el.value", ValueExpression.class);
         valueExpressionClasses.forEach(clazz -> {
             try {
                 AbstractValueExpression instance = (AbstractValueExpression) clazz.newInstance();
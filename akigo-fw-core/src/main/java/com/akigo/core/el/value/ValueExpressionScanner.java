@@ -0,0 +1,141 @@
+/*
+ * ValueExpressionScanner.java
+ * Created on  2026/10/17 17:40
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.el.value;
+
+import com.akigo.core.el.ValueExpressionParser;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 値表現式のスキャナークラス<br>
+ * <pre>
+ * 登録済みの全ての{@link ValueExpression}の正規表現式を一つの正規表現式（グループの選択）にまとめてコンパイルし、
+ * 解析対象を左から右へ一度だけ走査して、全ての値表現式を解析する。
+ * 同じ位置で複数の値表現式に一致する場合は、{@link ValueExpressionFactory#getValueExpressions()}の順で優先する。
+ *
+ * 例：abc$CONSTANTS.TD$_$CONSTANTS.TD2$def
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ValueExpressionScanner {
+
+    private static final ValueExpressionScanner INSTANCE = new ValueExpressionScanner(ValueExpressionFactory.getValueExpressions());
+
+    private final AbstractValueExpression[] valueExpressions;
+
+    /**
+     * 値表現式ごとのグループ番号
+     */
+    private final int[] groups;
+
+    private final Pattern pattern;
+
+    /**
+     * 全ての値表現式が'$'を含む場合はtrue（'$'を含まない文字列は走査しない）
+     */
+    private final boolean dollarRequired;
+
+    private ValueExpressionScanner(List<AbstractValueExpression> valueExpressions) {
+        this.valueExpressions = valueExpressions.toArray(new AbstractValueExpression[0]);
+
+        this.groups = new int[this.valueExpressions.length];
+
+        StringBuilder regex = new StringBuilder();
+        boolean dollar = true;
+        int group = 1;
+        for (int i = 0; i < this.valueExpressions.length; i++) {
+            String expressionRegex = this.valueExpressions[i].getExpressionRegex();
+            if (i > 0) {
+                regex.append('|');
+            }
+            regex.append('(').append(expressionRegex).append(')');
+            this.groups[i] = group;
+            // 値表現式の正規表現式の中のグループ分、後続のグループ番号をずらす
+            group += Pattern.compile(expressionRegex).matcher("").groupCount() + 1;
+            dollar &= expressionRegex.contains("\\$");
+        }
+        // 値表現式が登録されていない場合は何にも一致しない
+        this.pattern = Pattern.compile(this.valueExpressions.length == 0 ? "(?!)" : regex.toString());
+        this.dollarRequired = dollar;
+    }
+
+    public static ValueExpressionScanner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 解析対象全体が一つの値表現式（$XXXX$）に一致する場合、その値表現式を返却する<br>
+     *
+     * @param value 解析対象文字列
+     * @return 一致する値表現式、存在しない場合はnull
+     */
+    public AbstractValueExpression matchWhole(String value) {
+        if (!mayContain(value)) {
+            return null;
+        }
+        Matcher matcher = this.pattern.matcher(value);
+        return matcher.matches() ? matchedValueExpression(matcher) : null;
+    }
+
+    /**
+     * 解析対象に値表現式（abc$XXXX$_$XXXX$def）が含まれる場合はtrue<br>
+     *
+     * @param value 解析対象文字列
+     * @return boolean
+     */
+    public boolean contains(String value) {
+        return mayContain(value) && this.pattern.matcher(value).find();
+    }
+
+    /**
+     * 解析対象の中の全ての値表現式の解析処理<br>
+     * 一度の走査で、値表現式の解析結果とその以外の文字列を連結する。解析結果は再走査しない。<br>
+     *
+     * @param value  解析対象文字列
+     * @param parser 値表現式解析用{@link ValueExpressionParser}
+     * @return 解析後文字列
+     */
+    public String resolveAll(String value, ValueExpressionParser parser) {
+        if (!mayContain(value)) {
+            return value;
+        }
+        Matcher matcher = this.pattern.matcher(value);
+        if (!matcher.find()) {
+            return value;
+        }
+
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        int lastEnd = 0;
+        do {
+            sb.append(value, lastEnd, matcher.start());
+            sb.append(matchedValueExpression(matcher).eval(matcher.group(), parser));
+            lastEnd = matcher.end();
+        } while (matcher.find());
+        sb.append(value, lastEnd, value.length());
+
+        return sb.toString();
+    }
+
+    private boolean mayContain(String value) {
+        return value != null && (!this.dollarRequired || value.indexOf('$') >= 0);
+    }
+
+    private AbstractValueExpression matchedValueExpression(Matcher matcher) {
+        for (int i = 0; i < this.valueExpressions.length; i++) {
+            if (matcher.start(this.groups[i]) >= 0) {
+                return this.valueExpressions[i];
+            }
+        }
+        throw new IllegalStateException("No value expression matched: " + matcher.group());
+    }
+}
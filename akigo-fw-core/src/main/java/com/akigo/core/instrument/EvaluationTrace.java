@@ -0,0 +1,119 @@
+/*
+ * EvaluationTrace.java
+ * Created on  2026/10/17 23:15
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+import java.beans.ConstructorProperties;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * サンプリングした一回の評価のトレースクラス<br>
+ * 演算子ごとの評価値を評価順（内側の演算子から順）に保持する。<br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class EvaluationTrace {
+
+    private final String engine;
+
+    private final String expression;
+
+    private final List<Step> steps;
+
+    private final String result;
+
+    private final String failure;
+
+    @ConstructorProperties({"engine", "expression", "steps", "result", "failure"})
+    public EvaluationTrace(String engine, String expression, List<Step> steps, String result, String failure) {
+        this.engine = engine;
+        this.expression = expression;
+        this.steps = Collections.unmodifiableList(steps);
+        this.result = result;
+        this.failure = failure;
+    }
+
+    public String getEngine() {
+        return this.engine;
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    public List<Step> getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * 評価結果<br>
+     *
+     * @return 評価結果、失敗した場合はnull
+     */
+    public String getResult() {
+        return this.result;
+    }
+
+    /**
+     * 失敗の原因<br>
+     *
+     * @return 例外の文字列表現、成功した場合はnull
+     */
+    public String getFailure() {
+        return this.failure;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(this.engine).append("] ").append(this.expression);
+        for (Step step : this.steps) {
+            sb.append(System.lineSeparator()).append("  ").append(step);
+        }
+        sb.append(System.lineSeparator()).append("  = ").append(this.failure == null ? this.result : this.failure);
+        return sb.toString();
+    }
+
+    /**
+     * 演算子一つの評価値<br>
+     */
+    public static final class Step {
+
+        private final String operator;
+
+        private final String operands;
+
+        private final String result;
+
+        @ConstructorProperties({"operator", "operands", "result"})
+        public Step(String operator, String operands, String result) {
+            this.operator = operator;
+            this.operands = operands;
+            this.result = result;
+        }
+
+        public String getOperator() {
+            return this.operator;
+        }
+
+        public String getOperands() {
+            return this.operands;
+        }
+
+        public String getResult() {
+            return this.result;
+        }
+
+        @Override
+        public String toString() {
+            return this.operator + " " + this.operands + " -> " + this.result;
+        }
+    }
+}
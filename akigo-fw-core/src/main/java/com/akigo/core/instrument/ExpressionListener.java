@@ -0,0 +1,86 @@
+/*
+ * ExpressionListener.java
+ * Created on  2026/10/17 23:00
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+/**
+ * 表現式の計測リスナー（SPI）<br>
+ * <pre>
+ * {@link Instrumentation#setListener(ExpressionListener)}、またはServiceLoader
+ * （META-INF/services/com.akigo.core.instrument.ExpressionListener）で登録する。
+ * 複数スレッドから同時に呼び出されるため、スレッドセーフに実装すること。
+ * 評価のたびに呼び出されるため、重い処理を行わないこと。
+ *
+ * 計測対象：
+ * ・AGEL表現式（{@link com.akigo.core.el.AGELParser}、{@link com.akigo.core.el.CompiledExpression}）
+ * ・計算式（{@link com.akigo.core.util.ArithmeticOperations}、{@link com.akigo.core.util.ArithmeticProgram}）
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public interface ExpressionListener {
+
+    /**
+     * 表現式の種類<br>
+     */
+    enum Engine {
+        /**
+         * AGEL表現式
+         */
+        AGEL,
+        /**
+         * 計算式
+         */
+        ARITHMETIC
+    }
+
+    /**
+     * コンパイル時の処理<br>
+     *
+     * @param engine     表現式の種類
+     * @param expression 表現式
+     * @param cacheHit   コンパイル済み表現式キャッシュに存在した場合はtrue
+     */
+    default void onCompile(Engine engine, String expression, boolean cacheHit) {
+    }
+
+    /**
+     * 評価開始時の処理<br>
+     * 演算子ごとの評価値を記録する場合は{@link ExpressionTracer}を返却する。
+     * トレースする評価は、演算子ごとの評価のため通常より遅くなるので、サンプリングすること。<br>
+     *
+     * @param engine     表現式の種類
+     * @param expression 表現式
+     * @return トレーサー、トレースしない場合はnull
+     */
+    default ExpressionTracer startTrace(Engine engine, String expression) {
+        return null;
+    }
+
+    /**
+     * 評価終了時の処理<br>
+     *
+     * @param engine       表現式の種類
+     * @param expression   表現式
+     * @param elapsedNanos 評価時間（ナノ秒）
+     * @param failure      評価に失敗した場合は例外、成功した場合はnull
+     */
+    default void onEvaluated(Engine engine, String expression, long elapsedNanos, Throwable failure) {
+    }
+
+    /**
+     * 短絡評価でオペランドの評価を省略した時の処理<br>
+     * （&&、||の右オペランド、三項演算子の選択されない分岐）<br>
+     *
+     * @param engine   表現式の種類
+     * @param operator オペレーターの符号
+     */
+    default void onSkipped(Engine engine, String operator) {
+    }
+}
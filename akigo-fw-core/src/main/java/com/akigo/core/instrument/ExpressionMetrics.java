@@ -0,0 +1,326 @@
+/*
+ * ExpressionMetrics.java
+ * Created on  2026/10/17 23:20
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+import com.akigo.core.exception.SystemException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 表現式の計測値を集計するリスナークラス<br>
+ * <pre>
+ * 以下を集計し、{@link #snapshot()}、{@link #getTraces()}、またはJMX（{@link #register()}）で参照できる。
+ * ・表現式ごとの評価回数、失敗回数、評価時間のヒストグラム（{@link LatencyHistogram}）
+ * ・コンパイル済み表現式キャッシュのヒット回数、ミス回数
+ * ・短絡評価でオペランドの評価を省略した回数（オペレーターごと）
+ * ・N回に一回サンプリングした評価の、演算子ごとの評価値（直近の一定件数のみ保持）
+ *
+ * 集計する表現式の種類数は上限件数までとし、上限を超えた表現式は"(other)"にまとめて集計する。
+ *
+ * システムプロパティ：
+ * ・akigo.instrument.maxExpressions：集計する表現式の上限件数（デフォルト：1000）
+ * ・akigo.instrument.traceInterval：トレースする評価の間隔（デフォルト：0、トレースしない）
+ * ・akigo.instrument.traceCapacity：保持するトレースの件数（デフォルト：100）
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public class ExpressionMetrics implements ExpressionListener, ExpressionMetricsMXBean {
+
+    /**
+     * JMXのオブジェクト名
+     */
+    public static final String OBJECT_NAME = "com.akigo.core:type=ExpressionMetrics";
+
+    /**
+     * 上限件数を超えた表現式の集計名
+     */
+    static final String OTHER_EXPRESSIONS = "(other)";
+
+    private final int maxExpressions;
+
+    private final int traceCapacity;
+
+    private volatile int traceInterval;
+
+    private final Map<Engine, Map<String, Entry>> entries = new EnumMap<>(Engine.class);
+
+    private final Map<Engine, Entry> otherEntries = new EnumMap<>(Engine.class);
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /**
+     * オペレーターの符号 → 評価を省略したオペランドの件数
+     */
+    private final Map<String, LongAdder> skippedCounts = new ConcurrentHashMap<>();
+
+    private final AtomicLong traceCounter = new AtomicLong();
+
+    private final Deque<EvaluationTrace> traces = new ArrayDeque<>();
+
+    public ExpressionMetrics() {
+        this(Integer.getInteger("akigo.instrument.maxExpressions", 1000),
+                Integer.getInteger("akigo.instrument.traceInterval", 0),
+                Integer.getInteger("akigo.instrument.traceCapacity", 100));
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param maxExpressions 集計する表現式の上限件数
+     * @param traceInterval  トレースする評価の間隔（N回に一回、0以下の場合はトレースしない）
+     * @param traceCapacity  保持するトレースの件数
+     */
+    public ExpressionMetrics(int maxExpressions, int traceInterval, int traceCapacity) {
+        this.maxExpressions = maxExpressions;
+        this.traceInterval = traceInterval;
+        this.traceCapacity = traceCapacity;
+        for (Engine engine : Engine.values()) {
+            this.entries.put(engine, new ConcurrentHashMap<>());
+            this.otherEntries.put(engine, new Entry());
+        }
+    }
+
+    @Override
+    public void onCompile(Engine engine, String expression, boolean cacheHit) {
+        (cacheHit ? this.cacheHits : this.cacheMisses).increment();
+    }
+
+    @Override
+    public ExpressionTracer startTrace(Engine engine, String expression) {
+        int interval = this.traceInterval;
+        if (interval <= 0 || this.traceCounter.incrementAndGet() % interval != 0) {
+            return null;
+        }
+        return new RecordingTracer(engine, expression);
+    }
+
+    @Override
+    public void onEvaluated(Engine engine, String expression, long elapsedNanos, Throwable failure) {
+        Entry entry = entryOf(engine, expression);
+        entry.histogram.record(elapsedNanos);
+        if (failure != null) {
+            entry.failures.increment();
+        }
+    }
+
+    @Override
+    public void onSkipped(Engine engine, String operator) {
+        LongAdder count = this.skippedCounts.get(operator);
+        if (count == null) {
+            count = this.skippedCounts.computeIfAbsent(operator, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    private Entry entryOf(Engine engine, String expression) {
+        Map<String, Entry> engineEntries = this.entries.get(engine);
+        Entry entry = engineEntries.get(expression);
+        if (entry != null) {
+            return entry;
+        }
+        if (engineEntries.size() >= this.maxExpressions) {
+            return this.otherEntries.get(engine);
+        }
+        return engineEntries.computeIfAbsent(expression, key -> new Entry());
+    }
+
+    /**
+     * 表現式ごとの評価統計の取得処理<br>
+     *
+     * @return 評価統計（合計評価時間の降順）
+     */
+    public List<ExpressionStatistics> snapshot() {
+        List<ExpressionStatistics> statistics = new ArrayList<>();
+        for (Engine engine : Engine.values()) {
+            for (Map.Entry<String, Entry> entry : this.entries.get(engine).entrySet()) {
+                statistics.add(entry.getValue().toStatistics(engine, entry.getKey()));
+            }
+            Entry other = this.otherEntries.get(engine);
+            if (other.histogram.getCount() > 0) {
+                statistics.add(other.toStatistics(engine, OTHER_EXPRESSIONS));
+            }
+        }
+        statistics.sort(Comparator.comparingLong(ExpressionStatistics::getTotalNanos).reversed());
+        return statistics;
+    }
+
+    @Override
+    public List<ExpressionStatistics> getExpressionStatistics() {
+        return snapshot();
+    }
+
+    @Override
+    public List<EvaluationTrace> getTraces() {
+        synchronized (this.traces) {
+            return new ArrayList<>(this.traces);
+        }
+    }
+
+    @Override
+    public long getEvaluationCount() {
+        long count = 0;
+        for (Engine engine : Engine.values()) {
+            for (Entry entry : this.entries.get(engine).values()) {
+                count += entry.histogram.getCount();
+            }
+            count += this.otherEntries.get(engine).histogram.getCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getCompileCacheHitCount() {
+        return this.cacheHits.sum();
+    }
+
+    @Override
+    public long getCompileCacheMissCount() {
+        return this.cacheMisses.sum();
+    }
+
+    @Override
+    public Map<String, Long> getSkippedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        this.skippedCounts.forEach((operator, count) -> counts.put(operator, count.sum()));
+        return counts;
+    }
+
+    /**
+     * 評価を省略したオペランドの件数の取得処理<br>
+     *
+     * @param operator オペレーターの符号
+     * @return 件数
+     */
+    public long getSkippedCount(String operator) {
+        LongAdder count = this.skippedCounts.get(operator);
+        return count == null ? 0L : count.sum();
+    }
+
+    @Override
+    public int getTraceInterval() {
+        return this.traceInterval;
+    }
+
+    @Override
+    public void setTraceInterval(int traceInterval) {
+        this.traceInterval = traceInterval;
+    }
+
+    @Override
+    public void reset() {
+        for (Engine engine : Engine.values()) {
+            this.entries.get(engine).clear();
+            this.otherEntries.put(engine, new Entry());
+        }
+        this.cacheHits.reset();
+        this.cacheMisses.reset();
+        this.skippedCounts.clear();
+        synchronized (this.traces) {
+            this.traces.clear();
+        }
+    }
+
+    /**
+     * JMXへの登録処理<br>
+     * {@link #OBJECT_NAME}で、プラットフォームMBeanサーバーに登録する。既に登録済みの場合は置き換える。<br>
+     */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            throw new SystemException("ExpressionMetricsのJMX登録に失敗しました。", e);
+        }
+    }
+
+    /**
+     * JMXからの登録解除処理<br>
+     */
+    public void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new SystemException("ExpressionMetricsのJMX登録解除に失敗しました。", e);
+        }
+    }
+
+    private void addTrace(EvaluationTrace trace) {
+        if (this.traceCapacity <= 0) {
+            return;
+        }
+        synchronized (this.traces) {
+            if (this.traces.size() >= this.traceCapacity) {
+                this.traces.pollFirst();
+            }
+            this.traces.addLast(trace);
+        }
+    }
+
+    private static final class Entry {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private final LongAdder failures = new LongAdder();
+
+        private ExpressionStatistics toStatistics(Engine engine, String expression) {
+            return ExpressionStatistics.of(engine, expression, this.histogram, this.failures.sum());
+        }
+    }
+
+    private final class RecordingTracer implements ExpressionTracer {
+
+        private final Engine engine;
+
+        private final String expression;
+
+        private final List<EvaluationTrace.Step> steps = new ArrayList<>();
+
+        private RecordingTracer(Engine engine, String expression) {
+            this.engine = engine;
+            this.expression = expression;
+        }
+
+        @Override
+        public void step(String operator, String operands, Object result) {
+            this.steps.add(new EvaluationTrace.Step(operator, operands, String.valueOf(result)));
+        }
+
+        @Override
+        public void finish(Object result, Throwable failure) {
+            addTrace(new EvaluationTrace(this.engine.name(), this.expression, this.steps,
+                    failure == null ? String.valueOf(result) : null, failure == null ? null : failure.toString()));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * ExpressionMetricsMXBean.java
+ * Created on  2026/10/17 23:20
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ExpressionMetrics}のJMXインターフェース<br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public interface ExpressionMetricsMXBean {
+
+    /**
+     * 表現式ごとの評価統計（合計評価時間の降順）<br>
+     *
+     * @return 評価統計
+     */
+    List<ExpressionStatistics> getExpressionStatistics();
+
+    /**
+     * 直近にサンプリングした評価のトレース（古い順）<br>
+     *
+     * @return トレース
+     */
+    List<EvaluationTrace> getTraces();
+
+    long getEvaluationCount();
+
+    long getCompileCacheHitCount();
+
+    long getCompileCacheMissCount();
+
+    /**
+     * 短絡評価でオペランドの評価を省略した回数（オペレーターの符号 → 件数）<br>
+     *
+     * @return 件数
+     */
+    Map<String, Long> getSkippedCounts();
+
+    /**
+     * トレースする評価の間隔（N回に一回、0以下の場合はトレースしない）<br>
+     *
+     * @return 間隔
+     */
+    int getTraceInterval();
+
+    void setTraceInterval(int traceInterval);
+
+    /**
+     * 計測値のクリア処理<br>
+     */
+    void reset();
+}
@@ -0,0 +1,120 @@
+/*
+ * ExpressionStatistics.java
+ * Created on  2026/10/17 23:15
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * 表現式ごとの評価統計（スナップショット）クラス<br>
+ * 時間の単位は全てナノ秒。<br>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ExpressionStatistics {
+
+    private final String engine;
+
+    private final String expression;
+
+    private final long count;
+
+    private final long failureCount;
+
+    private final long totalNanos;
+
+    private final double meanNanos;
+
+    private final long p50Nanos;
+
+    private final long p90Nanos;
+
+    private final long p99Nanos;
+
+    private final long maxNanos;
+
+    @ConstructorProperties({"engine", "expression", "count", "failureCount", "totalNanos", "meanNanos",
+            "p50Nanos", "p90Nanos", "p99Nanos", "maxNanos"})
+    public ExpressionStatistics(String engine, String expression, long count, long failureCount, long totalNanos,
+                                double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+        this.engine = engine;
+        this.expression = expression;
+        this.count = count;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    static ExpressionStatistics of(ExpressionListener.Engine engine, String expression, LatencyHistogram histogram, long failureCount) {
+        return new ExpressionStatistics(engine.name(), expression, histogram.getCount(), failureCount, histogram.getTotal(),
+                histogram.getMean(), histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getMax());
+    }
+
+    /**
+     * 表現式の種類（{@link ExpressionListener.Engine}の名前）<br>
+     *
+     * @return 表現式の種類
+     */
+    public String getEngine() {
+        return this.engine;
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    /**
+     * 評価回数（失敗を含む）<br>
+     *
+     * @return 評価回数
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    public long getFailureCount() {
+        return this.failureCount;
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    public double getMeanNanos() {
+        return this.meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return this.p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return this.p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return this.p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] %s count=%d failure=%d mean=%.0fns p50=%dns p90=%dns p99=%dns max=%dns",
+                this.engine, this.expression, this.count, this.failureCount, this.meanNanos,
+                this.p50Nanos, this.p90Nanos, this.p99Nanos, this.maxNanos);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * ExpressionTracer.java
+ * Created on  2026/10/17 23:00
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+/**
+ * 表現式の評価トレーサー<br>
+ * <pre>
+ * {@link ExpressionListener#startTrace}が返却し、一回の評価の中で演算子を評価するたびに呼び出される。
+ * 評価は一つのスレッドで行うため、スレッドセーフである必要はない。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public interface ExpressionTracer {
+
+    /**
+     * 演算子の評価時の処理<br>
+     *
+     * @param operator 演算子（例：+、==、substring）
+     * @param operands オペランド（AGEL表現式の場合は構文木、計算式の場合は値）の文字列表現
+     * @param result   評価値
+     */
+    void step(String operator, String operands, Object result);
+
+    /**
+     * 評価終了時の処理<br>
+     *
+     * @param result  評価結果、失敗した場合はnull
+     * @param failure 評価に失敗した場合は例外、成功した場合はnull
+     */
+    void finish(Object result, Throwable failure);
+}
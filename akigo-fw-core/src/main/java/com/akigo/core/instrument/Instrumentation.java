@@ -0,0 +1,84 @@
+/*
+ * Instrumentation.java
+ * Created on  2026/10/17 23:05
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.instrument;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * 表現式の計測の登録クラス<br>
+ * <pre>
+ * 登録したリスナー{@link ExpressionListener}に、表現式のコンパイル、評価を通知する。
+ * リスナー未登録の場合（デフォルト）、評価ごとのコストはvolatileフィールドの参照一回のみ。
+ *
+ * リスナーの登録方法（いずれか）：
+ * ・{@link #setListener(ExpressionListener)}
+ * ・システムプロパティ"akigo.instrument.metrics"がtrueの場合、{@link ExpressionMetrics}を登録し、
+ *   JMX（{@link ExpressionMetrics#OBJECT_NAME}）に公開する
+ * ・ServiceLoader（META-INF/services/com.akigo.core.instrument.ExpressionListener）で最初に見つかったリスナー
+ *
+ * 使用例：
+ * {@code
+ *      ExpressionMetrics metrics = new ExpressionMetrics();
+ *      Instrumentation.setListener(metrics);
+ *      ...
+ *      List<ExpressionStatistics> statistics = metrics.snapshot();
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class Instrumentation {
+
+    private static volatile ExpressionListener listener;
+
+    static {
+        if (Boolean.getBoolean("akigo.instrument.metrics")) {
+            ExpressionMetrics metrics = new ExpressionMetrics();
+            metrics.register();
+            listener = metrics;
+        } else {
+            Iterator<ExpressionListener> listeners = ServiceLoader.load(ExpressionListener.class).iterator();
+            if (listeners.hasNext()) {
+                listener = listeners.next();
+            }
+        }
+    }
+
+    private Instrumentation() {
+    }
+
+    /**
+     * リスナーの取得処理<br>
+     *
+     * @return リスナー、計測しない場合はnull
+     */
+    public static ExpressionListener getListener() {
+        return listener;
+    }
+
+    /**
+     * リスナーの登録処理<br>
+     *
+     * @param expressionListener リスナー、nullの場合は計測を停止する
+     */
+    public static void setListener(ExpressionListener expressionListener) {
+        listener = expressionListener;
+    }
+
+    /**
+     * 計測する場合はtrue<br>
+     *
+     * @return boolean
+     */
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+}
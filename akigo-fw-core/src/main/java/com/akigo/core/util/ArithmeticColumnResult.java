@@ -0,0 +1,204 @@
+/*
+ * ArithmeticColumnResult.java
+ * Created on  2026/10/17 21:30
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 計算式の列形式の計算結果クラス<br>
+ * <pre>
+ * 行ごとの計算結果と有効ビットマップ（行番号のビットが1の場合は有効）を保持する。
+ * 無効な行の計算結果はnull（{@link #getDecimal(int)}）、またはNaN（{@link #getDouble(int)}）とする。
+ *
+ * 計算結果は評価方法により、以下のいずれかで保持する。
+ * ・long[]（整数値） + スケール：全ての変数がlong[]の列の場合のevalColumns（オーバーフローした行のみ{@link BigDecimal}で保持）
+ * ・BigDecimal[]：上記以外のevalColumns
+ * ・double[]：evalColumnsAsDouble
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ArithmeticColumnResult {
+
+    private final int rowCount;
+
+    /**
+     * 有効ビットマップ（64行ごとに一つのlong）
+     */
+    private final long[] validity;
+
+    private final long[] unscaledValues;
+
+    private final int scale;
+
+    /**
+     * long[]で保持する場合の、{@link BigDecimal}で計算し直した行
+     */
+    private final Map<Integer, BigDecimal> overflowValues;
+
+    private final BigDecimal[] decimals;
+
+    private final double[] doubles;
+
+    private ArithmeticColumnResult(int rowCount, long[] unscaledValues, int scale, BigDecimal[] decimals, double[] doubles) {
+        this.rowCount = rowCount;
+        this.validity = new long[(rowCount + 63) >>> 6];
+        for (int i = 0; i < this.validity.length; i++) {
+            this.validity[i] = -1L;
+        }
+        if ((rowCount & 63) != 0) {
+            this.validity[this.validity.length - 1] = (1L << (rowCount & 63)) - 1;
+        }
+        this.unscaledValues = unscaledValues;
+        this.scale = scale;
+        this.overflowValues = unscaledValues == null ? null : new ConcurrentHashMap<>();
+        this.decimals = decimals;
+        this.doubles = doubles;
+    }
+
+    static ArithmeticColumnResult ofLongs(int rowCount, int scale) {
+        return new ArithmeticColumnResult(rowCount, new long[rowCount], scale, null, null);
+    }
+
+    static ArithmeticColumnResult ofDecimals(int rowCount) {
+        return new ArithmeticColumnResult(rowCount, null, 0, new BigDecimal[rowCount], null);
+    }
+
+    static ArithmeticColumnResult ofDoubles(int rowCount) {
+        return new ArithmeticColumnResult(rowCount, null, 0, null, new double[rowCount]);
+    }
+
+    long[] getUnscaledValues() {
+        return this.unscaledValues;
+    }
+
+    BigDecimal[] getDecimals() {
+        return this.decimals;
+    }
+
+    double[] getDoubles() {
+        return this.doubles;
+    }
+
+    void setOverflowValue(int row, BigDecimal value) {
+        this.overflowValues.put(row, value);
+    }
+
+    /**
+     * 行を無効にする処理<br>
+     * 並列評価では、64行単位の範囲ごとに一つのスレッドから呼び出すこと。<br>
+     *
+     * @param row 行番号
+     */
+    void invalidate(int row) {
+        this.validity[row >>> 6] &= ~(1L << row);
+    }
+
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * 有効な行の場合はtrue<br>
+     *
+     * @param row 行番号
+     * @return boolean
+     */
+    public boolean isValid(int row) {
+        if (row < 0 || row >= this.rowCount) {
+            throw new IndexOutOfBoundsException("row: " + row + ", rowCount: " + this.rowCount);
+        }
+        return (this.validity[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * 有効ビットマップの取得処理<br>
+     *
+     * @return 有効ビットマップ（コピー）
+     */
+    public BitSet getValidity() {
+        return BitSet.valueOf(this.validity);
+    }
+
+    /**
+     * 無効な行数の取得処理<br>
+     *
+     * @return 無効な行数
+     */
+    public int getInvalidCount() {
+        int validCount = 0;
+        for (long word : this.validity) {
+            validCount += Long.bitCount(word);
+        }
+        return this.rowCount - validCount;
+    }
+
+    /**
+     * 計算結果の取得処理<br>
+     *
+     * @param row 行番号
+     * @return 計算結果、無効な行の場合はnull
+     */
+    public BigDecimal getDecimal(int row) {
+        if (!isValid(row)) {
+            return null;
+        }
+        if (this.unscaledValues != null) {
+            BigDecimal value = this.overflowValues.isEmpty() ? null : this.overflowValues.get(row);
+            return value != null ? value : BigDecimal.valueOf(this.unscaledValues[row], this.scale);
+        }
+        if (this.decimals != null) {
+            return this.decimals[row];
+        }
+        return BigDecimal.valueOf(this.doubles[row]);
+    }
+
+    /**
+     * 計算結果の取得処理<br>
+     *
+     * @param row 行番号
+     * @return 計算結果、無効な行の場合はNaN
+     */
+    public double getDouble(int row) {
+        if (!isValid(row)) {
+            return Double.NaN;
+        }
+        return this.doubles != null ? this.doubles[row] : getDecimal(row).doubleValue();
+    }
+
+    /**
+     * 全ての計算結果の取得処理<br>
+     *
+     * @return 計算結果の配列（無効な行はnull）
+     */
+    public BigDecimal[] toDecimalArray() {
+        BigDecimal[] values = new BigDecimal[this.rowCount];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDecimal(i);
+        }
+        return values;
+    }
+
+    /**
+     * 全ての計算結果の取得処理<br>
+     *
+     * @return 計算結果の配列（無効な行はNaN）
+     */
+    public double[] toDoubleArray() {
+        double[] values = new double[this.rowCount];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDouble(i);
+        }
+        return values;
+    }
+}
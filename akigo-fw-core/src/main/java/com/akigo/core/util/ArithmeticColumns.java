@@ -0,0 +1,176 @@
+/*
+ * ArithmeticColumns.java
+ * Created on  2026/10/17 21:30
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import com.akigo.core.exception.SystemException;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 計算式の列形式の入力クラス<br>
+ * <pre>
+ * 計算式の変数ごとに、全行の値を一つの配列（列）で指定する。配列はコピーせずに参照する。
+ * 全ての列は同じ行数であること。
+ *
+ * 列の種類：
+ * ・long[]：スケールを指定した整数値（値は{@code BigDecimal.valueOf(column[i], scale)}）
+ * ・double[]：NaNの行は無効とする
+ * ・BigDecimal[]：nullの行は無効とする
+ *
+ * 評価（{@link ArithmeticProgram#evalColumns}、{@link ArithmeticProgram#evalColumnsAsDouble}）は、
+ * 行を一定数ずつのブロックに分け、計算式の命令ごとにブロック内の全行を計算するループで行う。
+ * 並列評価を指定した場合、ブロックをFork/Join（{@link java.util.concurrent.ForkJoinPool#commonPool()}）で分割して評価する。
+ *
+ * ・evalColumns：計算結果は行ごとの{@link ArithmeticProgram#eval(BigDecimal...)}と同じ。
+ *   全ての変数がlong[]の列の場合、各命令をlongの配列で計算し、オーバーフローした行のみ{@link BigDecimal}で計算し直す。
+ * ・evalColumnsAsDouble：全ての値をdoubleに変換し、doubleで計算する（丸め誤差を含む）。
+ *
+ * 無効な値（null、NaN）を含む行、または計算できない行（0除算など）は例外をスローせず、
+ * 計算結果の有効ビットマップ（{@link ArithmeticColumnResult#isValid(int)}）で無効とする。
+ *
+ * 使用例：
+ * {@code
+ *      ArithmeticColumns columns = new ArithmeticColumns()
+ *              .put("a", amounts, 2)
+ *              .put("b", rates)
+ *              .put("c", adjustments);
+ *      ArithmeticColumnResult result = ArithmeticOperations.compile("(a + b) * c / 100").evalColumns(columns, true);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ArithmeticColumns {
+
+    private final Map<String, Column> columns = new HashMap<>();
+
+    private int rowCount = -1;
+
+    /**
+     * long[]の列の設定処理<br>
+     *
+     * @param name   変数名
+     * @param column 整数値の列
+     * @param scale  スケール
+     * @return 当該インスタンス
+     */
+    public ArithmeticColumns put(String name, long[] column, int scale) {
+        return put(name, new Column(Objects.requireNonNull(column), scale, null, null), column.length);
+    }
+
+    /**
+     * double[]の列の設定処理<br>
+     *
+     * @param name   変数名
+     * @param column 値の列
+     * @return 当該インスタンス
+     */
+    public ArithmeticColumns put(String name, double[] column) {
+        return put(name, new Column(null, 0, Objects.requireNonNull(column), null), column.length);
+    }
+
+    /**
+     * BigDecimal[]の列の設定処理<br>
+     *
+     * @param name   変数名
+     * @param column 値の列
+     * @return 当該インスタンス
+     */
+    public ArithmeticColumns put(String name, BigDecimal[] column) {
+        return put(name, new Column(null, 0, null, Objects.requireNonNull(column)), column.length);
+    }
+
+    private ArithmeticColumns put(String name, Column column, int length) {
+        Objects.requireNonNull(name);
+        if (this.rowCount >= 0 && this.rowCount != length) {
+            throw new SystemException("Column:" + name + "の行数（" + length + "）が他の列の行数（" + this.rowCount + "）と一致しません。");
+        }
+        this.columns.put(name, column);
+        this.rowCount = length;
+        return this;
+    }
+
+    /**
+     * 行数の取得処理<br>
+     *
+     * @return 行数、列が存在しない場合は0
+     */
+    public int getRowCount() {
+        return Math.max(this.rowCount, 0);
+    }
+
+    Column getColumn(String name) {
+        return this.columns.get(name);
+    }
+
+    /**
+     * 列（long[]、double[]、BigDecimal[]のいずれか）<br>
+     */
+    static final class Column {
+
+        final long[] longs;
+
+        final int scale;
+
+        /**
+         * long[]の列の整数値をdoubleに変換する除数（10のscale乗）
+         */
+        final double divisor;
+
+        final double[] doubles;
+
+        final BigDecimal[] decimals;
+
+        private Column(long[] longs, int scale, double[] doubles, BigDecimal[] decimals) {
+            this.longs = longs;
+            this.scale = scale;
+            this.divisor = Math.pow(10, scale);
+            this.doubles = doubles;
+            this.decimals = decimals;
+        }
+
+        /**
+         * 行の値の取得処理<br>
+         *
+         * @param row 行番号
+         * @return 値、無効な値の場合はnull
+         */
+        BigDecimal getDecimal(int row) {
+            if (this.longs != null) {
+                return BigDecimal.valueOf(this.longs[row], this.scale);
+            }
+            if (this.doubles != null) {
+                double value = this.doubles[row];
+                return Double.isNaN(value) || Double.isInfinite(value) ? null : BigDecimal.valueOf(value);
+            }
+            return this.decimals[row];
+        }
+
+        /**
+         * 行の値の取得処理<br>
+         *
+         * @param row 行番号
+         * @return 値、無効な値の場合はNaN
+         */
+        double getDouble(int row) {
+            if (this.longs != null) {
+                return this.longs[row] / this.divisor;
+            }
+            if (this.doubles != null) {
+                return this.doubles[row];
+            }
+            BigDecimal value = this.decimals[row];
+            return value == null ? Double.NaN : value.doubleValue();
+        }
+    }
+}
@@ -1,121 +1,109 @@
 package com.akigo.core.util;
 
 import com.akigo.core.exception.SystemException;
+import com.akigo.core.instrument.ExpressionListener;
+import com.akigo.core.instrument.Instrumentation;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.Serializable;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class ArithmeticOperations {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ArithmeticOperations.class);
 
-    @FunctionalInterface
-    private interface CalcStrategy extends Serializable {
-        void calc(Stack<BigDecimal> numStack, Stack<Operator> opStack);
-    }
+    /**
+     * コンパイル済み計算式キャッシュの最大件数
+     */
+    private static final int PROGRAM_CACHE_SIZE = 1024;
+
+    private static final BoundedCache<String, ArithmeticProgram> PROGRAM_CACHE = new BoundedCache<>(PROGRAM_CACHE_SIZE);
 
     private enum Operator {
         /**
          * 足算
          */
-        PLUS("+", 1, (numStack, opStack) -> {
-            BigDecimal o2 = numStack.pop();
-            BigDecimal o1 = numStack.pop();
-
-            BigDecimal result = o1.add(o2);
-
-            LOGGER.debug("{} + {} = {}", o1.toPlainString(), o2.toPlainString(), result);
-
-            numStack.push(result);
-        }),
+        PLUS("+", 1, ArithmeticProgram.PLUS),
         /**
          * 引算
          */
-        SUB("-", 1, (numStack, opStack) -> {
-            BigDecimal o2 = numStack.pop();
-            BigDecimal o1 = numStack.pop();
-
-            BigDecimal result = o1.subtract(o2);
-
-            LOGGER.debug("{} - {} = {}", o1.toPlainString(), o2.toPlainString(), result);
-
-            numStack.push(result);
-        }),
+        SUB("-", 1, ArithmeticProgram.SUB),
         /**
          * 掛算
          */
-        MULTI("*", 2, (numStack, opStack) -> {
-            BigDecimal o2 = numStack.pop();
-            BigDecimal o1 = numStack.pop();
-
-            BigDecimal result = o1.multiply(o2);
-
-            LOGGER.debug("{} * {} = {}", o1.toPlainString(), o2.toPlainString(), result);
-
-            numStack.push(result);
-        }),
+        MULTI("*", 2, ArithmeticProgram.MULTI),
         /**
          * 割算
          */
-        DIV("/", 2, (numStack, opStack) -> {
-            BigDecimal o2 = numStack.pop();
-            BigDecimal o1 = numStack.pop();
-
-            int scale = o1.scale() > o2.scale() ? o1.scale() : o2.scale();
-
-            BigDecimal result = o1.divide(o2, scale, RoundingMode.HALF_DOWN);
-
-            LOGGER.debug("{} / {} = {}  scale: {}", o1.toPlainString(), o2.toPlainString(), result, scale);
-
-            numStack.push(result);
-        }),
+        DIV("/", 2, ArithmeticProgram.DIV),
         /**
          * 左括弧
          */
-        LEFT_PARENTHESIS("(", 3, (numStack, opStack) -> {
-            // 何もしない
-        }),
+        LEFT_PARENTHESIS("(", 3, (byte) -1),
         /**
          * 右括弧
          */
-        RIGHT_PARENTHESIS(")", 3, (numStack, opStack) -> {
-            Operator lastOp;
-            while ((lastOp = opStack.pop()) != LEFT_PARENTHESIS) {
-                lastOp.calc(numStack, opStack);
+        RIGHT_PARENTHESIS(")", 3, (byte) -1);
+
+        private static final Map<String, Operator> OPERATOR_MAP = new HashMap<>();
+
+        static {
+            for (Operator op : values()) {
+                OPERATOR_MAP.put(op.operator, op);
             }
-        });
+        }
 
         @Getter
         private String operator;
         @Getter
         private int priority;
-        private CalcStrategy calcFunc;
-
-        public static Optional<Operator> of(String operator) {
-            return Arrays.stream(Operator.values()).filter(op -> op.getOperator().equals(operator))
-                    .findFirst();
-        }
+        private byte code;
 
-        Operator(String operator, int priority,
-                 CalcStrategy calcFunc) {
+        Operator(String operator, int priority, byte code) {
             this.operator = operator;
             this.priority = priority;
-            this.calcFunc = calcFunc;
+            this.code = code;
         }
+    }
 
-        public void calc(Stack<BigDecimal> numStack, Stack<Operator> opStack) {
-            try {
-                this.calcFunc.calc(numStack, opStack);
-            } catch (Exception e) {
-                throw new SystemException("ArithmeticOperations evaluation is failed.", e);
+    /**
+     * 計算式のコンパイル処理<br>
+     * <pre>
+     * 計算式を一度だけ解析し、変数を位置（スロット）で参照する不変の計算式を生成する。
+     * コンパイル済み計算式はキャッシュされ、同じ計算式を再度コンパイルしない。
+     * 計算式の書式は{@link #eval(String)}と同じ。数値以外の単語は変数とする。
+     * </pre>
+     *
+     * @param calcExpression 計算式文字列（例：(a + b) * c / 100）
+     * @return コンパイル済み計算式
+     */
+    public static ArithmeticProgram compile(String calcExpression) {
+        Objects.requireNonNull(calcExpression);
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            ArithmeticProgram cached = PROGRAM_CACHE.get(calcExpression);
+            listener.onCompile(ExpressionListener.Engine.ARITHMETIC, calcExpression, cached != null);
+            if (cached != null) {
+                return cached;
             }
         }
+        return PROGRAM_CACHE.computeIfAbsent(calcExpression, ArithmeticOperations::compileProgram);
+    }
+
+    /**
+     * 計算式の列形式の実行処理<br>
+     * 詳細は{@link ArithmeticColumns}を参照。<br>
+     *
+     * @param calcExpression 計算式文字列（例：(a + b) * c / 100）
+     * @param columns        変数名 → 列
+     * @param parallel       並列評価する場合はtrue
+     * @return 計算結果の列
+     */
+    public static ArithmeticColumnResult evalColumns(String calcExpression, ArithmeticColumns columns, boolean parallel) {
+        return compile(calcExpression).evalColumns(columns, parallel);
     }
 
     /**
@@ -125,44 +113,60 @@ public class ArithmeticOperations {
      * @return 計算式実行結果{@link BigDecimal}
      */
     public BigDecimal eval(String calcExpression) {
+        ArithmeticProgram program = compile(calcExpression);
+        if (!program.getVariableNames().isEmpty()) {
+            throw new SystemException(String.format("[%s] is not a number.", program.getVariableNames().get(0)));
+        }
+
+        BigDecimal result = program.eval();
+
+        LOGGER.debug("eval result:{}", result);
+
+        return result;
+    }
+
+    private static ArithmeticProgram compileProgram(String calcExpression) {
         // 計算式文字列解析
         List<String> elements = parseCalcExpression(calcExpression);
 
-        Stack<BigDecimal> numStack = new Stack<>();
+        ProgramBuilder builder = new ProgramBuilder();
         Stack<Operator> opStack = new Stack<>();
 
         for (String ele : elements) {
-            Optional<Operator> op = Operator.of(ele);
-            if (op.isPresent()) {
-                if (op.get() == Operator.RIGHT_PARENTHESIS) {
-                    op.get().calc(numStack, opStack);
-                } else {
-                    while (!opStack.isEmpty() &&
-                            op.get().getPriority() <= opStack.peek().getPriority() &&
-                            opStack.peek() != Operator.LEFT_PARENTHESIS) {
-                        Operator peekOp = opStack.pop();
-                        peekOp.calc(numStack, opStack);
-                    }
-                    opStack.push(op.get());
+            Operator op = Operator.OPERATOR_MAP.get(ele);
+            if (op == Operator.RIGHT_PARENTHESIS) {
+                Operator lastOp;
+                while ((lastOp = popOperator(opStack)) != Operator.LEFT_PARENTHESIS) {
+                    builder.operator(lastOp);
                 }
-            } else {
-                try {
-                    numStack.push(new BigDecimal(ele));
-                } catch (NumberFormatException e) {
-                    throw new SystemException(String.format("[%s] is not a number.", ele), e);
+            } else if (op != null) {
+                while (!opStack.isEmpty() &&
+                        op.getPriority() <= opStack.peek().getPriority() &&
+                        opStack.peek() != Operator.LEFT_PARENTHESIS) {
+                    builder.operator(opStack.pop());
                 }
+                opStack.push(op);
+            } else {
+                builder.operand(ele);
             }
         }
 
         while (!opStack.isEmpty()) {
-            opStack.pop().calc(numStack, opStack);
+            Operator op = opStack.pop();
+            // 閉じていない左括弧は無視する
+            if (op != Operator.LEFT_PARENTHESIS) {
+                builder.operator(op);
+            }
         }
 
-        BigDecimal result = numStack.peek();
-
-        LOGGER.debug("eval result:{}", result.toPlainString());
+        return builder.build(calcExpression);
+    }
 
-        return result;
+    private static Operator popOperator(Stack<Operator> opStack) {
+        if (opStack.isEmpty()) {
+            throw new SystemException("ArithmeticOperations evaluation is failed.");
+        }
+        return opStack.pop();
     }
 
     /**
@@ -178,19 +182,14 @@ public class ArithmeticOperations {
      * @param calcExpression 計算式文字列
      * @return 解析後のすべて計算式元素のリスト
      */
-    private List<String> parseCalcExpression(String calcExpression) {
-
-        LOGGER.debug("before parse:{}", calcExpression);
-
+    private static List<String> parseCalcExpression(String calcExpression) {
         List<String> calcElements = new ArrayList<>();
-        List<String> opList = Arrays.stream(Operator.values()).map(Operator::getOperator).collect(
-                Collectors.toList());
 
         String parseStr = calcExpression.trim();
         int idxPointer = 0;
         for (int i = 0; i < parseStr.length(); i++) {
             String tempStr = String.valueOf(parseStr.charAt(i));
-            if (opList.contains(tempStr)) {
+            if (Operator.OPERATOR_MAP.containsKey(tempStr)) {
                 // "-"の直後は半角スペースのある場合は、引算と看做されて、半角スペースのない場合は、マイナス数字と看做される
                 if (i != 0) {
                     String subStr = parseStr.substring(idxPointer, i).trim();
@@ -225,18 +224,96 @@ public class ArithmeticOperations {
             calcElementsMerged.add(negativeSignOfBefore);
         }
 
-        LOGGER.debug("after parse:{}", calcElementsMerged);
-
         return calcElementsMerged;
     }
 
-    private boolean isNegativeSign(String str, LinkedList<String> calcElements) {
-        // "-"の直前は"+"、 または"-"、 または"*"、 または"/"、 または"(" の場合、マイナス符号と看做される
+    private static boolean isNegativeSign(String str, LinkedList<String> calcElements) {
+        // "-"の直前は"+"、 または"-"、 または"*"、 または"/"、 または"(" の場合、または計算式の先頭の場合、マイナス符号と看做される
+        String last = calcElements.peekLast();
         return str.equals(Operator.SUB.getOperator()) &&
-                (calcElements.peekLast().equals(Operator.PLUS.getOperator()) ||
-                        calcElements.peekLast().equals(Operator.SUB.getOperator()) ||
-                        calcElements.peekLast().equals(Operator.MULTI.getOperator()) ||
-                        calcElements.peekLast().equals(Operator.DIV.getOperator()) ||
-                        calcElements.peekLast().equals(Operator.LEFT_PARENTHESIS.getOperator()));
+                (last == null ||
+                        last.equals(Operator.PLUS.getOperator()) ||
+                        last.equals(Operator.SUB.getOperator()) ||
+                        last.equals(Operator.MULTI.getOperator()) ||
+                        last.equals(Operator.DIV.getOperator()) ||
+                        last.equals(Operator.LEFT_PARENTHESIS.getOperator()));
+    }
+
+    private static boolean isVariableName(String str) {
+        if (str.isEmpty() || !Character.isLetter(str.charAt(0)) && str.charAt(0) != '_') {
+            return false;
+        }
+        for (int i = 1; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 逆ポーランド記法の命令列の生成クラス<br>
+     */
+    private static final class ProgramBuilder {
+
+        private final ByteArrayOutputStream codes = new ByteArrayOutputStream();
+
+        private final List<Integer> arguments = new ArrayList<>();
+
+        private final List<BigDecimal> constants = new ArrayList<>();
+
+        private final List<String> variableNames = new ArrayList<>();
+
+        private int depth;
+
+        private int maxDepth;
+
+        private void operand(String ele) {
+            boolean negated = ele.startsWith(Operator.SUB.getOperator());
+            String name = negated ? ele.substring(1) : ele;
+            if (isVariableName(name)) {
+                int slot = this.variableNames.indexOf(name);
+                if (slot < 0) {
+                    slot = this.variableNames.size();
+                    this.variableNames.add(name);
+                }
+                add(negated ? ArithmeticProgram.NEGATED_VARIABLE : ArithmeticProgram.VARIABLE, slot);
+            } else {
+                try {
+                    this.constants.add(new BigDecimal(ele));
+                } catch (NumberFormatException e) {
+                    throw new SystemException(String.format("[%s] is not a number.", ele), e);
+                }
+                add(ArithmeticProgram.CONSTANT, this.constants.size() - 1);
+            }
+            this.depth++;
+            this.maxDepth = Math.max(this.maxDepth, this.depth);
+        }
+
+        private void operator(Operator op) {
+            if (this.depth < 2) {
+                throw new SystemException("ArithmeticOperations evaluation is failed.");
+            }
+            add(op.code, 0);
+            this.depth--;
+        }
+
+        private void add(byte code, int argument) {
+            this.codes.write(code);
+            this.arguments.add(argument);
+        }
+
+        private ArithmeticProgram build(String calcExpression) {
+            if (this.depth < 1) {
+                throw new SystemException("ArithmeticOperations evaluation is failed.");
+            }
+            int[] args = new int[this.arguments.size()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = this.arguments.get(i);
+            }
+            return new ArithmeticProgram(calcExpression, this.codes.toByteArray(), args,
+                    this.constants.toArray(new BigDecimal[0]), this.variableNames.toArray(new String[0]), this.maxDepth);
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,605 @@
+/*
+ * ArithmeticProgram.java
+ * Created on  2026/10/17 20:40
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import com.akigo.core.exception.SystemException;
+import com.akigo.core.instrument.ExpressionListener;
+import com.akigo.core.instrument.ExpressionTracer;
+import com.akigo.core.instrument.Instrumentation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * コンパイル済み計算式クラス<br>
+ * <pre>
+ * {@link ArithmeticOperations#compile(String)}で計算式を一度だけ解析した結果（逆ポーランド記法の命令列）を保持する。
+ * 不変オブジェクトなので、複数スレッドで共有して評価できる。
+ *
+ * 変数：計算式中の数値以外の単語（英字または"_"で始まる英数字、"_"、"."）は変数とし、
+ * 出現順に位置（スロット）を割り当てる。"-a"のようにマイナス符号を付けることもできる。
+ *
+ * 計算方法：
+ * ・{@link MathContext}未指定の場合（デフォルト）、{@link ArithmeticOperations#eval(String)}と同じ。
+ *   足算、引算、掛算は丸めない。割算はオペランドの大きい方のスケールで、{@link RoundingMode}（デフォルト：HALF_DOWN）で丸める。
+ * ・{@link MathContext}指定の場合、全ての計算結果を当該{@link MathContext}で丸める。
+ *
+ * long演算モード（デフォルト、{@link #withLongArithmetic(boolean)}で変更可）：
+ * 値を「long型の整数値とスケール」で表し、{@link Math#addExact}、{@link Math#multiplyExact}などで計算する。
+ * オーバーフローした場合、スケールが上限（18）を超える場合、またはlongで表せない値を含む場合は、
+ * 最初から{@link BigDecimal}で計算し直すため、計算結果（値、スケール）は常に{@link BigDecimal}の計算と同じ。
+ * {@link MathContext}指定の場合は使用しない。
+ *
+ * {@link Instrumentation}にリスナーを登録した場合、評価ごと（列形式の場合は列全体の評価ごと）に評価時間を通知する。
+ * トレースする評価は{@link BigDecimal}で計算し、演算子ごとの評価値を通知する。
+ *
+ * 使用例：
+ * {@code
+ *      ArithmeticProgram program = ArithmeticOperations.compile("(a + b) * c / 100");
+ *      BigDecimal result1 = program.eval(variables);
+ *      BigDecimal result2 = program.eval(a, b, c);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ArithmeticProgram {
+
+    static final byte CONSTANT = 0;
+    static final byte VARIABLE = 1;
+    static final byte NEGATED_VARIABLE = 2;
+    static final byte PLUS = 3;
+    static final byte SUB = 4;
+    static final byte MULTI = 5;
+    static final byte DIV = 6;
+
+    /**
+     * 命令の演算子（トレース用）
+     */
+    private static final String[] SYMBOLS = {null, null, null, "+", "-", "*", "/"};
+
+    /**
+     * long演算モードで扱う最大のスケール
+     */
+    static final int MAX_LONG_SCALE = 18;
+
+    static final long[] POWERS_OF_TEN = new long[MAX_LONG_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private final String expression;
+
+    /**
+     * 命令列
+     */
+    private final byte[] codes;
+
+    /**
+     * 命令ごとの引数（定数の位置、または変数のスロット）
+     */
+    private final int[] arguments;
+
+    private final BigDecimal[] constants;
+
+    /**
+     * 定数の整数値（long演算モード用）
+     */
+    private final long[] constantUnscaledValues;
+
+    /**
+     * 定数のスケール（long演算モード用、longで表せない場合は-1）
+     */
+    private final int[] constantScales;
+
+    private final List<String> variableNames;
+
+    /**
+     * 評価に必要なスタックの深さ
+     */
+    private final int maxDepth;
+
+    private final MathContext mathContext;
+
+    private final RoundingMode roundingMode;
+
+    private final boolean longArithmetic;
+
+    ArithmeticProgram(String expression, byte[] codes, int[] arguments, BigDecimal[] constants,
+                      String[] variableNames, int maxDepth) {
+        this(expression, codes, arguments, constants, Collections.unmodifiableList(Arrays.asList(variableNames)),
+                maxDepth, null, RoundingMode.HALF_DOWN, true);
+    }
+
+    private ArithmeticProgram(String expression, byte[] codes, int[] arguments, BigDecimal[] constants,
+                              List<String> variableNames, int maxDepth, MathContext mathContext, RoundingMode roundingMode,
+                              boolean longArithmetic) {
+        this.expression = expression;
+        this.codes = codes;
+        this.arguments = arguments;
+        this.constants = constants;
+        this.variableNames = variableNames;
+        this.maxDepth = maxDepth;
+        this.mathContext = mathContext;
+        this.roundingMode = roundingMode;
+        this.longArithmetic = longArithmetic;
+
+        this.constantUnscaledValues = new long[constants.length];
+        this.constantScales = new int[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            this.constantScales[i] = longScale(constants[i]);
+            if (this.constantScales[i] >= 0) {
+                this.constantUnscaledValues[i] = constants[i].unscaledValue().longValue();
+            }
+        }
+    }
+
+    /**
+     * 全ての計算結果を{@code mathContext}で丸める計算式の生成処理<br>
+     *
+     * @param mathContext {@link MathContext}、nullの場合は丸めない（デフォルト）
+     * @return 計算式
+     */
+    public ArithmeticProgram withMathContext(MathContext mathContext) {
+        return new ArithmeticProgram(this.expression, this.codes, this.arguments, this.constants, this.variableNames,
+                this.maxDepth, mathContext, this.roundingMode, this.longArithmetic);
+    }
+
+    /**
+     * 割算の丸めモードを変更した計算式の生成処理<br>
+     * {@link MathContext}指定の場合は、{@link MathContext}の丸めモードを使用する。<br>
+     *
+     * @param roundingMode 割算の丸めモード
+     * @return 計算式
+     */
+    public ArithmeticProgram withRoundingMode(RoundingMode roundingMode) {
+        return new ArithmeticProgram(this.expression, this.codes, this.arguments, this.constants, this.variableNames,
+                this.maxDepth, this.mathContext, Objects.requireNonNull(roundingMode), this.longArithmetic);
+    }
+
+    /**
+     * long演算モードを変更した計算式の生成処理<br>
+     *
+     * @param longArithmetic long演算モードの場合はtrue（デフォルト）、常に{@link BigDecimal}で計算する場合はfalse
+     * @return 計算式
+     */
+    public ArithmeticProgram withLongArithmetic(boolean longArithmetic) {
+        return new ArithmeticProgram(this.expression, this.codes, this.arguments, this.constants, this.variableNames,
+                this.maxDepth, this.mathContext, this.roundingMode, longArithmetic);
+    }
+
+    /**
+     * 評価処理（変数名で指定）<br>
+     *
+     * @param variables 変数名 → 値
+     * @return 計算結果
+     */
+    public BigDecimal eval(Map<String, BigDecimal> variables) {
+        BigDecimal[] slots = new BigDecimal[this.variableNames.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = variables.get(this.variableNames.get(i));
+        }
+        return eval(slots);
+    }
+
+    /**
+     * 評価処理（変数の位置で指定）<br>
+     *
+     * @param slots 変数の値（{@link #getVariableNames()}の順）
+     * @return 計算結果
+     */
+    public BigDecimal eval(BigDecimal... slots) {
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            ExpressionTracer tracer = listener.startTrace(ExpressionListener.Engine.ARITHMETIC, this.expression);
+            return instrument(listener, tracer, () -> tracer == null ? evalSlots(slots) : evalBigDecimal(checkBound(slots), tracer));
+        }
+        return evalSlots(slots);
+    }
+
+    /**
+     * 評価処理（計測なし）<br>
+     *
+     * @param slots 変数の値（{@link #getVariableNames()}の順）
+     * @return 計算結果
+     */
+    BigDecimal evalSlots(BigDecimal[] slots) {
+        checkBound(slots);
+
+        if (this.longArithmetic && this.mathContext == null) {
+            BigDecimal result = evalLong(slots, null, 0);
+            if (result != null) {
+                return result;
+            }
+        }
+        return evalBigDecimal(slots, null);
+    }
+
+    private BigDecimal[] checkBound(BigDecimal[] slots) {
+        if (slots.length < this.variableNames.size()) {
+            throw new SystemException(String.format("[%s] is not bound.", this.variableNames.get(slots.length)));
+        }
+        return slots;
+    }
+
+    private BigDecimal evalBigDecimal(BigDecimal[] slots, ExpressionTracer tracer) {
+        BigDecimal[] stack = new BigDecimal[this.maxDepth];
+        int top = -1;
+        try {
+            for (int pc = 0; pc < this.codes.length; pc++) {
+                switch (this.codes[pc]) {
+                    case CONSTANT:
+                        stack[++top] = this.constants[this.arguments[pc]];
+                        break;
+                    case VARIABLE:
+                        stack[++top] = variable(slots, this.arguments[pc]);
+                        break;
+                    case NEGATED_VARIABLE:
+                        stack[++top] = variable(slots, this.arguments[pc]).negate();
+                        break;
+                    default:
+                        BigDecimal o2 = stack[top--];
+                        BigDecimal o1 = stack[top];
+                        stack[top] = calculate(this.codes[pc], o1, o2);
+                        if (tracer != null) {
+                            tracer.step(SYMBOLS[this.codes[pc]], o1.toPlainString() + ", " + o2.toPlainString(), stack[top]);
+                        }
+                        break;
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new SystemException("ArithmeticOperations evaluation is failed.", e);
+        }
+        return stack[top];
+    }
+
+    /**
+     * 評価処理（変数の位置で、スケールが同じ整数値で指定）<br>
+     * 変数の値は{@code BigDecimal.valueOf(unscaledValues[i], scale)}とする。
+     * long演算モードの場合、変数の値から{@link BigDecimal}を生成せずに計算する。<br>
+     *
+     * @param scale          変数の値のスケール
+     * @param unscaledValues 変数の値の整数値（{@link #getVariableNames()}の順）
+     * @return 計算結果
+     */
+    public BigDecimal eval(int scale, long... unscaledValues) {
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            ExpressionTracer tracer = listener.startTrace(ExpressionListener.Engine.ARITHMETIC, this.expression);
+            return instrument(listener, tracer, () -> tracer == null
+                    ? evalUnscaled(scale, unscaledValues) : evalBigDecimal(checkBound(toSlots(scale, unscaledValues)), tracer));
+        }
+        return evalUnscaled(scale, unscaledValues);
+    }
+
+    private BigDecimal evalUnscaled(int scale, long[] unscaledValues) {
+        if (unscaledValues.length < this.variableNames.size()) {
+            throw new SystemException(String.format("[%s] is not bound.", this.variableNames.get(unscaledValues.length)));
+        }
+
+        if (this.longArithmetic && this.mathContext == null && scale >= 0 && scale <= MAX_LONG_SCALE) {
+            BigDecimal result = evalLong(null, unscaledValues, scale);
+            if (result != null) {
+                return result;
+            }
+        }
+        return evalBigDecimal(toSlots(scale, unscaledValues), null);
+    }
+
+    private static BigDecimal[] toSlots(int scale, long[] unscaledValues) {
+        BigDecimal[] slots = new BigDecimal[unscaledValues.length];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = BigDecimal.valueOf(unscaledValues[i], scale);
+        }
+        return slots;
+    }
+
+    /**
+     * 列形式の評価処理<br>
+     * 計算結果は{@link #eval(BigDecimal...)}と同じ。詳細は{@link ArithmeticColumns}を参照。<br>
+     *
+     * @param columns  変数名 → 列
+     * @param parallel 並列評価する場合はtrue
+     * @return 計算結果の列
+     */
+    public ArithmeticColumnResult evalColumns(ArithmeticColumns columns, boolean parallel) {
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            return instrument(listener, null, () -> new ColumnarEvaluator(this, columns).evalDecimal(parallel));
+        }
+        return new ColumnarEvaluator(this, columns).evalDecimal(parallel);
+    }
+
+    /**
+     * 列形式の評価処理（double演算）<br>
+     * 全ての値をdoubleに変換し、doubleで計算する。詳細は{@link ArithmeticColumns}を参照。<br>
+     *
+     * @param columns  変数名 → 列
+     * @param parallel 並列評価する場合はtrue
+     * @return 計算結果の列
+     */
+    public ArithmeticColumnResult evalColumnsAsDouble(ArithmeticColumns columns, boolean parallel) {
+        ExpressionListener listener = Instrumentation.getListener();
+        if (listener != null) {
+            return instrument(listener, null, () -> new ColumnarEvaluator(this, columns).evalDouble(parallel));
+        }
+        return new ColumnarEvaluator(this, columns).evalDouble(parallel);
+    }
+
+    /**
+     * 計測付きの評価処理<br>
+     *
+     * @param listener   リスナー
+     * @param tracer     トレーサー、null可
+     * @param evaluation 評価処理
+     * @return 計算結果
+     */
+    private <T> T instrument(ExpressionListener listener, ExpressionTracer tracer, Supplier<T> evaluation) {
+        long start = System.nanoTime();
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = evaluation.get();
+            return result;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            listener.onEvaluated(ExpressionListener.Engine.ARITHMETIC, this.expression, System.nanoTime() - start, failure);
+            if (tracer != null) {
+                tracer.finish(result, failure);
+            }
+        }
+    }
+
+    /**
+     * long演算モードの評価処理<br>
+     *
+     * @param slots          変数の値（{@code unscaledValues}指定の場合はnull）
+     * @param unscaledValues 変数の値の整数値（{@code slots}指定の場合はnull）
+     * @param slotScale      {@code unscaledValues}のスケール
+     * @return 計算結果、longで計算できない場合はnull
+     */
+    private BigDecimal evalLong(BigDecimal[] slots, long[] unscaledValues, int slotScale) {
+        long[] values = new long[this.maxDepth];
+        int[] scales = new int[this.maxDepth];
+        int top = -1;
+        try {
+            for (int pc = 0; pc < this.codes.length; pc++) {
+                byte code = this.codes[pc];
+                if (code == CONSTANT) {
+                    int index = this.arguments[pc];
+                    if (this.constantScales[index] < 0) {
+                        return null;
+                    }
+                    values[++top] = this.constantUnscaledValues[index];
+                    scales[top] = this.constantScales[index];
+                    continue;
+                }
+                if (code == VARIABLE || code == NEGATED_VARIABLE) {
+                    long unscaled;
+                    int scale;
+                    if (unscaledValues != null) {
+                        unscaled = unscaledValues[this.arguments[pc]];
+                        scale = slotScale;
+                    } else {
+                        BigDecimal value = variable(slots, this.arguments[pc]);
+                        scale = longScale(value);
+                        if (scale < 0) {
+                            return null;
+                        }
+                        unscaled = value.unscaledValue().longValue();
+                    }
+                    values[++top] = code == NEGATED_VARIABLE ? Math.negateExact(unscaled) : unscaled;
+                    scales[top] = scale;
+                    continue;
+                }
+
+                long v2 = values[top];
+                int s2 = scales[top--];
+                long v1 = values[top];
+                int s1 = scales[top];
+                int scale = Math.max(s1, s2);
+                switch (code) {
+                    case PLUS:
+                        values[top] = Math.addExact(alignScale(v1, scale - s1), alignScale(v2, scale - s2));
+                        break;
+                    case SUB:
+                        values[top] = Math.subtractExact(alignScale(v1, scale - s1), alignScale(v2, scale - s2));
+                        break;
+                    case MULTI:
+                        scale = s1 + s2;
+                        if (scale > MAX_LONG_SCALE) {
+                            return null;
+                        }
+                        values[top] = Math.multiplyExact(v1, v2);
+                        break;
+                    default:
+                        // o1 / o2 をスケールscaleで丸める：(v1 * 10^(scale - s1 + s2)) / v2
+                        int exponent = scale - s1 + s2;
+                        if (v2 == 0 || v2 == Long.MIN_VALUE || exponent > MAX_LONG_SCALE) {
+                            return null;
+                        }
+                        long dividend = Math.multiplyExact(v1, POWERS_OF_TEN[exponent]);
+                        if (dividend == Long.MIN_VALUE) {
+                            return null;
+                        }
+                        values[top] = divide(dividend, v2, this.roundingMode);
+                        break;
+                }
+                scales[top] = scale;
+            }
+        } catch (ArithmeticException e) {
+            // オーバーフローした場合はBigDecimalで計算し直す
+            return null;
+        }
+        return BigDecimal.valueOf(values[top], scales[top]);
+    }
+
+    static long alignScale(long value, int exponent) {
+        return exponent == 0 ? value : Math.multiplyExact(value, POWERS_OF_TEN[exponent]);
+    }
+
+    /**
+     * 整数の割算（丸めモードで丸める）処理<br>
+     * 被除数は{@link Long#MIN_VALUE}以外、除数は0と{@link Long#MIN_VALUE}以外であること。<br>
+     *
+     * @param dividend     被除数
+     * @param divisor      除数
+     * @param roundingMode 丸めモード
+     * @return 商
+     * @throws ArithmeticException {@link RoundingMode#UNNECESSARY}で割り切れない場合
+     */
+    static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend - quotient * divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = Long.signum(dividend) * Long.signum(divisor);
+        long absRemainder = Math.abs(remainder);
+        // 余りと「除数 - 余り」の比較で、端数が0.5より大きいか判定する
+        int half = Long.compare(absRemainder, Math.abs(divisor) - absRemainder);
+        boolean increment;
+        switch (roundingMode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = sign > 0;
+                break;
+            case FLOOR:
+                increment = sign < 0;
+                break;
+            case HALF_UP:
+                increment = half >= 0;
+                break;
+            case HALF_DOWN:
+                increment = half > 0;
+                break;
+            case HALF_EVEN:
+                increment = half > 0 || half == 0 && (quotient & 1) != 0;
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return increment ? quotient + sign : quotient;
+    }
+
+    /**
+     * long演算モードで扱うスケールの取得処理<br>
+     *
+     * @param value 値
+     * @return スケール、longで表せない場合は-1
+     */
+    static int longScale(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || scale > MAX_LONG_SCALE || value.precision() > MAX_LONG_SCALE) {
+            return -1;
+        }
+        return scale;
+    }
+
+    private BigDecimal variable(BigDecimal[] slots, int slot) {
+        BigDecimal value = slots[slot];
+        if (value == null) {
+            throw new SystemException(String.format("[%s] is not bound.", this.variableNames.get(slot)));
+        }
+        return value;
+    }
+
+    private BigDecimal calculate(byte code, BigDecimal o1, BigDecimal o2) {
+        MathContext mc = this.mathContext;
+        switch (code) {
+            case PLUS:
+                return mc == null ? o1.add(o2) : o1.add(o2, mc);
+            case SUB:
+                return mc == null ? o1.subtract(o2) : o1.subtract(o2, mc);
+            case MULTI:
+                return mc == null ? o1.multiply(o2) : o1.multiply(o2, mc);
+            default:
+                if (mc != null) {
+                    return o1.divide(o2, mc);
+                }
+                return o1.divide(o2, Math.max(o1.scale(), o2.scale()), this.roundingMode);
+        }
+    }
+
+    byte[] getCodes() {
+        return this.codes;
+    }
+
+    int[] getArguments() {
+        return this.arguments;
+    }
+
+    BigDecimal[] getConstants() {
+        return this.constants;
+    }
+
+    int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * 変数名の取得処理<br>
+     *
+     * @return 変数名のリスト（スロットの順）
+     */
+    public List<String> getVariableNames() {
+        return this.variableNames;
+    }
+
+    /**
+     * 変数のスロットの取得処理<br>
+     *
+     * @param variableName 変数名
+     * @return スロット、存在しない場合は-1
+     */
+    public int getSlot(String variableName) {
+        return this.variableNames.indexOf(variableName);
+    }
+
+    public String getExpression() {
+        return this.expression;
+    }
+
+    public MathContext getMathContext() {
+        return this.mathContext;
+    }
+
+    public RoundingMode getRoundingMode() {
+        return this.roundingMode;
+    }
+
+    public boolean isLongArithmetic() {
+        return this.longArithmetic;
+    }
+
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+}
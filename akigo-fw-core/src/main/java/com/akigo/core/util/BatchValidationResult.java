@@ -0,0 +1,132 @@
+/*
+ * BatchValidationResult.java
+ * Created on  2026/10/17 23:59
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * レコードの一括入力チェック結果クラス<br>
+ * <pre>
+ * {@link RecordValidator#validateAll}で検出した全てのエラー（行番号、項目番号、エラーコード）を
+ * 行番号順（同じ行は検出順）に保持する。エラーのない行は保持しない。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class BatchValidationResult {
+
+    private final int recordCount;
+
+    private final int[] rows;
+
+    private final int[] fields;
+
+    private final String[] errorCodes;
+
+    private final BitSet invalidRows;
+
+    BatchValidationResult(int recordCount, int[] rows, int[] fields, String[] errorCodes) {
+        this.recordCount = recordCount;
+        this.rows = rows;
+        this.fields = fields;
+        this.errorCodes = errorCodes;
+        this.invalidRows = new BitSet(recordCount);
+        for (int row : rows) {
+            this.invalidRows.set(row);
+        }
+    }
+
+    public int getRecordCount() {
+        return this.recordCount;
+    }
+
+    public int getErrorCount() {
+        return this.rows.length;
+    }
+
+    /**
+     * エラーのある行数の取得処理<br>
+     *
+     * @return 行数
+     */
+    public int getInvalidCount() {
+        return this.invalidRows.cardinality();
+    }
+
+    /**
+     * エラーがない場合はtrue<br>
+     *
+     * @param row 行番号
+     * @return boolean
+     */
+    public boolean isValid(int row) {
+        if (row < 0 || row >= this.recordCount) {
+            throw new IndexOutOfBoundsException("row: " + row + ", recordCount: " + this.recordCount);
+        }
+        return !this.invalidRows.get(row);
+    }
+
+    /**
+     * エラーのある行の取得処理<br>
+     *
+     * @return エラーのある行番号のビットセット（コピー）
+     */
+    public BitSet getInvalidRows() {
+        return (BitSet) this.invalidRows.clone();
+    }
+
+    /**
+     * エラーの行番号の取得処理<br>
+     *
+     * @param index エラーのインデックス（0～{@link #getErrorCount()} - 1）
+     * @return 行番号
+     */
+    public int getRow(int index) {
+        return this.rows[index];
+    }
+
+    /**
+     * エラーの項目番号の取得処理<br>
+     *
+     * @param index エラーのインデックス（0～{@link #getErrorCount()} - 1）
+     * @return 項目番号
+     */
+    public int getField(int index) {
+        return this.fields[index];
+    }
+
+    /**
+     * エラーコードの取得処理<br>
+     *
+     * @param index エラーのインデックス（0～{@link #getErrorCount()} - 1）
+     * @return エラーコード
+     */
+    public String getErrorCode(int index) {
+        return this.errorCodes[index];
+    }
+
+    /**
+     * 行の最初のエラーのインデックスの取得処理<br>
+     *
+     * @param row 行番号
+     * @return エラーのインデックス、エラーがない場合は-1
+     */
+    public int indexOf(int row) {
+        int index = Arrays.binarySearch(this.rows, row);
+        if (index < 0) {
+            return -1;
+        }
+        while (index > 0 && this.rows[index - 1] == row) {
+            index--;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * BoundedCache.java
+ * Created on  2026/10/17 10:12
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * 上限件数付きのスレッドセーフなキャッシュ<br>
+ * <pre>
+ * 参照はロックなしで行い、上限件数を超えた場合は登録順（FIFO）で古いエントリから破棄する。
+ * コンパイル済み表現式など、生成コストが高く、不変なオブジェクトのキャッシュ用。
+ * </pre>
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ * @author chenhao
+ * @since 1.0.0
+ */
+public class BoundedCache<K, V> {
+
+    private final int maximumSize;
+
+    private final ConcurrentHashMap<K, V> entries;
+
+    private final ConcurrentLinkedQueue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @param maximumSize 最大件数
+     */
+    public BoundedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+    }
+
+    /**
+     * キャッシュ値取得処理<br>
+     *
+     * @param key キー
+     * @return キャッシュ値、存在しない場合はnull
+     */
+    public V get(K key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * キャッシュ値取得処理<br>
+     * 存在しない場合は{@code loader}で生成して登録する。<br>
+     * 生成処理はロック外で実行するため、同時に複数回生成される可能性があるが、登録されるのは最初の一つのみ。<br>
+     *
+     * @param key    キー
+     * @param loader 値の生成処理
+     * @return キャッシュ値
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = this.entries.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        V created = Objects.requireNonNull(loader.apply(key));
+        V existing = this.entries.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        this.insertionOrder.offer(key);
+        evictIfNecessary();
+
+        return created;
+    }
+
+    /**
+     * 全てのキャッシュ値をクリアする<br>
+     */
+    public void clear() {
+        this.entries.clear();
+        this.insertionOrder.clear();
+    }
+
+    /**
+     * キャッシュ件数取得処理<br>
+     *
+     * @return キャッシュ件数
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * 最大件数取得処理<br>
+     *
+     * @return 最大件数
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    private void evictIfNecessary() {
+        while (this.entries.size() > this.maximumSize) {
+            K eldest = this.insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            this.entries.remove(eldest);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * ByteLengthCounter.java
+ * Created on  2026/10/17 23:58
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * エンコード後のバイト数の計算クラス<br>
+ * <pre>
+ * 文字列をバイト配列にエンコードせず、{@link String#getBytes(String)}と同じバイト数を計算する。
+ * 上限を超えた時点で計算を打ち切る。
+ *
+ * ・UTF-8：文字コードの範囲から計算する
+ * ・MS932、Shift_JIS、EUC-JP：文字ごとのバイト数の変換表（初回使用時に作成）から計算する
+ * ・上記以外：スレッドごとに再利用する{@link CharsetEncoder}で作業用バッファにエンコードして計算する
+ *
+ * エンコードできない文字は、{@link String#getBytes(String)}と同じく置換文字のバイト数とする。
+ * エンコード名から{@link ByteLengthCounter}への変換結果はキャッシュする。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+abstract class ByteLengthCounter {
+
+    /**
+     * エンコード名 → {@link ByteLengthCounter}（サポートされていないエンコードの場合は空）
+     */
+    private static final BoundedCache<String, Optional<ByteLengthCounter>> COUNTERS = new BoundedCache<>(64);
+
+    /**
+     * 変換表で計算するエンコードの変換表（エンコードの正式名ごとに一つ）
+     */
+    private static final ConcurrentHashMap<String, ByteLengthCounter> TABLE_COUNTERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<EncoderScratch> SCRATCH = ThreadLocal.withInitial(EncoderScratch::new);
+
+    /**
+     * バイト数の計算処理<br>
+     *
+     * @param str   文字列
+     * @param limit 上限
+     * @return バイト数、上限を超えた場合は上限を超える任意の値
+     */
+    abstract long count(CharSequence str, long limit);
+
+    /**
+     * エンコード名に対応する{@link ByteLengthCounter}の取得処理<br>
+     *
+     * @param enc エンコード名
+     * @return {@link ByteLengthCounter}、サポートされていないエンコードの場合はnull
+     */
+    static ByteLengthCounter forName(String enc) {
+        return COUNTERS.computeIfAbsent(enc, ByteLengthCounter::create).orElse(null);
+    }
+
+    private static Optional<ByteLengthCounter> create(String enc) {
+        Charset charset;
+        try {
+            charset = Charset.forName(enc);
+        } catch (IllegalArgumentException e) {
+            // IllegalCharsetNameException、UnsupportedCharsetExceptionを含む
+            return Optional.empty();
+        }
+        if (!charset.canEncode()) {
+            return Optional.empty();
+        }
+        switch (charset.name()) {
+            case "UTF-8":
+                return Optional.of(new Utf8Counter());
+            case "windows-31j":
+            case "Shift_JIS":
+            case "EUC-JP":
+                return Optional.of(TABLE_COUNTERS.computeIfAbsent(charset.name(), name -> new TableCounter(charset)));
+            default:
+                return Optional.of(new EncoderCounter(charset));
+        }
+    }
+
+    /**
+     * UTF-8のバイト数の計算クラス<br>
+     */
+    private static final class Utf8Counter extends ByteLengthCounter {
+
+        @Override
+        long count(CharSequence str, long limit) {
+            long bytes = 0L;
+            for (int i = 0, length = str.length(); i < length; i++) {
+                char c = str.charAt(i);
+                if (c < 0x80) {
+                    bytes++;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    bytes += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    // 不正なサロゲートは置換文字（?）
+                    bytes++;
+                } else {
+                    bytes += 3;
+                }
+                if (bytes > limit) {
+                    return bytes;
+                }
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * 文字ごとのバイト数の変換表による計算クラス（ステートレスなエンコード用）<br>
+     */
+    private static final class TableCounter extends ByteLengthCounter {
+
+        /**
+         * 基本多言語面の文字ごとのバイト数（不正なサロゲートは置換文字のバイト数）
+         */
+        private final byte[] lengths = new byte[Character.MAX_VALUE + 1];
+
+        /**
+         * サロゲートペアのバイト数
+         */
+        private final int supplementaryLength;
+
+        private TableCounter(Charset charset) {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                this.lengths[c] = (byte) String.valueOf((char) c).getBytes(charset).length;
+            }
+            this.supplementaryLength = new String(Character.toChars(Character.MIN_SUPPLEMENTARY_CODE_POINT)).getBytes(charset).length;
+        }
+
+        @Override
+        long count(CharSequence str, long limit) {
+            long bytes = 0L;
+            for (int i = 0, length = str.length(); i < length; i++) {
+                char c = str.charAt(i);
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    bytes += this.supplementaryLength;
+                    i++;
+                } else {
+                    bytes += this.lengths[c];
+                }
+                if (bytes > limit) {
+                    return bytes;
+                }
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * {@link CharsetEncoder}による計算クラス<br>
+     */
+    private static final class EncoderCounter extends ByteLengthCounter {
+
+        private final Charset charset;
+
+        private EncoderCounter(Charset charset) {
+            this.charset = charset;
+        }
+
+        @Override
+        long count(CharSequence str, long limit) {
+            EncoderScratch scratch = SCRATCH.get();
+            CharsetEncoder encoder = scratch.encoder(this.charset);
+            ByteBuffer out = scratch.buffer;
+            CharBuffer in = CharBuffer.wrap(str);
+
+            long bytes = 0L;
+            CoderResult result;
+            do {
+                out.clear();
+                result = encoder.encode(in, out, true);
+                bytes += out.position();
+                if (bytes > limit) {
+                    return bytes;
+                }
+            } while (result.isOverflow());
+            do {
+                out.clear();
+                result = encoder.flush(out);
+                bytes += out.position();
+            } while (result.isOverflow());
+            return bytes;
+        }
+    }
+
+    /**
+     * スレッドごとのエンコーダと作業用バッファ<br>
+     */
+    private static final class EncoderScratch {
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        private Charset charset = StandardCharsets.UTF_8;
+
+        private CharsetEncoder encoder;
+
+        private CharsetEncoder encoder(Charset charset) {
+            if (this.encoder == null || !this.charset.equals(charset)) {
+                this.charset = charset;
+                this.encoder = charset.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            }
+            return this.encoder.reset();
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * CharClassProfile.java
+ * Created on  2026/10/17 23:55
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+/**
+ * 文字列の文字種プロファイルクラス<br>
+ * <pre>
+ * {@link Strings#profile(CharSequence)}で文字列を一度だけ走査し、全ての文字種の判定結果を保持する。
+ * 一つの項目に複数の入力チェック（半角のみ、数字のみなど）を行う場合、文字列を一度走査するだけで判定できる。
+ * 判定結果は{@link Strings}の同名のメソッドと同じ（null、空文字列の場合はfalse）。
+ *
+ * 文字種はビットマスクの定数で、{@link #allOf(int)}、{@link #anyOf(int)}で任意に判定することもできる。
+ * 複数の文字種のいずれかで構成されている判定（例：半角英数字）は、専用の文字種（{@link #HALF_ALPHANUMERIC}）を使用すること。
+ *
+ * 使用例：
+ * {@code
+ *      CharClassProfile profile = Strings.profile(value);
+ *      if (!profile.isHalfOnly() || profile.anyOf(CharClassProfile.HALF_LOWER_KANA)) {
+ *          ...
+ *      }
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class CharClassProfile {
+
+    /**
+     * 半角英小文字（a～z）
+     */
+    public static final int HALF_ALPHABET_LOWER = 1;
+
+    /**
+     * 半角英大文字（A～Z）
+     */
+    public static final int HALF_ALPHABET_UPPER = 1 << 1;
+
+    /**
+     * 半角数字（0～9）
+     */
+    public static final int HALF_NUMBER = 1 << 2;
+
+    /**
+     * 半角カナ（U+FF61～U+FF9F）
+     */
+    public static final int HALF_KANA = 1 << 3;
+
+    /**
+     * 半角小文字カナ（U+FF67～U+FF6F）
+     */
+    public static final int HALF_LOWER_KANA = 1 << 4;
+
+    /**
+     * 半角記号（スペースを含む）
+     */
+    public static final int HALF_MARK = 1 << 5;
+
+    /**
+     * 全角英小文字（ａ～ｚ）
+     */
+    public static final int FULL_ALPHABET_LOWER = 1 << 6;
+
+    /**
+     * 全角英大文字（Ａ～Ｚ）
+     */
+    public static final int FULL_ALPHABET_UPPER = 1 << 7;
+
+    /**
+     * 全角数字（０～９）
+     */
+    public static final int FULL_NUMBER = 1 << 8;
+
+    /**
+     * 全角カタカナ（U+30A1～U+30FE）
+     */
+    public static final int FULL_KANA = 1 << 9;
+
+    /**
+     * ひらがな（U+3041～U+3096、長音記号）
+     */
+    public static final int HIRAGANA = 1 << 10;
+
+    /**
+     * 漢字（CJK統合漢字）
+     */
+    public static final int KANJI = 1 << 11;
+
+    /**
+     * 全角記号
+     */
+    public static final int FULL_MARK = 1 << 12;
+
+    /**
+     * 空白文字（{@link Character#isWhitespace(char)}、全角スペース）
+     */
+    public static final int WHITESPACE = 1 << 13;
+
+    /**
+     * 英字（半角、全角）
+     */
+    public static final int ALPHABET = 1 << 14;
+
+    /**
+     * 数字（半角、全角）
+     */
+    public static final int NUMBER = 1 << 15;
+
+    /**
+     * 半角英字
+     */
+    public static final int HALF_ALPHABET = 1 << 16;
+
+    /**
+     * 半角英数字
+     */
+    public static final int HALF_ALPHANUMERIC = 1 << 17;
+
+    /**
+     * 全角英字
+     */
+    public static final int FULL_ALPHABET = 1 << 18;
+
+    /**
+     * 半角文字（半角英字、半角数字、半角カナ、半角記号）
+     */
+    public static final int HALF = 1 << 19;
+
+    static final CharClassProfile EMPTY = new CharClassProfile(0, 0, 0);
+
+    private final int length;
+
+    /**
+     * いずれかの文字が該当する文字種
+     */
+    private final int presentClasses;
+
+    /**
+     * 全ての文字が該当する文字種
+     */
+    private final int commonClasses;
+
+    CharClassProfile(int length, int presentClasses, int commonClasses) {
+        this.length = length;
+        this.presentClasses = presentClasses;
+        this.commonClasses = length == 0 ? 0 : commonClasses;
+    }
+
+    /**
+     * 文字数（char単位）の取得処理<br>
+     *
+     * @return 文字数
+     */
+    public int length() {
+        return this.length;
+    }
+
+    public boolean isEmpty() {
+        return this.length == 0;
+    }
+
+    /**
+     * 全ての文字が{@code charClasses}の全ての文字種に該当する場合はtrue<br>
+     *
+     * @param charClasses 文字種（複数指定する場合は論理和）
+     * @return 空文字列の場合はfalse
+     */
+    public boolean allOf(int charClasses) {
+        return this.length > 0 && (this.commonClasses & charClasses) == charClasses;
+    }
+
+    /**
+     * いずれかの文字が{@code charClasses}のいずれかの文字種に該当する場合はtrue<br>
+     *
+     * @param charClasses 文字種（複数指定する場合は論理和）
+     * @return boolean
+     */
+    public boolean anyOf(int charClasses) {
+        return (this.presentClasses & charClasses) != 0;
+    }
+
+    /**
+     * 全ての文字が{@code charClasses}のいずれの文字種にも該当しない場合はtrue<br>
+     *
+     * @param charClasses 文字種（複数指定する場合は論理和）
+     * @return 空文字列の場合はtrue
+     */
+    public boolean noneOf(int charClasses) {
+        return !anyOf(charClasses);
+    }
+
+    /**
+     * {@link Strings#isAlphabet(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isAlphabet() {
+        return allOf(ALPHABET);
+    }
+
+    /**
+     * {@link Strings#isNumber(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isNumber() {
+        return allOf(NUMBER);
+    }
+
+    /**
+     * {@link Strings#isHalfOnly(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfOnly() {
+        return allOf(HALF);
+    }
+
+    /**
+     * {@link Strings#isHalfOnlyExcludesLowerKana(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfOnlyExcludesLowerKana() {
+        return allOf(HALF) && noneOf(HALF_LOWER_KANA);
+    }
+
+    /**
+     * {@link Strings#isHalfAlphabet(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfAlphabet() {
+        return allOf(HALF_ALPHABET);
+    }
+
+    /**
+     * {@link Strings#isHalfAlphabetLowerCase(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfAlphabetLowerCase() {
+        return allOf(HALF_ALPHABET_LOWER);
+    }
+
+    /**
+     * {@link Strings#isHalfAlphabetUpperCase(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfAlphabetUpperCase() {
+        return allOf(HALF_ALPHABET_UPPER);
+    }
+
+    /**
+     * {@link Strings#isHalfNumber(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfNumber() {
+        return allOf(HALF_NUMBER);
+    }
+
+    /**
+     * {@link Strings#isHalfAlphanumeric(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfAlphanumeric() {
+        return allOf(HALF_ALPHANUMERIC);
+    }
+
+    /**
+     * {@link Strings#isHalfKana(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfKana() {
+        return allOf(HALF_KANA);
+    }
+
+    /**
+     * {@link Strings#isHalfKanaExcludesLowerKana(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfKanaExcludesLowerKana() {
+        return allOf(HALF_KANA) && noneOf(HALF_LOWER_KANA);
+    }
+
+    /**
+     * {@link Strings#isHalfMark(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHalfMark() {
+        return allOf(HALF_MARK);
+    }
+
+    /**
+     * {@link Strings#isFullOnly(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullOnly() {
+        return this.length > 0 && noneOf(HALF);
+    }
+
+    /**
+     * {@link Strings#isFullAlphabet(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullAlphabet() {
+        return allOf(FULL_ALPHABET);
+    }
+
+    /**
+     * {@link Strings#isFullAlphabetLowerCase(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullAlphabetLowerCase() {
+        return allOf(FULL_ALPHABET_LOWER);
+    }
+
+    /**
+     * {@link Strings#isFullAlphabetUpperCase(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullAlphabetUpperCase() {
+        return allOf(FULL_ALPHABET_UPPER);
+    }
+
+    /**
+     * {@link Strings#isFullNumber(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullNumber() {
+        return allOf(FULL_NUMBER);
+    }
+
+    /**
+     * {@link Strings#isFullKana(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullKana() {
+        return allOf(FULL_KANA);
+    }
+
+    /**
+     * {@link Strings#isHiragana(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isHiragana() {
+        return allOf(HIRAGANA);
+    }
+
+    /**
+     * {@link Strings#isKanji(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isKanji() {
+        return allOf(KANJI);
+    }
+
+    /**
+     * {@link Strings#isFullMark(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isFullMark() {
+        return allOf(FULL_MARK);
+    }
+
+    /**
+     * {@link Strings#isNullOrEmptyOrWhitespace(String)}と同じ<br>
+     *
+     * @return 空文字列、または空白文字のみの場合はtrue
+     */
+    public boolean isEmptyOrWhitespace() {
+        return this.length == 0 || allOf(WHITESPACE);
+    }
+
+    /**
+     * {@link Strings#isExcludesHalfKana(String)}と同じ<br>
+     *
+     * @return boolean
+     */
+    public boolean isExcludesHalfKana() {
+        return noneOf(HALF_KANA);
+    }
+}
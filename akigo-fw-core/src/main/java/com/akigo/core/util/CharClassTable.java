@@ -0,0 +1,123 @@
+/*
+ * CharClassTable.java
+ * Created on  2026/10/17 23:55
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.lang.Character.UnicodeBlock;
+import java.util.Arrays;
+
+import static com.akigo.core.util.CharClassProfile.*;
+
+/**
+ * 文字種の変換表クラス<br>
+ * <pre>
+ * 基本多言語面（BMP）の文字ごとに、該当する文字種（{@link CharClassProfile}の定数の論理和）を事前に計算して保持する。
+ * 変換表は上位8ビットと下位8ビットの二段の配列とし、全ての文字が同じ文字種のブロック（漢字のみ、該当なしなど）は共有する。
+ * 補助文字（サロゲートペア）は変換表を使用せず、都度計算する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class CharClassTable {
+
+    private static final String HALF_MARKS = " !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    private static final String FULL_MARKS = "！＂＃＄％＆＇（）＊＋，－．／：；＜＝＞？＠［￥］＾＿｀｛｜｝～・。、";
+
+    private static final int[][] BLOCKS = new int[256][];
+
+    static {
+        int[] empty = new int[256];
+        for (int high = 0; high < 256; high++) {
+            int[] block = new int[256];
+            for (int low = 0; low < 256; low++) {
+                block[low] = computeClass((high << 8) | low);
+            }
+            BLOCKS[high] = Arrays.equals(block, empty) ? empty : block;
+        }
+    }
+
+    private CharClassTable() {
+    }
+
+    /**
+     * 文字の文字種の取得処理<br>
+     *
+     * @param c 文字
+     * @return 文字種（{@link CharClassProfile}の定数の論理和）
+     */
+    static int classOf(char c) {
+        return BLOCKS[c >>> 8][c & 0xFF];
+    }
+
+    /**
+     * コードポイントの文字種の取得処理<br>
+     *
+     * @param codePoint コードポイント
+     * @return 文字種（{@link CharClassProfile}の定数の論理和）
+     */
+    static int classOf(int codePoint) {
+        if (codePoint >= 0 && codePoint <= Character.MAX_VALUE) {
+            return classOf((char) codePoint);
+        }
+        return computeClass(codePoint);
+    }
+
+    /**
+     * 文字種の計算処理<br>
+     *
+     * @param codePoint コードポイント
+     * @return 文字種（{@link CharClassProfile}の定数の論理和）
+     */
+    private static int computeClass(int codePoint) {
+        int charClass = 0;
+        if (codePoint >= 'a' && codePoint <= 'z') {
+            charClass |= HALF_ALPHABET_LOWER | HALF_ALPHABET | HALF_ALPHANUMERIC | ALPHABET | HALF;
+        } else if (codePoint >= 'A' && codePoint <= 'Z') {
+            charClass |= HALF_ALPHABET_UPPER | HALF_ALPHABET | HALF_ALPHANUMERIC | ALPHABET | HALF;
+        } else if (codePoint >= '0' && codePoint <= '9') {
+            charClass |= HALF_NUMBER | HALF_ALPHANUMERIC | NUMBER | HALF;
+        } else if (codePoint >= 'ａ' && codePoint <= 'ｚ') {
+            charClass |= FULL_ALPHABET_LOWER | FULL_ALPHABET | ALPHABET;
+        } else if (codePoint >= 'Ａ' && codePoint <= 'Ｚ') {
+            charClass |= FULL_ALPHABET_UPPER | FULL_ALPHABET | ALPHABET;
+        } else if (codePoint >= '０' && codePoint <= '９') {
+            charClass |= FULL_NUMBER | NUMBER;
+        }
+
+        if (codePoint >= CharacterCode.HALF_KANA_START && codePoint <= CharacterCode.HALF_KANA_END) {
+            charClass |= HALF_KANA | HALF;
+            if (codePoint >= CharacterCode.HALF_LOWER_KANA_START && codePoint <= CharacterCode.HALF_LOWER_KANA_END) {
+                charClass |= HALF_LOWER_KANA;
+            }
+        }
+        if (codePoint >= CharacterCode.FULL_KANA_START && codePoint <= CharacterCode.FULL_KANA_END) {
+            charClass |= FULL_KANA;
+        }
+        if ((codePoint >= CharacterCode.FULL_HIRA_START && codePoint <= CharacterCode.FULL_HIRA_END)
+                || codePoint == CharacterCode.FULL_KANA_HYPHEN) {
+            charClass |= HIRAGANA;
+        }
+        if (UnicodeBlock.of(codePoint) == UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS) {
+            charClass |= KANJI;
+        }
+        if (codePoint <= Character.MAX_VALUE) {
+            if (HALF_MARKS.indexOf(codePoint) >= 0) {
+                charClass |= HALF_MARK | HALF;
+            }
+            if (FULL_MARKS.indexOf(codePoint) >= 0) {
+                charClass |= FULL_MARK;
+            }
+        }
+        if (Character.isWhitespace(codePoint) || codePoint == CharacterCode.FULL_SPACE) {
+            charClass |= WHITESPACE;
+        }
+        return charClass;
+    }
+}
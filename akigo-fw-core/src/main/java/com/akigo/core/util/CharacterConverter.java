@@ -0,0 +1,416 @@
+/*
+ * CharacterConverter.java
+ * Created on  2026/10/17 23:59
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * 全角・半角、カナの変換クラス<br>
+ * <pre>
+ * 変換の種類（定数の論理和）ごとに変換表を事前に作成し、一文字ずつ変換表を参照して変換する。
+ * 変換結果の文字数は変換前の文字数以下のため、呼び出し元が用意した{@link StringBuilder}、char配列
+ * （変換元と同じ配列も可）に中間の文字列を生成せずに変換できる。
+ * ファイルなど大きな入力は、{@link #reader(Reader)}で読み込みながら変換する。
+ *
+ * ・{@link #FULL_TO_HALF_ALPHANUMERIC}：全角英数字 → 半角英数字
+ * ・{@link #FULL_TO_HALF_SYMBOL}：全角記号（U+FF01～U+FF5E）、全角スペース → 半角記号、半角スペース
+ * ・{@link #HALF_TO_FULL_KANA}：半角カナ → 全角カタカナ（濁点、半濁点は直前の文字と合成する。例：ｶﾞ → ガ、ﾊﾟ → パ、ｳﾞ → ヴ）
+ *   合成できない濁点、半濁点は全角の濁点（゛）、半濁点（゜）に変換する
+ * ・{@link #HIRAGANA_TO_KATAKANA}：ひらがな → 全角カタカナ（ゝ、ゞを含む）
+ *
+ * 使用例：
+ * {@code
+ *      CharacterConverter converter = CharacterConverter.of(CharacterConverter.FULL_TO_HALF_ALPHANUMERIC
+ *              | CharacterConverter.HALF_TO_FULL_KANA);
+ *      String value = converter.convert(record[i]);
+ *      try (BufferedReader reader = new BufferedReader(converter.reader(Files.newBufferedReader(path, charset)))) {
+ *          ...
+ *      }
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class CharacterConverter {
+
+    /**
+     * 全角英数字 → 半角英数字
+     */
+    public static final int FULL_TO_HALF_ALPHANUMERIC = 1;
+
+    /**
+     * 全角記号、全角スペース → 半角記号、半角スペース
+     */
+    public static final int FULL_TO_HALF_SYMBOL = 1 << 1;
+
+    /**
+     * 半角カナ → 全角カタカナ
+     */
+    public static final int HALF_TO_FULL_KANA = 1 << 2;
+
+    /**
+     * ひらがな → 全角カタカナ
+     */
+    public static final int HIRAGANA_TO_KATAKANA = 1 << 3;
+
+    private static final int ALL_CONVERSIONS = (1 << 4) - 1;
+
+    /**
+     * 全角の英数字、記号と半角の英数字、記号のコードの差
+     */
+    private static final int FULL_HALF_OFFSET = 0xFEE0;
+
+    /**
+     * 半角カナ（U+FF61～U+FF9F）に対応する全角文字
+     */
+    private static final String FULL_KANA = "。「」、・ヲァィゥェォャュョッーアイウエオカキクケコサシスセソタチツテトナニヌネノ"
+            + "ハヒフヘホマミムメモヤユヨラリルレロワン゛゜";
+
+    private static final char HALF_DAKUTEN = 0xFF9E;
+
+    private static final char HALF_HANDAKUTEN = 0xFF9F;
+
+    /**
+     * 半角カナと濁点の合成後の文字（半角カナのコード - U+FF61ごと、合成できない場合は0）
+     */
+    private static final char[] DAKUTEN = new char[FULL_KANA.length()];
+
+    /**
+     * 半角カナと半濁点の合成後の文字（半角カナのコード - U+FF61ごと、合成できない場合は0）
+     */
+    private static final char[] HANDAKUTEN = new char[FULL_KANA.length()];
+
+    private static final CharacterConverter[] CONVERTERS = new CharacterConverter[ALL_CONVERSIONS + 1];
+
+    static {
+        for (int i = 0; i < FULL_KANA.length(); i++) {
+            char full = FULL_KANA.charAt(i);
+            if ("カキクケコサシスセソタチツテトハヒフヘホ".indexOf(full) >= 0) {
+                DAKUTEN[i] = (char) (full + 1);
+            }
+            if ("ハヒフヘホ".indexOf(full) >= 0) {
+                HANDAKUTEN[i] = (char) (full + 2);
+            }
+        }
+        DAKUTEN[FULL_KANA.indexOf('ウ')] = 'ヴ';
+        DAKUTEN[FULL_KANA.indexOf('ワ')] = 'ヷ';
+        DAKUTEN[FULL_KANA.indexOf('ヲ')] = 'ヺ';
+        for (int conversions = 0; conversions <= ALL_CONVERSIONS; conversions++) {
+            CONVERTERS[conversions] = new CharacterConverter(conversions);
+        }
+    }
+
+    private final int conversions;
+
+    /**
+     * 上位8ビットごとの変換表（変換しないブロックはnull）
+     */
+    private final char[][] blocks = new char[256][];
+
+    private final boolean composeKana;
+
+    private CharacterConverter(int conversions) {
+        this.conversions = conversions;
+        this.composeKana = (conversions & HALF_TO_FULL_KANA) != 0;
+        if ((conversions & FULL_TO_HALF_ALPHANUMERIC) != 0) {
+            mapRange('０', '９', FULL_HALF_OFFSET);
+            mapRange('Ａ', 'Ｚ', FULL_HALF_OFFSET);
+            mapRange('ａ', 'ｚ', FULL_HALF_OFFSET);
+        }
+        if ((conversions & FULL_TO_HALF_SYMBOL) != 0) {
+            for (char c = '！'; c <= '～'; c++) {
+                if (!Character.isLetterOrDigit(c)) {
+                    map(c, (char) (c - FULL_HALF_OFFSET));
+                }
+            }
+            map((char) CharacterCode.FULL_SPACE, ' ');
+        }
+        if ((conversions & HALF_TO_FULL_KANA) != 0) {
+            for (int i = 0; i < FULL_KANA.length(); i++) {
+                map((char) (CharacterCode.HALF_KANA_START + i), FULL_KANA.charAt(i));
+            }
+        }
+        if ((conversions & HIRAGANA_TO_KATAKANA) != 0) {
+            mapRange((char) CharacterCode.FULL_HIRA_START, (char) CharacterCode.FULL_HIRA_END, -0x60);
+            mapRange('ゝ', 'ゞ', -0x60);
+        }
+    }
+
+    /**
+     * 変換処理の取得処理<br>
+     *
+     * @param conversions 変換の種類（定数の論理和）
+     * @return 変換処理（スレッドセーフ）
+     */
+    public static CharacterConverter of(int conversions) {
+        if ((conversions & ~ALL_CONVERSIONS) != 0) {
+            throw new IllegalArgumentException("conversions: " + conversions);
+        }
+        return CONVERTERS[conversions];
+    }
+
+    public int getConversions() {
+        return this.conversions;
+    }
+
+    private void mapRange(char from, char to, int offset) {
+        for (char c = from; c <= to; c++) {
+            map(c, (char) (c - offset));
+        }
+    }
+
+    private void map(char from, char to) {
+        char[] block = this.blocks[from >>> 8];
+        if (block == null) {
+            block = new char[256];
+            for (int i = 0; i < 256; i++) {
+                block[i] = (char) ((from & 0xFF00) | i);
+            }
+            this.blocks[from >>> 8] = block;
+        }
+        block[from & 0xFF] = to;
+    }
+
+    /**
+     * 一文字の変換処理（濁点、半濁点の合成を除く）<br>
+     *
+     * @param c 文字
+     * @return 変換後の文字
+     */
+    public char convert(char c) {
+        char[] block = this.blocks[c >>> 8];
+        return block == null ? c : block[c & 0xFF];
+    }
+
+    /**
+     * 半角カナと濁点、半濁点の合成処理<br>
+     *
+     * @param c    文字
+     * @param next 次の文字
+     * @return 合成後の文字、合成しない場合は0
+     */
+    private char compose(char c, char next) {
+        if (!this.composeKana || c < CharacterCode.HALF_KANA_START || c >= HALF_DAKUTEN) {
+            return 0;
+        }
+        if (next == HALF_DAKUTEN) {
+            return DAKUTEN[c - CharacterCode.HALF_KANA_START];
+        }
+        if (next == HALF_HANDAKUTEN) {
+            return HANDAKUTEN[c - CharacterCode.HALF_KANA_START];
+        }
+        return 0;
+    }
+
+    /**
+     * 次の文字と合成する可能性がある場合はtrue<br>
+     *
+     * @param c 文字
+     * @return boolean
+     */
+    private boolean isComposable(char c) {
+        return this.composeKana && c >= CharacterCode.HALF_KANA_START && c < HALF_DAKUTEN
+                && (DAKUTEN[c - CharacterCode.HALF_KANA_START] != 0 || HANDAKUTEN[c - CharacterCode.HALF_KANA_START] != 0);
+    }
+
+    /**
+     * 文字列の変換処理<br>
+     *
+     * @param str 文字列、null可
+     * @return 変換後の文字列（変換する文字がない場合は引数の文字列）、nullの場合はnull
+     */
+    public String convert(String str) {
+        if (str == null) {
+            return null;
+        }
+        int length = str.length();
+        int first = 0;
+        while (first < length && !needsConversion(str, first)) {
+            first++;
+        }
+        if (first == length) {
+            return str;
+        }
+        char[] chars = str.toCharArray();
+        int converted = convert(chars, first, length - first, chars, first);
+        return new String(chars, 0, first + converted);
+    }
+
+    private boolean needsConversion(String str, int index) {
+        char c = str.charAt(index);
+        return convert(c) != c || (index + 1 < str.length() && compose(c, str.charAt(index + 1)) != 0);
+    }
+
+    /**
+     * 文字列の変換処理<br>
+     *
+     * @param src  変換元の文字列
+     * @param dest 変換結果の追加先
+     * @return 変換結果の追加先
+     */
+    public StringBuilder convert(CharSequence src, StringBuilder dest) {
+        int length = src.length();
+        dest.ensureCapacity(dest.length() + length);
+        for (int i = 0; i < length; i++) {
+            char c = src.charAt(i);
+            if (i + 1 < length) {
+                char composed = compose(c, src.charAt(i + 1));
+                if (composed != 0) {
+                    dest.append(composed);
+                    i++;
+                    continue;
+                }
+            }
+            dest.append(convert(c));
+        }
+        return dest;
+    }
+
+    /**
+     * char配列の変換処理<br>
+     * 変換結果の文字数は変換前の文字数以下のため、変換先は変換元と同じ配列（{@code destOffset <= srcOffset}）でもよい。<br>
+     *
+     * @param src        変換元
+     * @param srcOffset  変換元の開始位置
+     * @param length     変換元の文字数
+     * @param dest       変換先（{@code length}文字以上の領域があること）
+     * @param destOffset 変換先の開始位置
+     * @return 変換先に書き込んだ文字数
+     */
+    public int convert(char[] src, int srcOffset, int length, char[] dest, int destOffset) {
+        Objects.requireNonNull(src);
+        Objects.requireNonNull(dest);
+        int end = srcOffset + length;
+        int position = destOffset;
+        for (int i = srcOffset; i < end; i++) {
+            char c = src[i];
+            if (i + 1 < end) {
+                char composed = compose(c, src[i + 1]);
+                if (composed != 0) {
+                    dest[position++] = composed;
+                    i++;
+                    continue;
+                }
+            }
+            dest[position++] = convert(c);
+        }
+        return position - destOffset;
+    }
+
+    /**
+     * 読み込みながら変換する{@link Reader}の生成処理<br>
+     *
+     * @param in 変換元
+     * @return 変換後の文字を返す{@link Reader}（closeすると変換元もcloseする）
+     */
+    public Reader reader(Reader in) {
+        return new ConvertingReader(this, Objects.requireNonNull(in));
+    }
+
+    /**
+     * 読み込みながら変換する{@link Reader}<br>
+     * 読み込んだ範囲の末尾が濁点、半濁点と合成する可能性がある半角カナの場合、その文字は次の読み込みまで変換しない。<br>
+     */
+    private static final class ConvertingReader extends Reader {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final CharacterConverter converter;
+
+        private final Reader in;
+
+        private final char[] buffer = new char[BUFFER_SIZE];
+
+        private int position;
+
+        private int limit;
+
+        /**
+         * 次の読み込みまで変換しない文字の有無
+         */
+        private boolean pending;
+
+        private char pendingChar;
+
+        private boolean eof;
+
+        private ConvertingReader(CharacterConverter converter, Reader in) {
+            super(in);
+            this.converter = converter;
+            this.in = in;
+        }
+
+        private boolean fill() throws IOException {
+            while (this.position >= this.limit) {
+                if (this.eof) {
+                    return false;
+                }
+                int start = 0;
+                if (this.pending) {
+                    this.buffer[start++] = this.pendingChar;
+                    this.pending = false;
+                }
+                int read = this.in.read(this.buffer, start, this.buffer.length - start);
+                if (read < 0) {
+                    this.eof = true;
+                    read = 0;
+                }
+                int total = start + read;
+                if (!this.eof && total > 0 && this.converter.isComposable(this.buffer[total - 1])) {
+                    this.pendingChar = this.buffer[--total];
+                    this.pending = true;
+                }
+                this.position = 0;
+                this.limit = this.converter.convert(this.buffer, 0, total, this.buffer, 0);
+            }
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            synchronized (this.lock) {
+                return fill() ? this.buffer[this.position++] : -1;
+            }
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || off + len > cbuf.length) {
+                throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + cbuf.length);
+            }
+            if (len == 0) {
+                return 0;
+            }
+            synchronized (this.lock) {
+                if (!fill()) {
+                    return -1;
+                }
+                int count = Math.min(len, this.limit - this.position);
+                System.arraycopy(this.buffer, this.position, cbuf, off, count);
+                this.position += count;
+                return count;
+            }
+        }
+
+        @Override
+        public boolean ready() throws IOException {
+            synchronized (this.lock) {
+                return this.position < this.limit;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ * ColumnarEvaluator.java
+ * Created on  2026/10/17 21:30
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import com.akigo.core.exception.SystemException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 計算式の列形式の評価クラス<br>
+ * <pre>
+ * 行をブロック（{@link #BLOCK_SIZE}行）ごとに分け、計算式の命令ごとにブロック内の全行を計算する。
+ * 命令ごとのループは配列の要素ごとの単純な計算のみとし、JITコンパイラーによるループの最適化（SIMD化など）の対象とする。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+final class ColumnarEvaluator {
+
+    /**
+     * ブロックの行数（有効ビットマップの64行単位の倍数）
+     */
+    static final int BLOCK_SIZE = 1024;
+
+    /**
+     * 並列評価時の分割単位（行数、{@link #BLOCK_SIZE}の倍数）
+     */
+    static final int PARALLEL_UNIT = 8 * BLOCK_SIZE;
+
+    private final ArithmeticProgram program;
+
+    private final byte[] codes;
+
+    private final int[] arguments;
+
+    /**
+     * スロットごとの列
+     */
+    private final ArithmeticColumns.Column[] variables;
+
+    private final int rowCount;
+
+    ColumnarEvaluator(ArithmeticProgram program, ArithmeticColumns columns) {
+        this.program = program;
+        this.codes = program.getCodes();
+        this.arguments = program.getArguments();
+        this.rowCount = columns.getRowCount();
+
+        List<String> variableNames = program.getVariableNames();
+        this.variables = new ArithmeticColumns.Column[variableNames.size()];
+        for (int i = 0; i < this.variables.length; i++) {
+            this.variables[i] = columns.getColumn(variableNames.get(i));
+            if (this.variables[i] == null) {
+                throw new SystemException(String.format("[%s] is not bound.", variableNames.get(i)));
+            }
+        }
+    }
+
+    ArithmeticColumnResult evalDecimal(boolean parallel) {
+        LongPlan plan = LongPlan.of(this.program, this.variables);
+        if (plan != null) {
+            ArithmeticColumnResult result = ArithmeticColumnResult.ofLongs(this.rowCount, plan.resultScale);
+            evaluate(parallel, (from, to) -> evalLongBlocks(plan, result, from, to));
+            return result;
+        }
+
+        ArithmeticColumnResult result = ArithmeticColumnResult.ofDecimals(this.rowCount);
+        evaluate(parallel, (from, to) -> {
+            BigDecimal[] slots = new BigDecimal[this.variables.length];
+            for (int row = from; row < to; row++) {
+                BigDecimal value = evalDecimalRow(result, row, slots);
+                if (value != null) {
+                    result.getDecimals()[row] = value;
+                }
+            }
+        });
+        return result;
+    }
+
+    ArithmeticColumnResult evalDouble(boolean parallel) {
+        ArithmeticColumnResult result = ArithmeticColumnResult.ofDoubles(this.rowCount);
+        evaluate(parallel, (from, to) -> evalDoubleBlocks(result, from, to));
+        return result;
+    }
+
+    /**
+     * 一行の{@link BigDecimal}での評価処理<br>
+     *
+     * @param result 計算結果（無効な行を設定する）
+     * @param row    行番号
+     * @param slots  変数の値の作業領域
+     * @return 計算結果、無効な行の場合はnull
+     */
+    private BigDecimal evalDecimalRow(ArithmeticColumnResult result, int row, BigDecimal[] slots) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = this.variables[i].getDecimal(row);
+            if (slots[i] == null) {
+                result.invalidate(row);
+                return null;
+            }
+        }
+        try {
+            return this.program.evalSlots(slots);
+        } catch (SystemException e) {
+            if (e.getCause() instanceof ArithmeticException) {
+                result.invalidate(row);
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private void evalLongBlocks(LongPlan plan, ArithmeticColumnResult result, int from, int to) {
+        long[][] stack = new long[this.program.getMaxDepth()][BLOCK_SIZE];
+        boolean[] overflows = new boolean[BLOCK_SIZE];
+        BigDecimal[] slots = new BigDecimal[this.variables.length];
+        long[] out = result.getUnscaledValues();
+        RoundingMode roundingMode = this.program.getRoundingMode();
+
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, to - start);
+            Arrays.fill(overflows, false);
+            int top = -1;
+            for (int pc = 0; pc < this.codes.length; pc++) {
+                switch (this.codes[pc]) {
+                    case ArithmeticProgram.CONSTANT:
+                        Arrays.fill(stack[++top], 0, length, plan.constants[this.arguments[pc]]);
+                        break;
+                    case ArithmeticProgram.VARIABLE:
+                        System.arraycopy(this.variables[this.arguments[pc]].longs, start, stack[++top], 0, length);
+                        break;
+                    case ArithmeticProgram.NEGATED_VARIABLE:
+                        negate(this.variables[this.arguments[pc]].longs, start, stack[++top], length, overflows);
+                        break;
+                    default:
+                        top--;
+                        calculate(this.codes[pc], stack[top], stack[top + 1], length, plan.leftExponents[pc],
+                                plan.rightExponents[pc], roundingMode, overflows);
+                        break;
+                }
+            }
+
+            System.arraycopy(stack[0], 0, out, start, length);
+            for (int i = 0; i < length; i++) {
+                if (overflows[i]) {
+                    // オーバーフローした行はBigDecimalで計算し直す
+                    BigDecimal value = evalDecimalRow(result, start + i, slots);
+                    if (value != null) {
+                        result.setOverflowValue(start + i, value);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void negate(long[] column, int start, long[] target, int length, boolean[] overflows) {
+        for (int i = 0; i < length; i++) {
+            long value = column[start + i];
+            overflows[i] |= value == Long.MIN_VALUE;
+            target[i] = -value;
+        }
+    }
+
+    /**
+     * 二項演算の処理（結果は{@code left}に格納する）<br>
+     */
+    private static void calculate(byte code, long[] left, long[] right, int length, int leftExponent, int rightExponent,
+                                  RoundingMode roundingMode, boolean[] overflows) {
+        if (code == ArithmeticProgram.PLUS || code == ArithmeticProgram.SUB) {
+            alignScale(left, length, leftExponent, overflows);
+            alignScale(right, length, rightExponent, overflows);
+        }
+        switch (code) {
+            case ArithmeticProgram.PLUS:
+                for (int i = 0; i < length; i++) {
+                    long x = left[i];
+                    long y = right[i];
+                    long r = x + y;
+                    overflows[i] |= ((x ^ r) & (y ^ r)) < 0;
+                    left[i] = r;
+                }
+                break;
+            case ArithmeticProgram.SUB:
+                for (int i = 0; i < length; i++) {
+                    long x = left[i];
+                    long y = right[i];
+                    long r = x - y;
+                    overflows[i] |= ((x ^ y) & (x ^ r)) < 0;
+                    left[i] = r;
+                }
+                break;
+            case ArithmeticProgram.MULTI:
+                for (int i = 0; i < length; i++) {
+                    long x = left[i];
+                    long y = right[i];
+                    long r = x * y;
+                    // Math.multiplyExactと同じ判定
+                    if (((Math.abs(x) | Math.abs(y)) >>> 31) != 0) {
+                        overflows[i] |= y != 0 && r / y != x || x == Long.MIN_VALUE && y == -1;
+                    }
+                    left[i] = r;
+                }
+                break;
+            default:
+                // 被除数を10^leftExponent倍して、割算の結果のスケールに合わせる
+                alignScale(left, length, leftExponent, overflows);
+                for (int i = 0; i < length; i++) {
+                    long x = left[i];
+                    long y = right[i];
+                    if (overflows[i] || y == 0 || y == Long.MIN_VALUE || x == Long.MIN_VALUE) {
+                        overflows[i] = true;
+                        continue;
+                    }
+                    try {
+                        left[i] = ArithmeticProgram.divide(x, y, roundingMode);
+                    } catch (ArithmeticException e) {
+                        overflows[i] = true;
+                    }
+                }
+                break;
+        }
+    }
+
+    private static void alignScale(long[] values, int length, int exponent, boolean[] overflows) {
+        if (exponent == 0) {
+            return;
+        }
+        long factor = ArithmeticProgram.POWERS_OF_TEN[exponent];
+        long limit = Long.MAX_VALUE / factor;
+        for (int i = 0; i < length; i++) {
+            long value = values[i];
+            overflows[i] |= value > limit || value < -limit;
+            values[i] = value * factor;
+        }
+    }
+
+    private void evalDoubleBlocks(ArithmeticColumnResult result, int from, int to) {
+        double[][] stack = new double[this.program.getMaxDepth()][BLOCK_SIZE];
+        double[] out = result.getDoubles();
+        BigDecimal[] constants = this.program.getConstants();
+
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, to - start);
+            int top = -1;
+            for (int pc = 0; pc < this.codes.length; pc++) {
+                byte code = this.codes[pc];
+                if (code == ArithmeticProgram.CONSTANT) {
+                    Arrays.fill(stack[++top], 0, length, constants[this.arguments[pc]].doubleValue());
+                    continue;
+                }
+                if (code == ArithmeticProgram.VARIABLE || code == ArithmeticProgram.NEGATED_VARIABLE) {
+                    double[] target = stack[++top];
+                    load(this.variables[this.arguments[pc]], start, target, length);
+                    if (code == ArithmeticProgram.NEGATED_VARIABLE) {
+                        for (int i = 0; i < length; i++) {
+                            target[i] = -target[i];
+                        }
+                    }
+                    continue;
+                }
+
+                double[] left = stack[--top];
+                double[] right = stack[top + 1];
+                switch (code) {
+                    case ArithmeticProgram.PLUS:
+                        for (int i = 0; i < length; i++) {
+                            left[i] += right[i];
+                        }
+                        break;
+                    case ArithmeticProgram.SUB:
+                        for (int i = 0; i < length; i++) {
+                            left[i] -= right[i];
+                        }
+                        break;
+                    case ArithmeticProgram.MULTI:
+                        for (int i = 0; i < length; i++) {
+                            left[i] *= right[i];
+                        }
+                        break;
+                    default:
+                        for (int i = 0; i < length; i++) {
+                            left[i] /= right[i];
+                        }
+                        break;
+                }
+            }
+
+            // NaNは入力のNaN（null）から伝播するため、計算結果のみで無効な行を判定する
+            double[] values = stack[0];
+            for (int i = 0; i < length; i++) {
+                double value = values[i];
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    result.invalidate(start + i);
+                    value = Double.NaN;
+                }
+                out[start + i] = value;
+            }
+        }
+    }
+
+    private static void load(ArithmeticColumns.Column column, int start, double[] target, int length) {
+        if (column.doubles != null) {
+            System.arraycopy(column.doubles, start, target, 0, length);
+        } else if (column.longs != null) {
+            long[] longs = column.longs;
+            double divisor = column.divisor;
+            for (int i = 0; i < length; i++) {
+                target[i] = longs[start + i] / divisor;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                target[i] = column.getDouble(start + i);
+            }
+        }
+    }
+
+    private void evaluate(boolean parallel, RangeEvaluation evaluation) {
+        if (parallel && this.rowCount > PARALLEL_UNIT) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(0, this.rowCount, evaluation));
+        } else {
+            evaluation.evaluate(0, this.rowCount);
+        }
+    }
+
+    /**
+     * long[]の列のみの場合の評価計画（各命令のスケールは値に依存せず、列と定数のスケールのみで決まる）<br>
+     */
+    private static final class LongPlan {
+
+        private final long[] constants;
+
+        /**
+         * 命令ごとの左オペランドのスケール調整（10の乗数）
+         */
+        private final int[] leftExponents;
+
+        /**
+         * 命令ごとの右オペランドのスケール調整（10の乗数）
+         */
+        private final int[] rightExponents;
+
+        private final int resultScale;
+
+        private LongPlan(long[] constants, int[] leftExponents, int[] rightExponents, int resultScale) {
+            this.constants = constants;
+            this.leftExponents = leftExponents;
+            this.rightExponents = rightExponents;
+            this.resultScale = resultScale;
+        }
+
+        /**
+         * 評価計画の生成処理<br>
+         *
+         * @return 評価計画、longで計算できない場合はnull
+         */
+        private static LongPlan of(ArithmeticProgram program, ArithmeticColumns.Column[] variables) {
+            if (!program.isLongArithmetic() || program.getMathContext() != null) {
+                return null;
+            }
+
+            BigDecimal[] decimals = program.getConstants();
+            long[] constants = new long[decimals.length];
+            int[] constantScales = new int[decimals.length];
+            for (int i = 0; i < decimals.length; i++) {
+                constantScales[i] = ArithmeticProgram.longScale(decimals[i]);
+                if (constantScales[i] < 0) {
+                    return null;
+                }
+                constants[i] = decimals[i].unscaledValue().longValue();
+            }
+
+            byte[] codes = program.getCodes();
+            int[] arguments = program.getArguments();
+            int[] leftExponents = new int[codes.length];
+            int[] rightExponents = new int[codes.length];
+            int[] scales = new int[program.getMaxDepth()];
+            int top = -1;
+            for (int pc = 0; pc < codes.length; pc++) {
+                switch (codes[pc]) {
+                    case ArithmeticProgram.CONSTANT:
+                        scales[++top] = constantScales[arguments[pc]];
+                        break;
+                    case ArithmeticProgram.VARIABLE:
+                    case ArithmeticProgram.NEGATED_VARIABLE:
+                        ArithmeticColumns.Column column = variables[arguments[pc]];
+                        if (column.longs == null || column.scale < 0 || column.scale > ArithmeticProgram.MAX_LONG_SCALE) {
+                            return null;
+                        }
+                        scales[++top] = column.scale;
+                        break;
+                    default:
+                        int s2 = scales[top--];
+                        int s1 = scales[top];
+                        int scale = Math.max(s1, s2);
+                        if (codes[pc] == ArithmeticProgram.MULTI) {
+                            scale = s1 + s2;
+                        } else if (codes[pc] == ArithmeticProgram.DIV) {
+                            leftExponents[pc] = scale - s1 + s2;
+                        } else {
+                            leftExponents[pc] = scale - s1;
+                            rightExponents[pc] = scale - s2;
+                        }
+                        if (scale > ArithmeticProgram.MAX_LONG_SCALE || leftExponents[pc] > ArithmeticProgram.MAX_LONG_SCALE) {
+                            return null;
+                        }
+                        scales[top] = scale;
+                        break;
+                }
+            }
+            return new LongPlan(constants, leftExponents, rightExponents, scales[top]);
+        }
+    }
+
+    /**
+     * 行範囲の評価処理
+     */
+    @FunctionalInterface
+    private interface RangeEvaluation {
+        void evaluate(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final transient RangeEvaluation evaluation;
+
+        private RangeTask(int from, int to, RangeEvaluation evaluation) {
+            this.from = from;
+            this.to = to;
+            this.evaluation = evaluation;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_UNIT) {
+                this.evaluation.evaluate(this.from, this.to);
+                return;
+            }
+            // 有効ビットマップを複数スレッドで更新しないよう、ブロック単位で分割する
+            int middle = this.from + ((this.to - this.from) >>> 1) / BLOCK_SIZE * BLOCK_SIZE;
+            invokeAll(new RangeTask(this.from, middle, this.evaluation), new RangeTask(middle, this.to, this.evaluation));
+        }
+    }
+}
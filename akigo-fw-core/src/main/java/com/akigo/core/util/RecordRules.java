@@ -0,0 +1,233 @@
+/*
+ * RecordRules.java
+ * Created on  2026/10/17 23:59
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * レコードの入力チェックルールの定義クラス<br>
+ * <pre>
+ * CSV、固定長ファイルなどのレコード（項目番号順の文字列配列）の項目ごとに、入力チェックルールとエラーコードを定義する。
+ * {@link #compile()}でルールを一度だけ解析（文字コード、日付フォーマット、正規表現など）し、
+ * レコード全体を一度の走査でチェックする{@link RecordValidator}を生成する。
+ *
+ * ・同じ項目のルールは定義順にチェックし、エラーを検出した場合は同じ項目の後続のルールはチェックしない。
+ * ・{@link #required(int, String)}以外のルールは、値がnull、空文字列の場合はチェックしない。
+ * ・固定長ファイルは、事前に項目ごとの文字列に分割すること。
+ *
+ * 使用例：
+ * {@code
+ *      RecordValidator validator = new RecordRules()
+ *              .required(0, "E001")
+ *              .charClass(0, CharClassProfile.HALF_ALPHANUMERIC, "E002")
+ *              .byteLength(1, 1, 40, "MS932", "E003")
+ *              .dateFormat(2, "uuuuMMdd", "E004")
+ *              .range(3, BigDecimal.ZERO, new BigDecimal("99999.99"), "E005")
+ *              .pattern(4, "[A-Z]{2}-\\d{4}", "E006")
+ *              .compile();
+ *      ValidationResult result = validator.validate(record);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class RecordRules {
+
+    private final List<RecordValidator.Rule> rules = new ArrayList<>();
+
+    /**
+     * 必須チェックの追加処理<br>
+     * 値がnull、空文字列の場合はエラーとする。<br>
+     *
+     * @param field     項目番号
+     * @param errorCode エラーコード
+     * @return this
+     */
+    public RecordRules required(int field, String errorCode) {
+        return add(field, RecordValidator.REQUIRED, 0, 0, null, errorCode);
+    }
+
+    /**
+     * 文字種チェックの追加処理<br>
+     * 全ての文字が{@code charClasses}のいずれかの文字種に該当しない場合はエラーとする。<br>
+     *
+     * @param field       項目番号
+     * @param charClasses 文字種（{@link CharClassProfile}の定数、複数指定する場合は論理和）
+     * @param errorCode   エラーコード
+     * @return this
+     */
+    public RecordRules charClass(int field, int charClasses, String errorCode) {
+        return add(field, RecordValidator.CHAR_CLASS, charClasses, 0, null, errorCode);
+    }
+
+    /**
+     * 禁止文字種チェックの追加処理<br>
+     * いずれかの文字が{@code charClasses}のいずれかの文字種に該当する場合はエラーとする。<br>
+     *
+     * @param field       項目番号
+     * @param charClasses 文字種（{@link CharClassProfile}の定数、複数指定する場合は論理和）
+     * @param errorCode   エラーコード
+     * @return this
+     */
+    public RecordRules excludesCharClass(int field, int charClasses, String errorCode) {
+        return add(field, RecordValidator.EXCLUDES_CHAR_CLASS, charClasses, 0, null, errorCode);
+    }
+
+    /**
+     * 文字数チェックの追加処理<br>
+     *
+     * @param field     項目番号
+     * @param min       最小文字数
+     * @param max       最大文字数
+     * @param errorCode エラーコード
+     * @return this
+     */
+    public RecordRules length(int field, int min, int max, String errorCode) {
+        checkRange(min, max);
+        return add(field, RecordValidator.LENGTH, min, max, null, errorCode);
+    }
+
+    /**
+     * バイト数チェックの追加処理<br>
+     * バイト数は{@link Strings#isLimitedBytes(String, Integer, String)}と同じく、エンコードせずに計算する。<br>
+     *
+     * @param field     項目番号
+     * @param min       最小バイト数
+     * @param max       最大バイト数
+     * @param enc       エンコード、nullの場合は"UTF8"
+     * @param errorCode エラーコード
+     * @return this
+     * @throws IllegalArgumentException サポートされていないエンコードの場合
+     */
+    public RecordRules byteLength(int field, int min, int max, String enc, String errorCode) {
+        String encoding = enc == null ? CharacterCode.UTF8_ENCODING : enc;
+        ByteLengthCounter counter = ByteLengthCounter.forName(encoding);
+        if (counter == null) {
+            throw new IllegalArgumentException(encoding + "はサポートされていないエンコードです");
+        }
+        checkRange(min, max);
+        return add(field, RecordValidator.BYTE_LENGTH, min, max, counter, errorCode);
+    }
+
+    /**
+     * 最大バイト数チェックの追加処理<br>
+     *
+     * @param field     項目番号
+     * @param max       最大バイト数
+     * @param enc       エンコード、nullの場合は"UTF8"
+     * @param errorCode エラーコード
+     * @return this
+     * @throws IllegalArgumentException サポートされていないエンコードの場合
+     */
+    public RecordRules maxBytes(int field, int max, String enc, String errorCode) {
+        return byteLength(field, 0, max, enc, errorCode);
+    }
+
+    /**
+     * 日付フォーマットチェックの追加処理<br>
+     * {@link DateTimes#isValidFormat(String, String)}がtrueとなる値以外はエラーとする（例外はスローしない）。<br>
+     *
+     * @param field     項目番号
+     * @param format    フォーマット 「yyyyMMdd」など
+     * @param errorCode エラーコード
+     * @return this
+     * @throws IllegalArgumentException 不正なフォーマットの場合
+     */
+    public RecordRules dateFormat(int field, String format, String errorCode) {
+        DateTimeFormatter formatter;
+        try {
+            formatter = DateTimeFormatter.ofPattern(format);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(format + "は不正な引数です", e);
+        }
+        return add(field, RecordValidator.DATE_FORMAT, 0, 0, formatter, errorCode);
+    }
+
+    /**
+     * 数値範囲チェックの追加処理<br>
+     * 10進数（半角数字、符号、小数点、指数）以外、または範囲外の場合はエラーとする。<br>
+     *
+     * @param field     項目番号
+     * @param min       最小値（含む）、nullの場合は下限なし
+     * @param max       最大値（含む）、nullの場合は上限なし
+     * @param errorCode エラーコード
+     * @return this
+     */
+    public RecordRules range(int field, BigDecimal min, BigDecimal max, String errorCode) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min: " + min + ", max: " + max);
+        }
+        return add(field, RecordValidator.RANGE, 0, 0, new RecordValidator.NumberRange(min, max), errorCode);
+    }
+
+    /**
+     * 正規表現チェックの追加処理<br>
+     * 値全体が正規表現に一致しない場合はエラーとする。<br>
+     *
+     * @param field     項目番号
+     * @param regex     正規表現
+     * @param errorCode エラーコード
+     * @return this
+     */
+    public RecordRules pattern(int field, String regex, String errorCode) {
+        return pattern(field, Strings.compilePattern(regex), errorCode);
+    }
+
+    /**
+     * 正規表現チェックの追加処理<br>
+     * 値全体が正規表現に一致しない場合はエラーとする。<br>
+     *
+     * @param field     項目番号
+     * @param regex     正規表現
+     * @param errorCode エラーコード
+     * @return this
+     */
+    public RecordRules pattern(int field, Pattern regex, String errorCode) {
+        if (regex == null) {
+            throw new IllegalArgumentException("regex is null");
+        }
+        return add(field, RecordValidator.PATTERN, 0, 0, regex, errorCode);
+    }
+
+    /**
+     * コンパイル処理<br>
+     *
+     * @return 入力チェック処理
+     */
+    public RecordValidator compile() {
+        RecordValidator.Rule[] compiled = this.rules.toArray(new RecordValidator.Rule[0]);
+        // 同じ項目のルールを連続させる（安定ソートのため、同じ項目内は定義順）
+        Arrays.sort(compiled, Comparator.comparingInt(rule -> rule.field));
+        return new RecordValidator(compiled);
+    }
+
+    private RecordRules add(int field, int opcode, int min, int max, Object argument, String errorCode) {
+        if (field < 0) {
+            throw new IllegalArgumentException("field must not be negative: " + field);
+        }
+        if (errorCode == null) {
+            throw new IllegalArgumentException("errorCode is null");
+        }
+        this.rules.add(new RecordValidator.Rule(field, opcode, min, max, argument, errorCode));
+        return this;
+    }
+
+    private static void checkRange(int min, int max) {
+        if (min < 0 || min > max) {
+            throw new IllegalArgumentException("min: " + min + ", max: " + max);
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * RecordValidator.java
+ * Created on  2026/10/17 23:59
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import com.akigo.core.el.NumberLiterals;
+
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * レコードの入力チェッククラス<br>
+ * <pre>
+ * {@link RecordRules#compile()}で生成する。ルールは項目番号順の配列にコンパイル済みで、
+ * レコードの各項目の値を一度だけ取得し、項目のルールを順にチェックする。
+ * エラーは例外をスローせず、再利用する{@link ValidationResult}にエラーコードとして収集する。
+ *
+ * スレッドセーフではない（正規表現の{@link Matcher}、チェック結果を再利用する）。
+ * 複数スレッドでチェックする場合は、{@link #newWorker()}でスレッドごとに生成すること
+ * （コンパイル済みのルールは共有する）。
+ * {@link #validateAll(List, boolean)}は、並列チェック時にワーカースレッドごとに一つのインスタンスを使用する。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class RecordValidator {
+
+    static final int REQUIRED = 0;
+
+    static final int CHAR_CLASS = 1;
+
+    static final int EXCLUDES_CHAR_CLASS = 2;
+
+    static final int LENGTH = 3;
+
+    static final int BYTE_LENGTH = 4;
+
+    static final int DATE_FORMAT = 5;
+
+    static final int RANGE = 6;
+
+    static final int PATTERN = 7;
+
+    /**
+     * 並列チェック時の分割単位（レコード数）
+     */
+    static final int PARALLEL_UNIT = 4096;
+
+    private final Rule[] rules;
+
+    /**
+     * 正規表現チェックのルールの{@link Matcher}（ルールと同じ順序、正規表現チェック以外はnull）
+     */
+    private final Matcher[] matchers;
+
+    private final ValidationResult result = new ValidationResult();
+
+    RecordValidator(Rule[] rules) {
+        this.rules = rules;
+        this.matchers = new Matcher[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].opcode == PATTERN) {
+                this.matchers[i] = ((Pattern) rules[i].argument).matcher("");
+            }
+        }
+    }
+
+    /**
+     * 同じルールのインスタンス（スレッドごとのインスタンス）の生成処理<br>
+     *
+     * @return 入力チェック処理
+     */
+    public RecordValidator newWorker() {
+        return new RecordValidator(this.rules);
+    }
+
+    /**
+     * レコードのチェック処理<br>
+     *
+     * @param record レコード（項目番号順の値、項目数が足りない場合は値をnullとしてチェックする）
+     * @return チェック結果（本インスタンスで再利用するため、次のチェックで上書きされる）
+     */
+    public ValidationResult validate(String[] record) {
+        validate(record, this.result);
+        return this.result;
+    }
+
+    /**
+     * レコードのチェック処理<br>
+     *
+     * @param record レコード（項目番号順の値、項目数が足りない場合は値をnullとしてチェックする）
+     * @param result チェック結果（チェック前にクリアする）
+     * @return エラーがない場合はtrue
+     */
+    public boolean validate(String[] record, ValidationResult result) {
+        Objects.requireNonNull(record);
+        result.clear();
+
+        Rule[] rules = this.rules;
+        int i = 0;
+        while (i < rules.length) {
+            int field = rules[i].field;
+            String value = field < record.length ? record[field] : null;
+            boolean empty = value == null || value.isEmpty();
+            // 同じ項目のルールを順にチェックし、エラーを検出した時点で次の項目に進む
+            for (; i < rules.length && rules[i].field == field; i++) {
+                Rule rule = rules[i];
+                if (empty ? rule.opcode == REQUIRED : !check(i, rule, value)) {
+                    result.add(field, rule.errorCode);
+                    while (i < rules.length && rules[i].field == field) {
+                        i++;
+                    }
+                    break;
+                }
+            }
+        }
+        return result.isValid();
+    }
+
+    /**
+     * ルールのチェック処理（値はnull、空文字列以外）<br>
+     *
+     * @param index ルールのインデックス
+     * @param rule  ルール
+     * @param value 値
+     * @return チェックOKの場合はtrue
+     */
+    private boolean check(int index, Rule rule, String value) {
+        switch (rule.opcode) {
+            case REQUIRED:
+                return true;
+            case CHAR_CLASS:
+                for (int i = 0, length = value.length(); i < length; i++) {
+                    if ((CharClassTable.classOf(value.charAt(i)) & rule.min) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            case EXCLUDES_CHAR_CLASS:
+                for (int i = 0, length = value.length(); i < length; i++) {
+                    if ((CharClassTable.classOf(value.charAt(i)) & rule.min) != 0) {
+                        return false;
+                    }
+                }
+                return true;
+            case LENGTH:
+                return value.length() >= rule.min && value.length() <= rule.max;
+            case BYTE_LENGTH:
+                long bytes = ((ByteLengthCounter) rule.argument).count(value, rule.max);
+                return bytes >= rule.min && bytes <= rule.max;
+            case DATE_FORMAT:
+                return isValidDate((DateTimeFormatter) rule.argument, value);
+            case RANGE:
+                return ((NumberRange) rule.argument).contains(value);
+            case PATTERN:
+                return this.matchers[index].reset(value).matches();
+            default:
+                throw new IllegalStateException("opcode: " + rule.opcode);
+        }
+    }
+
+    /**
+     * 日付フォーマットのチェック処理<br>
+     * 書式の不一致は例外を使わずに判定し、書式に一致した値のみ日付として解決（存在しない日付などの判定）する。<br>
+     */
+    private static boolean isValidDate(DateTimeFormatter formatter, String value) {
+        ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(value, position) == null
+                || position.getErrorIndex() >= 0 || position.getIndex() != value.length()) {
+            return false;
+        }
+        try {
+            formatter.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * レコードの一括チェック処理<br>
+     *
+     * @param records  レコードのリスト
+     * @param parallel 並列チェックする場合はtrue
+     * @return チェック結果
+     */
+    public BatchValidationResult validateAll(List<String[]> records, boolean parallel) {
+        Objects.requireNonNull(records);
+        List<String[]> rows = records instanceof RandomAccess ? records : new ArrayList<>(records);
+        int recordCount = rows.size();
+        ErrorBuffer[] chunks = new ErrorBuffer[(recordCount + PARALLEL_UNIT - 1) / PARALLEL_UNIT];
+
+        if (parallel && chunks.length > 1) {
+            ThreadLocal<RecordValidator> workers = ThreadLocal.withInitial(this::newWorker);
+            ForkJoinPool.commonPool().invoke(new ChunkTask(0, chunks.length, chunk -> chunks[chunk] = workers.get().validateChunk(rows, chunk)));
+        } else {
+            for (int chunk = 0; chunk < chunks.length; chunk++) {
+                chunks[chunk] = validateChunk(rows, chunk);
+            }
+        }
+        return merge(recordCount, chunks);
+    }
+
+    private ErrorBuffer validateChunk(List<String[]> rows, int chunk) {
+        ErrorBuffer errors = new ErrorBuffer();
+        int to = Math.min(rows.size(), (chunk + 1) * PARALLEL_UNIT);
+        for (int row = chunk * PARALLEL_UNIT; row < to; row++) {
+            if (!validate(rows.get(row), this.result)) {
+                for (int i = 0; i < this.result.getErrorCount(); i++) {
+                    errors.add(row, this.result.getField(i), this.result.getErrorCode(i));
+                }
+            }
+        }
+        return errors;
+    }
+
+    private static BatchValidationResult merge(int recordCount, ErrorBuffer[] chunks) {
+        int errorCount = 0;
+        for (ErrorBuffer chunk : chunks) {
+            errorCount += chunk.size;
+        }
+        int[] rows = new int[errorCount];
+        int[] fields = new int[errorCount];
+        String[] errorCodes = new String[errorCount];
+        int offset = 0;
+        for (ErrorBuffer chunk : chunks) {
+            System.arraycopy(chunk.rows, 0, rows, offset, chunk.size);
+            System.arraycopy(chunk.fields, 0, fields, offset, chunk.size);
+            System.arraycopy(chunk.errorCodes, 0, errorCodes, offset, chunk.size);
+            offset += chunk.size;
+        }
+        return new BatchValidationResult(recordCount, rows, fields, errorCodes);
+    }
+
+    /**
+     * コンパイル済みのルール<br>
+     */
+    static final class Rule {
+
+        final int field;
+
+        final int opcode;
+
+        /**
+         * 最小値（文字数、バイト数）、または文字種
+         */
+        final int min;
+
+        /**
+         * 最大値（文字数、バイト数）
+         */
+        final int max;
+
+        /**
+         * 解析済みの引数（{@link ByteLengthCounter}、{@link DateTimeFormatter}、{@link NumberRange}、{@link Pattern}）
+         */
+        final Object argument;
+
+        final String errorCode;
+
+        Rule(int field, int opcode, int min, int max, Object argument, String errorCode) {
+            this.field = field;
+            this.opcode = opcode;
+            this.min = min;
+            this.max = max;
+            this.argument = argument;
+            this.errorCode = errorCode;
+        }
+    }
+
+    /**
+     * 数値範囲<br>
+     * 値と範囲がともに整数値とスケール（{@link NumberLiterals}）で表現できる場合は、BigDecimalを生成せずに比較する。<br>
+     */
+    static final class NumberRange {
+
+        private final Bound min;
+
+        private final Bound max;
+
+        NumberRange(BigDecimal min, BigDecimal max) {
+            this.min = min == null ? null : new Bound(min);
+            this.max = max == null ? null : new Bound(max);
+        }
+
+        private boolean contains(String value) {
+            if (NumberLiterals.kindOf(value) == NumberLiterals.NOT_NUMBER) {
+                return false;
+            }
+            int scale = NumberLiterals.scaleOf(value);
+            long unscaledValue = scale >= 0 ? NumberLiterals.unscaledValueOf(value) : 0L;
+            BigDecimal decimal = null;
+            if (this.min != null) {
+                if (scale >= 0 && this.min.scale >= 0) {
+                    if (NumberLiterals.compare(unscaledValue, scale, this.min.unscaledValue, this.min.scale) < 0) {
+                        return false;
+                    }
+                } else {
+                    decimal = new BigDecimal(value);
+                    if (decimal.compareTo(this.min.value) < 0) {
+                        return false;
+                    }
+                }
+            }
+            if (this.max != null) {
+                if (scale >= 0 && this.max.scale >= 0) {
+                    return NumberLiterals.compare(unscaledValue, scale, this.max.unscaledValue, this.max.scale) <= 0;
+                }
+                return (decimal == null ? new BigDecimal(value) : decimal).compareTo(this.max.value) <= 0;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 数値範囲の境界値<br>
+     */
+    private static final class Bound {
+
+        private final BigDecimal value;
+
+        private final long unscaledValue;
+
+        /**
+         * スケール、整数値とスケールで表現できない場合は-1
+         */
+        private final int scale;
+
+        private Bound(BigDecimal value) {
+            this.value = value;
+            BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+            if (normalized.scale() <= NumberLiterals.MAX_SCALE && normalized.precision() <= 18) {
+                this.unscaledValue = normalized.unscaledValue().longValue();
+                this.scale = normalized.scale();
+            } else {
+                this.unscaledValue = 0L;
+                this.scale = -1;
+            }
+        }
+    }
+
+    /**
+     * 一括チェックの分割単位ごとのエラー<br>
+     */
+    private static final class ErrorBuffer {
+
+        private int[] rows = new int[16];
+
+        private int[] fields = new int[16];
+
+        private String[] errorCodes = new String[16];
+
+        private int size;
+
+        private void add(int row, int field, String errorCode) {
+            if (this.size == this.rows.length) {
+                this.rows = Arrays.copyOf(this.rows, this.size * 2);
+                this.fields = Arrays.copyOf(this.fields, this.size * 2);
+                this.errorCodes = Arrays.copyOf(this.errorCodes, this.size * 2);
+            }
+            this.rows[this.size] = row;
+            this.fields[this.size] = field;
+            this.errorCodes[this.size] = errorCode;
+            this.size++;
+        }
+    }
+
+    /**
+     * 分割単位の範囲のチェック処理
+     */
+    @FunctionalInterface
+    private interface ChunkValidation {
+        void validate(int chunk);
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final transient ChunkValidation validation;
+
+        private ChunkTask(int from, int to, ChunkValidation validation) {
+            this.from = from;
+            this.to = to;
+            this.validation = validation;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= 1) {
+                this.validation.validate(this.from);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ChunkTask(this.from, middle, this.validation), new ChunkTask(middle, this.to, this.validation));
+        }
+    }
+}
@@ -10,13 +10,16 @@ package com.akigo.core.util;
 
 import com.akigo.core.exception.SystemException;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -35,6 +38,16 @@ import java.util.jar.JarFile;
  */
 public class ReflectionUtils {
 
+    /**
+     * クラスインデックスの格納ディレクトリ
+     */
+    private static final String CLASS_INDEX_DIRECTORY = "META-INF/akigo/index/";
+
+    /**
+     * クラスインデックスの使用有無のシステムプロパティ
+     */
+    private static final String CLASS_INDEX_PROPERTY = "akigo.classIndex";
+
     public interface ScanPackageFilter {
         boolean accept(Class<?> clazz);
     }
@@ -43,6 +56,53 @@ public class ReflectionUtils {
         return scanPackage(packageName, c -> c.isAnnotationPresent(annotationClass));
     }
 
+    /**
+     * アノテーションを付与したクラスの取得処理（クラスインデックス使用）<br>
+     * <pre>
+     * コンパイル時に生成したクラスインデックス（META-INF/akigo/index/アノテーションの完全修飾名）から
+     * 指定パッケージ配下のクラスを取得する。クラスパスの走査は行わない。
+     * クラスインデックスが存在しない場合、またはシステムプロパティ"akigo.classIndex"がfalseの場合は、
+     * {@link #getAllClassesWith(String, Class)}でクラスパスを走査する。
+     * </pre>
+     *
+     * @param packageName     パッケージ名
+     * @param annotationClass アノテーション
+     * @return クラスのセット
+     */
+    public static Set<Class<?>> getIndexedClassesWith(String packageName, Class<? extends Annotation> annotationClass) {
+        if (!Boolean.parseBoolean(System.getProperty(CLASS_INDEX_PROPERTY, "true"))) {
+            return getAllClassesWith(packageName, annotationClass);
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Set<Class<?>> results = new LinkedHashSet<>();
+        boolean indexed = false;
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(CLASS_INDEX_DIRECTORY + annotationClass.getName());
+            while (indexes.hasMoreElements()) {
+                indexed = true;
+                URL url = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String className = line.trim();
+                        if (!className.startsWith(packageName + '.')) {
+                            continue;
+                        }
+                        Class<?> clazz = classLoader.loadClass(className);
+                        if (clazz.isAnnotationPresent(annotationClass)) {
+                            results.add(clazz);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SystemException(e);
+        }
+
+        return indexed ? results : getAllClassesWith(packageName, annotationClass);
+    }
+
     public static Set<Class<?>> scanPackage(String packageName) {
         return scanPackage(packageName, c -> true);
     }
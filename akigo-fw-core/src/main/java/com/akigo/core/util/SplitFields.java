@@ -0,0 +1,267 @@
+/*
+ * SplitFields.java
+ * Created on  2026/10/17 23:59
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 区切り文字（正規表現以外）による分割結果クラス<br>
+ * <pre>
+ * {@link Strings#splitLiteral(CharSequence, char)}、{@link Strings#splitLiteral(CharSequence, String)}の結果。
+ * 分割元の文字列と、項目ごとの開始位置、終了位置の配列のみを保持し、項目ごとの文字列は生成しない。
+ * 項目は{@link #get(int)}で分割元の文字列を参照する{@link CharSequence}として、
+ * または{@link #start(int)}、{@link #end(int)}の位置として参照する。
+ * {@link String#split(String)}と異なり、末尾の空の項目も削除しない。
+ * 項目の{@link CharSequence}は内容で比較しないため、{@link List}は実装しない。
+ * 項目を文字列として比較、検索する場合は{@link #getString(int)}、{@link #toStringList()}を使用する。
+ *
+ * 使用例：
+ * {@code
+ *      SplitFields fields = Strings.splitLiteral(line, ',');
+ *      for (int i = 0; i < fields.size(); i++) {
+ *          if (fields.length(i) == 0) {
+ *              ...
+ *          }
+ *      }
+ *      String code = fields.getString(0);
+ * }
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class SplitFields {
+
+    static final SplitFields EMPTY = new SplitFields("", new int[0], 0);
+
+    private final CharSequence source;
+
+    /**
+     * 項目ごとの開始位置（含む）と終了位置（含まない）の組
+     */
+    private final int[] bounds;
+
+    private final int size;
+
+    SplitFields(CharSequence source, int[] bounds, int size) {
+        this.source = source;
+        this.bounds = bounds;
+        this.size = size;
+    }
+
+    /**
+     * 区切り文字（1文字）による分割処理<br>
+     *
+     * @param source    文字列
+     * @param delimiter 区切り文字
+     * @return 分割結果
+     */
+    static SplitFields split(CharSequence source, char delimiter) {
+        int[] bounds = new int[16];
+        int size = 0;
+        int start = 0;
+        for (int i = 0, length = source.length(); i <= length; i++) {
+            if (i == length || source.charAt(i) == delimiter) {
+                if (size * 2 == bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                bounds[size * 2] = start;
+                bounds[size * 2 + 1] = i;
+                size++;
+                start = i + 1;
+            }
+        }
+        return new SplitFields(source, bounds, size);
+    }
+
+    /**
+     * 区切り文字列による分割処理<br>
+     *
+     * @param source    文字列
+     * @param delimiter 区切り文字列（空文字列以外）
+     * @return 分割結果
+     */
+    static SplitFields split(CharSequence source, String delimiter) {
+        if (delimiter.length() == 1) {
+            return split(source, delimiter.charAt(0));
+        }
+        int[] bounds = new int[16];
+        int size = 0;
+        int start = 0;
+        while (true) {
+            int index = indexOf(source, delimiter, start);
+            if (size * 2 == bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[size * 2] = start;
+            bounds[size * 2 + 1] = index < 0 ? source.length() : index;
+            size++;
+            if (index < 0) {
+                return new SplitFields(source, bounds, size);
+            }
+            start = index + delimiter.length();
+        }
+    }
+
+    private static int indexOf(CharSequence source, String target, int from) {
+        if (source instanceof String) {
+            return ((String) source).indexOf(target, from);
+        }
+        char first = target.charAt(0);
+        int last = source.length() - target.length();
+        for (int i = from; i <= last; i++) {
+            if (source.charAt(i) != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < target.length() && source.charAt(i + j) == target.charAt(j)) {
+                j++;
+            }
+            if (j == target.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 項目の取得処理<br>
+     *
+     * @param index 項目のインデックス
+     * @return 分割元の文字列を参照する{@link CharSequence}（文字列はコピーしない）
+     */
+    public CharSequence get(int index) {
+        return new Field(this.source, start(index), end(index));
+    }
+
+    /**
+     * 項目数の取得処理<br>
+     *
+     * @return 項目数
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * 項目の開始位置の取得処理<br>
+     *
+     * @param index 項目のインデックス
+     * @return 分割元の文字列の開始位置（含む）
+     */
+    public int start(int index) {
+        checkIndex(index);
+        return this.bounds[index * 2];
+    }
+
+    /**
+     * 項目の終了位置の取得処理<br>
+     *
+     * @param index 項目のインデックス
+     * @return 分割元の文字列の終了位置（含まない）
+     */
+    public int end(int index) {
+        checkIndex(index);
+        return this.bounds[index * 2 + 1];
+    }
+
+    /**
+     * 項目の文字数の取得処理<br>
+     *
+     * @param index 項目のインデックス
+     * @return 文字数
+     */
+    public int length(int index) {
+        return end(index) - start(index);
+    }
+
+    /**
+     * 項目の文字列の取得処理<br>
+     *
+     * @param index 項目のインデックス
+     * @return 文字列
+     */
+    public String getString(int index) {
+        return this.source.subSequence(start(index), end(index)).toString();
+    }
+
+    /**
+     * 全ての項目の文字列の取得処理<br>
+     *
+     * @return 文字列のリスト
+     */
+    public List<String> toStringList() {
+        List<String> list = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            list.add(getString(i));
+        }
+        return list;
+    }
+
+    public CharSequence getSource() {
+        return this.source;
+    }
+
+    @Override
+    public String toString() {
+        return toStringList().toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + this.size);
+        }
+    }
+
+    /**
+     * 分割元の文字列の一部を参照する{@link CharSequence}<br>
+     */
+    private static final class Field implements CharSequence {
+
+        private final CharSequence source;
+
+        private final int start;
+
+        private final int end;
+
+        private Field(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", length: " + length());
+            }
+            return this.source.charAt(this.start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || start > end || end > length()) {
+                throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length());
+            }
+            return new Field(this.source, this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return this.source.subSequence(this.start, this.end).toString();
+        }
+    }
+}
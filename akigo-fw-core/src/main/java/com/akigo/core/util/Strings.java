@@ -1,26 +1,29 @@
 package com.akigo.core.util;
 
-import java.io.UnsupportedEncodingException;
-import java.lang.Character.UnicodeBlock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 public final class Strings {
     private Strings() {
     }
 
-    private static String halfMarks = " !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
-    private static String fullMarks = "！＂＃＄％＆＇（）＊＋，－．／：；＜＝＞？＠［￥］＾＿｀｛｜｝～・。、";
-    private static final String P_HALF_KATAKANA = ".*[\\uFF61-\\uFF9F].*";
-    private static final String P_HALF_SMALL_KATAKANA_ = ".*[\\uFF67-\\uFF6F].*";
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*$");
     private static final Pattern PERIOD_STRAIGHT = Pattern.compile("^.+(\\.{2,}).+$");
 
+    /**
+     * 正規表現の文字列 → コンパイル済みの正規表現のキャッシュ
+     */
+    private static final BoundedCache<String, Pattern> PATTERN_CACHE = new BoundedCache<>(512);
+
+    /**
+     * {@link String#split(String)}が正規表現を使用せずに分割する、メタ文字以外の1文字の正規表現の判定用
+     */
+    private static final String REGEX_META_CHARACTERS = ".$|()[{^?*+\\";
+
     /**
      * <p>文字列がアルファベットのみかをチェックします。</p>
      * <p>
@@ -48,13 +51,7 @@ public final class Strings {
      * @return アルファベットのみの文字列の場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isAlphabet(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream
-                .anyMatch(charData -> (((charData < 'a') || (charData > 'z')) && ((charData < 'A') || (charData > 'Z'))
-                        && ((charData < 'ａ') || (charData > 'ｚ')) && ((charData < 'Ａ') || (charData > 'Ｚ')))));
+        return allOf(str, CharClassProfile.ALPHABET);
     }
 
     /**
@@ -86,11 +83,7 @@ public final class Strings {
      * @return 数字の場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isNumber(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream chars = str.chars();
-        return !(chars.anyMatch(charData -> ((charData < '０') || (charData > '９')) && ((charData < '0') || (charData > '9'))));
+        return allOf(str, CharClassProfile.NUMBER);
     }
 
     /**
@@ -169,8 +162,7 @@ public final class Strings {
         if ((length != 1) && (str.startsWith("0"))) {
             return false;
         }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> ((charData < '0') || (charData > '9'))));
+        return allOf(str, CharClassProfile.HALF_NUMBER);
     }
 
     /**
@@ -354,35 +346,7 @@ public final class Strings {
      * @return boolean 半角文字のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfOnly(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-
-        boolean result = true;
-
-        //1文字1文字が半英、半数、半カナ、半記号のいずれかであればtrue
-        for (char charData : str.toCharArray()) {
-            boolean match = false;
-
-            if (Strings.isHalfAlphabet(String.valueOf(charData))) {
-                match = true;
-            }
-            if (Strings.isHalfNumber(String.valueOf(charData))) {
-                match = true;
-            }
-            if (Strings.isHalfKana(String.valueOf(charData))) {
-                match = true;
-            }
-            if (Strings.isHalfMark(String.valueOf(charData))) {
-                match = true;
-            }
-            if (!match) {
-                //1文字でも該当しない場合はチェックエラーとしてfalseを返す
-                result = false;
-                break;
-            }
-        }
-        return result;
+        return allOf(str, CharClassProfile.HALF);
     }
 
     /**
@@ -397,11 +361,7 @@ public final class Strings {
      * @return boolean 半角小文字カナを除く半角文字のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfOnlyExcludesLowerKana(String str) {
-        if (isHalfOnly(str) && !isHalfLowerKana(str)) {
-            return true;
-        } else {
-            return false;
-        }
+        return allOf(str, CharClassProfile.HALF) && noneOf(str, CharClassProfile.HALF_LOWER_KANA);
     }
 
     /**
@@ -411,11 +371,7 @@ public final class Strings {
      * @return boolean 半角アルファベットのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfAlphabet(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> (((charData < 'a') || (charData > 'z')) && ((charData < 'A') || (charData > 'Z')))));
+        return allOf(str, CharClassProfile.HALF_ALPHABET);
     }
 
     /**
@@ -425,11 +381,7 @@ public final class Strings {
      * @return boolean 半角小文字アルファベットのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfAlphabetLowerCase(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> ((charData < 'a') || (charData > 'z'))));
+        return allOf(str, CharClassProfile.HALF_ALPHABET_LOWER);
     }
 
     /**
@@ -439,11 +391,7 @@ public final class Strings {
      * @return boolean 半角大文字アルファベットのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfAlphabetUpperCase(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> ((charData < 'A') || (charData > 'Z'))));
+        return allOf(str, CharClassProfile.HALF_ALPHABET_UPPER);
     }
 
     /**
@@ -453,11 +401,7 @@ public final class Strings {
      * @return boolean 半角数字のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfNumber(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> ((charData < '0') || (charData > '9'))));
+        return allOf(str, CharClassProfile.HALF_NUMBER);
     }
 
     /**
@@ -467,11 +411,7 @@ public final class Strings {
      * @return boolean 半角英数字のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfAlphanumeric(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> (((charData < 'a') || (charData > 'z')) && ((charData < 'A') || (charData > 'Z')) && ((charData < '0') || (charData > '9')))));
+        return allOf(str, CharClassProfile.HALF_ALPHANUMERIC);
     }
 
     /**
@@ -494,11 +434,7 @@ public final class Strings {
      * @return 文字列が半角カタカナの場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfKana(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> ((charData < CharacterCode.HALF_KANA_START) || (charData > CharacterCode.HALF_KANA_END))));
+        return allOf(str, CharClassProfile.HALF_KANA);
     }
 
     /**
@@ -512,11 +448,7 @@ public final class Strings {
      * @return 文字列が半角小文字カナを除く半角カタカナの場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfKanaExcludesLowerKana(String str) {
-        if (isHalfKana(str) && !isHalfLowerKana(str)) {
-            return true;
-        } else {
-            return false;
-        }
+        return allOf(str, CharClassProfile.HALF_KANA) && noneOf(str, CharClassProfile.HALF_LOWER_KANA);
     }
 
     /**
@@ -526,7 +458,7 @@ public final class Strings {
      * @return boolean 半角記号のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHalfMark(String str) {
-        return isOnlyExtra(str, halfMarks);
+        return allOf(str, CharClassProfile.HALF_MARK);
     }
 
     /**
@@ -557,18 +489,8 @@ public final class Strings {
         if (isNullOrEmpty(str)) {
             return false;
         }
-
-        boolean result = true;
-
         //半角文字があればfalse
-        for (char charData : str.toCharArray()) {
-            String s = String.valueOf(charData);
-            if (isHalfOnly(s)) {
-                result = false;
-                break;
-            }
-        }
-        return result;
+        return noneOf(str, CharClassProfile.HALF);
     }
 
     /**
@@ -578,11 +500,7 @@ public final class Strings {
      * @return boolean 全角アルファベットのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isFullAlphabet(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> (((charData < 'ａ') || (charData > 'ｚ')) && ((charData < 'Ａ') || (charData > 'Ｚ')))));
+        return allOf(str, CharClassProfile.FULL_ALPHABET);
     }
 
 
@@ -593,11 +511,7 @@ public final class Strings {
      * @return boolean 全角小文字アルファベットのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isFullAlphabetLowerCase(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream chars = str.chars();
-        return !(chars.anyMatch(charData -> ((charData < 'ａ') || (charData > 'ｚ'))));
+        return allOf(str, CharClassProfile.FULL_ALPHABET_LOWER);
     }
 
     /**
@@ -607,11 +521,7 @@ public final class Strings {
      * @return boolean 全角大文字アルファベットのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isFullAlphabetUpperCase(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream chars = str.chars();
-        return !(chars.anyMatch(charData -> ((charData < 'Ａ') || (charData > 'Ｚ'))));
+        return allOf(str, CharClassProfile.FULL_ALPHABET_UPPER);
     }
 
 
@@ -622,11 +532,7 @@ public final class Strings {
      * @return boolean 全角数字のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isFullNumber(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream chars = str.chars();
-        return !(chars.anyMatch(charData -> ((charData < '０') || (charData > '９'))));
+        return allOf(str, CharClassProfile.FULL_NUMBER);
     }
 
     /**
@@ -650,11 +556,7 @@ public final class Strings {
      * @return 文字列が全角カタカナの場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isFullKana(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream chars = str.chars();
-        return !chars.anyMatch(charData -> ((charData < CharacterCode.FULL_KANA_START) || (charData > CharacterCode.FULL_KANA_END)));
+        return allOf(str, CharClassProfile.FULL_KANA);
     }
 
     /**
@@ -664,12 +566,7 @@ public final class Strings {
      * @return boolean 文字列がひらがなのみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isHiragana(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream chars = str.chars();
-        return chars.allMatch(charData -> (charData >= CharacterCode.FULL_HIRA_START && charData <= CharacterCode.FULL_HIRA_END) || charData == CharacterCode.FULL_KANA_HYPHEN);
-
+        return allOf(str, CharClassProfile.HIRAGANA);
     }
 
     /**
@@ -679,11 +576,7 @@ public final class Strings {
      * @return boolean 漢字のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isKanji(String str) {
-        if (isNullOrEmpty(str)) {
-            return false;
-        }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> UnicodeBlock.of(charData) != UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS));
+        return allOf(str, CharClassProfile.KANJI);
     }
 
     /**
@@ -693,7 +586,7 @@ public final class Strings {
      * @return boolean 全角記号のみである場合はtrue、左記以外はfalseを返します。
      */
     public static boolean isFullMark(String str) {
-        return isOnlyExtra(str, fullMarks);
+        return allOf(str, CharClassProfile.FULL_MARK);
     }
 
     /**
@@ -782,8 +675,7 @@ public final class Strings {
         if (isNullOrEmpty(str)) {
             return true;
         }
-        IntStream stream = str.chars();
-        return !(stream.anyMatch(charData -> ((!Character.isWhitespace(charData)) && (charData != CharacterCode.FULL_SPACE))));
+        return allOf(str, CharClassProfile.WHITESPACE);
     }
 
     /**
@@ -913,7 +805,13 @@ public final class Strings {
             return new ArrayList<>();
         }
 
-        String[] strArray = str.split(regex);
+        String[] strArray;
+        if (regex.length() == 1 && REGEX_META_CHARACTERS.indexOf(regex.charAt(0)) < 0) {
+            // メタ文字以外の1文字は、String#splitが正規表現を使用せずに分割する
+            strArray = str.split(regex);
+        } else {
+            strArray = compilePattern(regex).split(str);
+        }
         return new ArrayList<>(Arrays.asList(strArray));
     }
 
@@ -1095,6 +993,82 @@ public final class Strings {
         return String.format(format, str).replace(' ', paddingChar);
     }
 
+    /**
+     * <p>区切り文字で文字列を分割します。</p>
+     * <p>
+     * <p>正規表現を使用せず、項目ごとの文字列も生成しません（項目は分割元の文字列を参照する{@link CharSequence}）。
+     * {@link #split(String, String)}と異なり、末尾の空の項目も返します。
+     * nullは、項目数0の結果を返します。</p>
+     * <p>
+     * <pre>
+     * Strings.splitLiteral("a,b,,c,", ',')  = [a, b, , c, ]
+     * Strings.splitLiteral("", ',')         = [""]
+     * Strings.splitLiteral("a.b", '.')      = [a, b]
+     * </pre>
+     *
+     * @param str       文字列、null可
+     * @param delimiter 区切り文字
+     * @return 分割結果
+     */
+    public static SplitFields splitLiteral(CharSequence str, char delimiter) {
+        if (str == null) {
+            return SplitFields.EMPTY;
+        }
+        return SplitFields.split(str, delimiter);
+    }
+
+    /**
+     * <p>区切り文字列で文字列を分割します。</p>
+     * <p>
+     * <p>区切り文字列は正規表現ではなく、文字列として一致する個所で分割します。
+     * 項目ごとの文字列は生成しません（項目は分割元の文字列を参照する{@link CharSequence}）。
+     * 末尾の空の項目も返します。nullは、項目数0の結果を返します。</p>
+     * <p>
+     * <pre>
+     * Strings.splitLiteral("a||b||", "||")  = [a, b, ]
+     * Strings.splitLiteral("a.*b", ".*")    = [a, b]
+     * </pre>
+     *
+     * @param str       文字列、null可
+     * @param delimiter 区切り文字列（空文字列不可）
+     * @return 分割結果
+     */
+    public static SplitFields splitLiteral(CharSequence str, String delimiter) {
+        if (isNullOrEmpty(delimiter)) {
+            throw new IllegalArgumentException("delimiter is null or empty");
+        }
+        if (str == null) {
+            return SplitFields.EMPTY;
+        }
+        return SplitFields.split(str, delimiter);
+    }
+
+    /**
+     * 正規表現の文字列をコンパイルします。
+     * コンパイル済みの正規表現はキャッシュ（上限512件）し、同じ正規表現の文字列は再コンパイルしません。
+     *
+     * @param regex 正規表現の文字列
+     * @return Pattern コンパイル済みの正規表現
+     * @throws java.util.regex.PatternSyntaxException 正規表現の構文が不正な場合
+     */
+    public static Pattern compilePattern(String regex) {
+        return PATTERN_CACHE.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * 検索対象文字列の中から正規表現で一致した最初の文字列を返します。
+     *
+     * @param str   検索対象文字列
+     * @param regex 正規表現の文字列
+     * @return String 検索対象文字列の中から正規表現と一致する前方から最初の文字列を返します。文字列がnull,もしくは一致する文字列がない場合はOptional.empty()を返します。
+     */
+    public static Optional<String> matchesFirst(String str, String regex) {
+        if (str == null || regex == null) {
+            return Optional.empty();
+        }
+        return matchesFirst(str, compilePattern(regex));
+    }
+
     /**
      * 検索対象文字列の中から正規表現で一致した最初の文字列を返します。
      *
@@ -1114,6 +1088,20 @@ public final class Strings {
         return Optional.empty();
     }
 
+    /**
+     * 検索対象文字列の中から、正規表現と合致した文字列のリストを返します。
+     *
+     * @param str   検索対象文字列
+     * @param regex 正規表現の文字列
+     * @return List 検索対象文字列の中から正規表現と一致する全ての文字列のリストを返します。文字列がnull,もしくは一致する文字列がない場合は空のリストを返します。
+     */
+    public static List<String> matches(String str, String regex) {
+        if (str == null || regex == null) {
+            return new ArrayList<>();
+        }
+        return matches(str, compilePattern(regex));
+    }
+
     /**
      * 検索対象文字列の中から、正規表現と合致した文字列のリストを返します。
      *
@@ -1165,17 +1153,12 @@ public final class Strings {
         if (enc == null) {
             enc = CharacterCode.UTF8_ENCODING;
         }
-        byte[] b;
-        try {
-            b = str.getBytes(enc);
-            if (b.length > max) {
-                return false;
-            }
-        } catch (UnsupportedEncodingException e) {
+        ByteLengthCounter counter = ByteLengthCounter.forName(enc);
+        if (counter == null) {
             return false;
         }
-
-        return true;
+        // エンコードせずにバイト数を計算し、maxを超えた時点で打ち切る
+        return counter.count(str, max) <= max;
     }
 
     /**
@@ -1406,12 +1389,131 @@ public final class Strings {
      * @return strに半角カナが含まなければtrue、半角カナを含むならfalse
      */
     public static boolean isExcludesHalfKana(String str) {
+        return noneOf(str, CharClassProfile.HALF_KANA);
+    }
+
+
+    /**
+     * <p>文字列の文字種プロファイルを取得します。</p>
+     * <p>
+     * <p>文字列を一度だけ走査し、全ての文字種の判定結果を返します。
+     * 一つの文字列に複数のチェックを行う場合、各チェックメソッドを呼び出すより効率的です。
+     * nullは、空文字列("")と同じ結果を返します。</p>
+     * <p>
+     * <pre>
+     * CharClassProfile profile = Strings.profile("ｱｲｳ");
+     * profile.isHalfOnly()   = true
+     * profile.isHalfKana()   = true
+     * profile.isFullOnly()   = false
+     * profile.anyOf(CharClassProfile.HALF_LOWER_KANA) = false
+     * </pre>
+     *
+     * @param str チェック対象の文字列、null可
+     * @return 文字種プロファイル
+     */
+    public static CharClassProfile profile(CharSequence str) {
+        if (str == null || str.length() == 0) {
+            return CharClassProfile.EMPTY;
+        }
+        int length = str.length();
+        int present = 0;
+        int common = -1;
+        for (int i = 0; i < length; i++) {
+            int charClass = CharClassTable.classOf(str.charAt(i));
+            present |= charClass;
+            common &= charClass;
+        }
+        return new CharClassProfile(length, present, common);
+    }
+
+    /**
+     * 全ての文字が指定した文字種に該当するかを判定します。
+     *
+     * @param str       文字列
+     * @param charClass 文字種（{@link CharClassProfile}の定数）
+     * @return 全ての文字が該当する場合はtrue、null、空文字列の場合はfalseを返します。
+     */
+    private static boolean allOf(String str, int charClass) {
         if (isNullOrEmpty(str)) {
+            return false;
+        }
+        for (int i = 0, length = str.length(); i < length; i++) {
+            if ((CharClassTable.classOf(str.charAt(i)) & charClass) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * いずれの文字も指定した文字種に該当しないかを判定します。
+     *
+     * @param str       文字列
+     * @param charClass 文字種（{@link CharClassProfile}の定数）
+     * @return 該当する文字がない場合はtrue、null、空文字列の場合はtrueを返します。
+     */
+    private static boolean noneOf(String str, int charClass) {
+        if (str == null) {
             return true;
         }
-        return !str.matches(P_HALF_KATAKANA);
+        for (int i = 0, length = str.length(); i < length; i++) {
+            if ((CharClassTable.classOf(str.charAt(i)) & charClass) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>全角英数字を半角英数字に変換します。</p>
+     * <p>
+     * <pre>
+     * Strings.toHalfAlphanumeric(null)      = null
+     * Strings.toHalfAlphanumeric("ＡＢｃ１２３") = "ABc123"
+     * Strings.toHalfAlphanumeric("Ａ－１")    = "A－1"
+     * </pre>
+     *
+     * @param str 文字列、null可
+     * @return 変換後の文字列
+     * @see CharacterConverter#FULL_TO_HALF_ALPHANUMERIC
+     */
+    public static String toHalfAlphanumeric(String str) {
+        return CharacterConverter.of(CharacterConverter.FULL_TO_HALF_ALPHANUMERIC).convert(str);
     }
 
+    /**
+     * <p>半角カナを全角カタカナに変換します。濁点、半濁点は直前の文字と合成します。</p>
+     * <p>
+     * <pre>
+     * Strings.toFullKana(null)     = null
+     * Strings.toFullKana("ｶﾞｷﾞｸﾞ") = "ガギグ"
+     * Strings.toFullKana("ﾊﾟﾝ")    = "パン"
+     * </pre>
+     *
+     * @param str 文字列、null可
+     * @return 変換後の文字列
+     * @see CharacterConverter#HALF_TO_FULL_KANA
+     */
+    public static String toFullKana(String str) {
+        return CharacterConverter.of(CharacterConverter.HALF_TO_FULL_KANA).convert(str);
+    }
+
+    /**
+     * <p>ひらがな、半角カナを全角カタカナに変換します。</p>
+     * <p>
+     * <pre>
+     * Strings.toKatakana(null)     = null
+     * Strings.toKatakana("ひらがな") = "ヒラガナ"
+     * Strings.toKatakana("ｶﾀｶﾅと")  = "カタカナト"
+     * </pre>
+     *
+     * @param str 文字列、null可
+     * @return 変換後の文字列
+     * @see CharacterConverter#HIRAGANA_TO_KATAKANA
+     */
+    public static String toKatakana(String str) {
+        return CharacterConverter.of(CharacterConverter.HIRAGANA_TO_KATAKANA | CharacterConverter.HALF_TO_FULL_KANA).convert(str);
+    }
 
     /**
      * 対象の文字数をカウントします。
@@ -1425,20 +1527,4 @@ public final class Strings {
     }
 
 
-    /**
-     * <p>文字列が半角小文字カナであるかをチェックします。</p>
-     *
-     * @param str チェック対象の文字列
-     * @return 文字列が半角小文字カナの場合はtrue、左記以外はfalseを返します。
-     */
-    private static boolean isHalfLowerKana(String str) {
-        IntStream stream = str.chars();
-        //半角小文字カナの場合false
-        if ((stream.anyMatch(charData -> ((charData >= CharacterCode.HALF_LOWER_KANA_START)
-                && (charData <= CharacterCode.HALF_LOWER_KANA_END))))) {
-            return true;
-        }
-        return false;
-    }
-
 }
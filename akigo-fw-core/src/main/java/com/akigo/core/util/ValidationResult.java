@@ -0,0 +1,119 @@
+/*
+ * ValidationResult.java
+ * Created on  2026/10/17 23:59
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * レコードの入力チェック結果クラス<br>
+ * <pre>
+ * {@link RecordValidator}のチェックで検出したエラー（項目番号とエラーコード）を保持する。
+ * レコードごとに生成せず、{@link #clear()}して再利用する（{@link RecordValidator}はチェック前にクリアする）。
+ * 一つの項目でエラーを検出した場合、同じ項目の後続のルールはチェックしないため、項目ごとのエラーは一件まで。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+public final class ValidationResult {
+
+    private int[] fields = new int[8];
+
+    private String[] errorCodes = new String[8];
+
+    private int errorCount;
+
+    /**
+     * エラーの追加処理<br>
+     *
+     * @param field     項目番号
+     * @param errorCode エラーコード
+     */
+    void add(int field, String errorCode) {
+        if (this.errorCount == this.fields.length) {
+            this.fields = Arrays.copyOf(this.fields, this.errorCount * 2);
+            this.errorCodes = Arrays.copyOf(this.errorCodes, this.errorCount * 2);
+        }
+        this.fields[this.errorCount] = field;
+        this.errorCodes[this.errorCount] = errorCode;
+        this.errorCount++;
+    }
+
+    /**
+     * チェック結果のクリア処理<br>
+     */
+    public void clear() {
+        Arrays.fill(this.errorCodes, 0, this.errorCount, null);
+        this.errorCount = 0;
+    }
+
+    /**
+     * エラーがない場合はtrue<br>
+     *
+     * @return boolean
+     */
+    public boolean isValid() {
+        return this.errorCount == 0;
+    }
+
+    public int getErrorCount() {
+        return this.errorCount;
+    }
+
+    /**
+     * エラーの項目番号の取得処理<br>
+     *
+     * @param index エラーのインデックス（0～{@link #getErrorCount()} - 1）
+     * @return 項目番号
+     */
+    public int getField(int index) {
+        checkIndex(index);
+        return this.fields[index];
+    }
+
+    /**
+     * エラーコードの取得処理<br>
+     *
+     * @param index エラーのインデックス（0～{@link #getErrorCount()} - 1）
+     * @return エラーコード
+     */
+    public String getErrorCode(int index) {
+        checkIndex(index);
+        return this.errorCodes[index];
+    }
+
+    /**
+     * 全てのエラーコードの取得処理<br>
+     *
+     * @return エラーコード（検出順）のコピー
+     */
+    public List<String> getErrorCodes() {
+        return new ArrayList<>(Arrays.asList(this.errorCodes).subList(0, this.errorCount));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.errorCount) {
+            throw new IndexOutOfBoundsException("index: " + index + ", errorCount: " + this.errorCount);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ValidationResult[");
+        for (int i = 0; i < this.errorCount; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.fields[i]).append('=').append(this.errorCodes[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -8,16 +8,41 @@
  */
 package com.akigo.core.el;
 
+import com.akigo.core.el.node.LiteralNode;
+import com.akigo.core.el.node.OperatorNode;
+import com.akigo.core.el.operator.function.FunctionDefinition;
+import com.akigo.core.el.operator.function.FunctionRegistry;
+import com.akigo.core.exception.SystemException;
+import com.akigo.core.instrument.EvaluationTrace;
+import com.akigo.core.instrument.ExpressionMetrics;
+import com.akigo.core.instrument.ExpressionStatistics;
+import com.akigo.core.instrument.Instrumentation;
+import com.akigo.core.util.ArithmeticOperations;
 import org.junit.Test;
 
+import javax.management.ObjectName;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -94,4 +119,821 @@ public class AGELParserTest {
 
         assertEquals(10000, resultCount.get());
     }
+
+    /**
+     * 一つのAGELParserを複数スレッドで共有するテスト（ネストした関数、定数の解析を含む）
+     */
+    @Test
+    public void evalTest003() throws Exception {
+        final Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("C1", "1");
+        contentsMap.put("C2", "#{123 == 123 ? $CONSTANTS.C1$ : 1}");
+        contentsMap.put("C3", "abcd");
+        contentsMap.put("C4", "#{$CONSTANTS.C2$ + $CONSTANTS.C1$ * 10}");
+
+        final AGELParser agelParser = new AGELParser(contentsMap);
+        final Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("#{substring(substring(abcdef, 1, 5), length(substring(ab, 1)), 3)}", "cd");
+        expected.put("#{substring(abcd, $CONSTANTS.C2$, substring(123, 2)) == bc}", "true");
+        expected.put("#{substring($CONSTANTS.C3$, 1, startsWith(123, 2) ? 1 : 3) == bc}", "true");
+        expected.put("#{$CONSTANTS.C4$ * 2}", "22");
+        expected.put("x #{length($CONSTANTS.C3$) + $CONSTANTS.C4$} y", "x 15 y");
+
+        final int threadCount = 16;
+        final int loopCount = 2000;
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                final int offset = t;
+                futures.add(executorService.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        startSignal.await();
+                        List<String> expressions = new ArrayList<>(expected.keySet());
+                        int count = 0;
+                        for (int i = 0; i < loopCount; i++) {
+                            String expression = expressions.get((i + offset) % expressions.size());
+                            assertEquals(expected.get(expression), agelParser.eval(expression));
+                            // 表現式のコンパイルも同時に実行する
+                            String uncached = "#{" + offset + " + " + i + " == " + (offset + i) + "}";
+                            assertEquals("true", agelParser.eval(uncached));
+                            count++;
+                        }
+                        return count;
+                    }
+                }));
+            }
+            startSignal.countDown();
+
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get(60, TimeUnit.SECONDS);
+            }
+            assertEquals(threadCount * loopCount, total);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // 定数マップは更新されない
+        assertEquals("#{123 == 123 ? $CONSTANTS.C1$ : 1}", contentsMap.get("C2"));
+    }
+
+    /**
+     * コンパイル済み表現式のキャッシュテスト
+     */
+    @Test
+    public void compileTest001() {
+        String expression = "#{$CONSTANTS.C1$ + 1 == 3 ? ok : ng}";
+
+        CompiledExpression compiled = AGELParser.compile(expression);
+        assertSame(compiled, AGELParser.compile(expression));
+
+        Map<String, String> contentsMap1 = new HashMap<>();
+        contentsMap1.put("C1", "2");
+        Map<String, String> contentsMap2 = new HashMap<>();
+        contentsMap2.put("C1", "5");
+
+        assertEquals("ok", compiled.eval(contentsMap1));
+        assertEquals("ng", compiled.eval(contentsMap2));
+        assertEquals("ok", new AGELParser(contentsMap1).eval(expression));
+    }
+
+    /**
+     * 文字列中に埋め込まれた表現式のテスト
+     */
+    @Test
+    public void compileTest002() {
+        AGELParser agelParser = new AGELParser(new HashMap<>());
+
+        assertEquals("abc 3 def", agelParser.eval("abc #{1 + 2} def"));
+        assertEquals("4", agelParser.eval("#{(1 + 3) * 2 / 2}"));
+        assertEquals("$1", agelParser.eval("#{true ? $1 : 2}"));
+        assertEquals("abc", agelParser.eval("abc"));
+    }
+
+    /**
+     * 数値演算、大小比較のテスト
+     */
+    @Test
+    public void numberTest001() {
+        AGELParser agelParser = new AGELParser(new HashMap<>());
+
+        assertEquals("9223372036854775808", agelParser.eval("#{9223372036854775807 + 1}"));
+        assertEquals("-9223372036854775809", agelParser.eval("#{-9223372036854775807 - 2}"));
+        assertEquals("85070591730234615847396907784232501249", agelParser.eval("#{9223372036854775807 * 9223372036854775807}"));
+        assertEquals("3.5", agelParser.eval("#{7 / 2}"));
+        assertEquals("0", agelParser.eval("#{1 / 3}"));
+        assertEquals("0.67", agelParser.eval("#{2.00 / 3}"));
+        assertEquals("3.00", agelParser.eval("#{1.50 * 2}"));
+        assertEquals("333", agelParser.eval("#{1e3 * 1 / 3}"));
+        assertEquals("false", agelParser.eval("#{01 == 1}"));
+        assertEquals("true", agelParser.eval("#{01 + 0 == 1}"));
+        assertEquals("true", agelParser.eval("#{10 > 9}"));
+        assertEquals("true", agelParser.eval("#{abc > 9}"));
+        assertEquals("true", agelParser.eval("#{length(abc) >= 3}"));
+        assertEquals("true", agelParser.eval("#{1d > 0}"));
+        assertEquals("bc", agelParser.eval("#{substring(abcd, 2 - 1, 1.5 * 2)}"));
+    }
+
+    /**
+     * クロージャー化した表現式とインタープリターの差分テスト（当該テストクラスの表現式を対象）
+     */
+    @Test
+    public void closureTest001() {
+        final Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("C1", "1");
+        contentsMap.put("C2", "#{123 == 123 ? $CONSTANTS.C1$ : 1}");
+        contentsMap.put("C3", "abcd");
+        contentsMap.put("C4", "#{$CONSTANTS.C2$ + $CONSTANTS.C1$ * 10}");
+        contentsMap.put("C5", "1d");
+
+        String[] expressions = {
+                "#{substring ( substring ( $CONSTANTS.C3$ , $CONSTANTS.C2$ , ($CONSTANTS.C3$ == xy ? 1 : length($CONSTANTS.C3$) - 2 * 3 + 5)) , length( $CONSTANTS.C3$ ) - 3 ) == substring(abcd, (1 + 2) / 3 * 2, 3)}",
+                "#{substring(abcd, 1, substring(123, 2)) == bc}",
+                "#{substring(abcd, 1, startsWith(123, 2) ? 1 : 3) == bc}",
+                "#{substring(substring(abcdef, 1, 5), length(substring(ab, 1)), 3)}",
+                "#{$CONSTANTS.C4$ * 2}",
+                "x #{length($CONSTANTS.C3$) + $CONSTANTS.C4$} y",
+                "#{$CONSTANTS.C1$ + 1 == 3 ? ok : ng}",
+                "abc #{1 + 2} def",
+                "#{(1 + 3) * 2 / 2}",
+                "#{true ? $1 : 2}",
+                "abc",
+                "$CONSTANTS.C3$",
+                "$CONSTANTS.C3$_$CONSTANTS.C1$",
+                "#{9223372036854775807 + 1}",
+                "#{9223372036854775807 * 9223372036854775807}",
+                "#{7 / 2}",
+                "#{2.00 / 3}",
+                "#{1e3 * 1 / 3}",
+                "#{01 == 1}",
+                "#{10 > 9}",
+                "#{abc > 9}",
+                "#{9 <= abc}",
+                "#{length(abc) >= 3}",
+                "#{1d > 0}",
+                "#{0 < $CONSTANTS.C5$}",
+                "#{$CONSTANTS.C1$ >= 1.0}",
+                "#{$CONSTANTS.C3$ < 1}",
+                "#{1 > 2 || 2 > 1 && isNotEmpty($CONSTANTS.C3$)}",
+                "#{substring(abcd, 2 - 1, 1.5 * 2)}",
+                "#{$CONSTANTS.NONE$ > 1}",
+                "#{abc + 1}",
+                "#{1 / 0}",
+        };
+
+        AGELParser agelParser = new AGELParser(contentsMap);
+        for (String expression : expressions) {
+            CompiledExpression interpreted = ExpressionCompiler.compile(expression);
+            CompiledExpression closure = interpreted.toClosure();
+            assertTrue(closure.isClosureCompiled());
+
+            assertEquals(expression, evalOrError(interpreted, agelParser), evalOrError(closure, agelParser));
+        }
+    }
+
+    /**
+     * 評価回数によるクロージャー化テスト
+     */
+    @Test
+    public void closureTest002() {
+        CompiledExpression compiled = ExpressionCompiler.compile("#{length($CONSTANTS.C1$) * 2 > 3 ? ok : ng}");
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("C1", "ab");
+
+        for (int i = 0; i < CompiledExpression.CLOSURE_THRESHOLD; i++) {
+            assertEquals("ok", compiled.eval(contentsMap));
+        }
+        assertTrue(compiled.isClosureCompiled());
+        assertEquals("ok", compiled.eval(contentsMap));
+        contentsMap.put("C1", "a");
+        assertEquals("ng", compiled.eval(contentsMap));
+    }
+
+    private static String evalOrError(CompiledExpression compiled, AGELParser agelParser) {
+        try {
+            return compiled.eval(agelParser);
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    /**
+     * 定数の畳み込みテスト
+     */
+    @Test
+    public void optimizeTest001() {
+        // リテラルのみの部分木はコンパイル時に畳み込む
+        CompiledExpression compiled = ExpressionCompiler.compile("#{(1 + 2) * 3 > 5 && length(abc) == 3}");
+        assertEquals("[true]", Arrays.toString(compiled.getNodes()));
+
+        // 判定式が確定した三項演算子は選択されない分岐を削除する
+        compiled = ExpressionCompiler.compile("#{1 > 5 ? substring(abc, 5) : $CONSTANTS.C1$}");
+        assertEquals("[$CONSTANTS.C1$]", Arrays.toString(compiled.getNodes()));
+
+        // 評価時にエラーとなる部分木は畳み込まない
+        compiled = ExpressionCompiler.compile("#{1 < 5 ? substring(abc, 5) : $CONSTANTS.C1$}");
+        assertEquals("[substring(abc, 5)]", Arrays.toString(compiled.getNodes()));
+    }
+
+    /**
+     * 定数の束縛テスト
+     */
+    @Test
+    public void optimizeTest002() {
+        Map<String, String> jobConstants = new HashMap<>();
+        jobConstants.put("S1", "abc");
+        jobConstants.put("S2", "#{substring(xabc, 1)}");
+        jobConstants.put("S3", "123456");
+
+        CompiledExpression compiled = AGELParser.compile(
+                "#{($CONSTANTS.S1$ == $CONSTANTS.S2$) ? substring($CONSTANTS.S3$, 1, 4) + $CONSTANTS.R1$ : abcd}");
+        CompiledExpression bound = compiled.bind(jobConstants);
+        assertEquals("[+(234, $CONSTANTS.R1$)]", Arrays.toString(bound.getNodes()));
+        assertSame(bound, compiled.bind(jobConstants));
+        assertNotSame(bound, compiled.bind(new HashMap<>(jobConstants)));
+
+        Map<String, String> record = new HashMap<>();
+        record.put("R1", "1000");
+        assertEquals("1234", bound.eval(record));
+
+        jobConstants.put("S2", "xyz");
+        assertEquals("[abcd]", Arrays.toString(compiled.bind(new HashMap<>(jobConstants)).getNodes()));
+
+        // 評価でエラーとなる定数は束縛せず、選択されない分岐の場合はエラーにならない
+        Map<String, String> flags = new HashMap<>();
+        flags.put("FLAG", "0");
+        flags.put("BAD", "#{abc + 1}");
+        String expression = "#{$CONSTANTS.FLAG$ == 1 ? $CONSTANTS.BAD$ : ok}";
+        assertEquals("ok", new AGELParser(flags).eval(expression));
+        assertEquals("[ok]", Arrays.toString(AGELParser.compile(expression).bind(flags).getNodes()));
+        flags.put("FLAG", "1");
+        CompiledExpression unbound = AGELParser.compile(expression).bind(new HashMap<>(flags));
+        assertEquals("[$CONSTANTS.BAD$]", Arrays.toString(unbound.getNodes()));
+        try {
+            unbound.eval(flags);
+            fail();
+        } catch (NumberFormatException e) {
+            assertTrue(true);
+        }
+    }
+
+    /**
+     * 短絡評価テスト
+     */
+    @Test
+    public void shortCircuitTest001() {
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("T", "true");
+        contentsMap.put("F", "false");
+        contentsMap.put("N", "1");
+        AGELParser agelParser = new AGELParser(contentsMap);
+
+        // 評価を省略したオペランドはリスナーに通知する
+        ExpressionMetrics metrics = new ExpressionMetrics();
+        Instrumentation.setListener(metrics);
+        try {
+            // 評価されない右オペランド、分岐はエラーにならない
+            assertEquals("false", agelParser.eval("#{$CONSTANTS.F$ && substring(abc, 5) == x}"));
+            assertEquals("true", agelParser.eval("#{$CONSTANTS.T$ || substring(abc, 5) == x}"));
+            assertEquals("ok", agelParser.eval("#{$CONSTANTS.N$ > 5 ? substring(abc, 5) : ok}"));
+            assertEquals("bc", agelParser.eval("#{$CONSTANTS.N$ < 5 ? substring(abc, 1) : substring(abc, 5)}"));
+            assertEquals("true", agelParser.eval("#{$CONSTANTS.T$ && $CONSTANTS.N$ == 1}"));
+            assertEquals("false", agelParser.eval("#{$CONSTANTS.F$ || $CONSTANTS.N$ == 2}"));
+
+            assertEquals(1, metrics.getSkippedCount("&&"));
+            assertEquals(1, metrics.getSkippedCount("||"));
+            assertEquals(2, metrics.getSkippedCount(":"));
+
+            // クロージャー化した表現式も同じく通知する
+            assertEquals("false", AGELParser.compile("#{$CONSTANTS.F$ && substring(abc, 5) == x}").toClosure().eval(agelParser));
+            assertEquals(2, metrics.getSkippedCount("&&"));
+        } finally {
+            Instrumentation.setListener(null);
+        }
+
+        // リスナー未登録の場合は集計しない
+        assertEquals("false", agelParser.eval("#{$CONSTANTS.F$ && substring(abc, 5) == x}"));
+        assertEquals(2, metrics.getSkippedCount("&&"));
+        metrics.reset();
+        assertEquals(0, metrics.getSkippedCount("&&"));
+        assertTrue(metrics.getSkippedCounts().isEmpty());
+
+        // 評価したオペランドの型チェックは従来通り
+        try {
+            agelParser.eval("#{$CONSTANTS.T$ && abc}");
+            fail();
+        } catch (SystemException e) {
+            assertTrue(e.getMessage().contains("boolean"));
+        }
+    }
+
+    /**
+     * 一括評価テスト（列形式、行形式、並列評価の結果は一件ずつの評価と同じ）
+     */
+    @Test
+    public void batchTest001() {
+        int rowCount = BatchEvaluator.PARALLEL_UNIT * 3 + 7;
+        String[] amounts = new String[rowCount];
+        String[] rates = new String[rowCount];
+        String[] names = new String[rowCount];
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            amounts[i] = String.valueOf(i * 7 - 100);
+            rates[i] = i % 5 == 0 ? "1.5" : String.valueOf(i % 3);
+            // 表現式を含む定数値
+            names[i] = i % 4 == 0 ? "#{$CONSTANTS.RATE$ == 1 ? one : other}" : "name" + i;
+            Map<String, String> row = new HashMap<>();
+            row.put("AMOUNT", amounts[i]);
+            row.put("RATE", rates[i]);
+            row.put("NAME", names[i]);
+            rows.add(row);
+        }
+        Map<String, String[]> columns = new HashMap<>();
+        columns.put("AMOUNT", amounts);
+        columns.put("RATE", rates);
+        columns.put("NAME", names);
+
+        String expression = "#{$CONSTANTS.AMOUNT$ * $CONSTANTS.RATE$ > 100 ? $CONSTANTS.NAME$ : $CONSTANTS.AMOUNT$ + 1}-abc$CONSTANTS.RATE$";
+        BatchEvaluator evaluator = new BatchEvaluator(expression);
+        String[] sequential = evaluator.evalColumns(columns);
+        String[] parallel = evaluator.evalColumns(columns, true);
+        String[] fromRows = evaluator.evalRows(rows, true);
+        for (int i = 0; i < rowCount; i++) {
+            String expected = new AGELParser(rows.get(i)).eval(expression);
+            assertEquals(expected, sequential[i]);
+            assertEquals(expected, parallel[i]);
+            assertEquals(expected, fromRows[i]);
+        }
+
+        assertEquals(0, evaluator.evalColumns(new HashMap<>()).length);
+        columns.put("RATE", new String[1]);
+        try {
+            evaluator.evalColumns(columns);
+            fail();
+        } catch (SystemException e) {
+            assertTrue(e.getMessage().contains("RATE") || e.getMessage().contains("AMOUNT") || e.getMessage().contains("NAME"));
+        }
+
+        // 存在しない定数は一件ずつの評価と同じくエラー
+        try {
+            evaluator.evalRows(Collections.singletonList(Collections.singletonMap("AMOUNT", "1")));
+            fail();
+        } catch (SystemException e) {
+            assertTrue(e.getMessage().contains("RATE"));
+        }
+
+        // 行ごとの評価をリスナーに通知し、トレースする評価は演算子ごとの評価値を記録する
+        ExpressionMetrics metrics = new ExpressionMetrics(10, 3, 10);
+        Instrumentation.setListener(metrics);
+        try {
+            List<Map<String, String>> tracedRows = rows.subList(0, 10);
+            String[] traced = evaluator.evalRows(tracedRows);
+            for (int i = 0; i < traced.length; i++) {
+                assertEquals(fromRows[i], traced[i]);
+            }
+            assertEquals(10, metrics.getEvaluationCount());
+            assertEquals(3, metrics.getTraces().size());
+            assertEquals(fromRows[2], metrics.getTraces().get(0).getResult());
+        } finally {
+            Instrumentation.setListener(null);
+        }
+    }
+
+    /**
+     * 値表現式の解析テスト（'\'、'$'を含む値、多数の値表現式を含む値）
+     */
+    @Test
+    public void valueTest001() {
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("A", "a\\1$x");
+        contentsMap.put("B", "[$CONSTANTS.A$]");
+        contentsMap.put("C", "#{1 + 2}");
+        AGELParser agelParser = new AGELParser(contentsMap);
+        ValueExpressionParser parser = agelParser.getValueExpressionParser();
+
+        // 解析結果の'\'、'$'はそのまま連結する
+        assertEquals("a\\1$x", parser.parseValue("$CONSTANTS.A$"));
+        assertEquals("<a\\1$x|[a\\1$x]|3>", parser.parseValue("<$CONSTANTS.A$|$CONSTANTS.B$|$CONSTANTS.C$>"));
+        assertEquals("$CONSTANTS.a-b$ $x", parser.parseValue("$CONSTANTS.a-b$ $x"));
+
+        // 多数の値表現式を含む場合
+        StringBuilder template = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            template.append("$CONSTANTS.C$,");
+            expected.append("3,");
+        }
+        assertEquals(expected.toString(), parser.parseValue(template.toString()));
+    }
+
+    /**
+     * 定数の依存関係グラフのテスト（評価順、変更した定数の依存元のみ再評価、循環参照の検出）
+     */
+    @Test
+    public void constantsTest001() {
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("RATE", "8");
+        contentsMap.put("BASE", "100");
+        contentsMap.put("TAX", "#{$CONSTANTS.BASE$ * $CONSTANTS.RATE$ / 100}");
+        contentsMap.put("TOTAL", "#{$CONSTANTS.BASE$ + $CONSTANTS.TAX$}");
+        contentsMap.put("LABEL", "total:$CONSTANTS.TOTAL$");
+        contentsMap.put("OTHER", "#{$CONSTANTS.BASE$ - 1}");
+
+        ConstantsGraph graph = new ConstantsGraph(contentsMap);
+        assertEquals(new HashSet<>(Arrays.asList("BASE", "TAX")), graph.getDependencies("TOTAL"));
+        List<String> order = graph.getEvaluationOrder();
+        assertTrue(order.indexOf("TAX") < order.indexOf("TOTAL"));
+        assertTrue(order.indexOf("TOTAL") < order.indexOf("LABEL"));
+
+        Map<String, String> results = graph.resolveAll(true);
+        assertEquals("8", results.get("TAX"));
+        assertEquals("total:108", results.get("LABEL"));
+        assertEquals("99", results.get("OTHER"));
+        assertEquals("total:108", graph.getParser().eval("$CONSTANTS.LABEL$"));
+
+        // 変更した定数の依存元のみ再評価する
+        ConstantsGraph swapped = graph.withChanges(Collections.singletonMap("RATE", "10"));
+        assertTrue(swapped.isResolved("OTHER"));
+        assertTrue(swapped.isResolved("BASE"));
+        assertTrue(!swapped.isResolved("TAX") && !swapped.isResolved("TOTAL") && !swapped.isResolved("LABEL"));
+        assertSame(results.get("OTHER"), swapped.resolve("OTHER"));
+        assertEquals("total:110", swapped.resolve("LABEL"));
+        assertEquals("total:108", graph.resolve("LABEL"));
+
+        // 循環参照は生成時に検出する
+        contentsMap.put("BASE", "#{$CONSTANTS.LABEL$ == a ? 1 : 2}");
+        try {
+            new ConstantsGraph(contentsMap);
+            fail();
+        } catch (SystemException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("BASE -> LABEL -> TOTAL -> BASE"));
+        }
+
+        // 通常の評価でも循環参照はSystemException
+        Map<String, String> cyclic = new HashMap<>();
+        cyclic.put("X", "$CONSTANTS.Y$");
+        cyclic.put("Y", "#{$CONSTANTS.X$ + 1}");
+        AGELParser cyclicParser = new AGELParser(cyclic);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cyclicParser.eval("#{$CONSTANTS.X$ == 1}");
+                fail();
+            } catch (SystemException e) {
+                assertEquals("定数の循環参照が見つかりました：X -> Y -> X", e.getMessage());
+            }
+        }
+        // 同じ定数を複数回参照する場合は循環参照ではない（エラー後も同じ解析処理で評価できる）
+        cyclic.put("Y", "#{$CONSTANTS.Z$ + $CONSTANTS.Z$}");
+        cyclic.put("Z", "$CONSTANTS.W$");
+        cyclic.put("W", "2");
+        assertEquals("true", cyclicParser.eval("#{$CONSTANTS.X$ == 4}"));
+
+        // 複数スレッドで同じ定数を同時に解析しても循環参照としない
+        for (int i = 0; i < 200; i++) {
+            AGELParser shared = new AGELParser(cyclic);
+            List<String> parallelResults = IntStream.range(0, 8).parallel()
+                    .mapToObj(j -> shared.eval("#{$CONSTANTS.X$ + 1}"))
+                    .collect(Collectors.toList());
+            assertEquals(Collections.nCopies(8, "5"), parallelResults);
+        }
+    }
+
+    /**
+     * テンプレートのストリーム出力テスト
+     */
+    @Test
+    public void renderTest001() throws Exception {
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("C1", "1");
+        contentsMap.put("S1", "abcdef");
+        AGELParser agelParser = new AGELParser(contentsMap);
+
+        // テンプレートの行と出力結果
+        String[][] lines = {
+                {"SELECT * FROM T WHERE A = '#{$CONSTANTS.C1$ == 1 ? substring($CONSTANTS.S1$, 1, 3) : x}' -- #",
+                        "SELECT * FROM T WHERE A = 'bc' -- #"},
+                {"#{($CONSTANTS.C1$ + 2) * 3}##{$CONSTANTS.C1$ > 0 && true}", "9#true"},
+                {"unterminated #{ $CONSTANTS.C1$ + 1", "unterminated #{ $CONSTANTS.C1$ + 1"},
+                {"#{{$CONSTANTS.C1$} == {1} ? a : b} $CONSTANTS.C1$ #", "a $CONSTANTS.C1$ #"},
+        };
+        StringBuilder template = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            template.append(lines[i % lines.length][0]).append('\n');
+            expected.append(lines[i % lines.length][1]).append('\n');
+        }
+        TemplateRenderer renderer = new TemplateRenderer(agelParser);
+        StringWriter writer = new StringWriter();
+        renderer.render(new StringReader(template.toString()), writer);
+        assertEquals(expected.toString(), writer.toString());
+
+        // 一文字ずつ読み込む場合も同じ結果
+        Reader slowReader = new StringReader(template.toString()) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+        StringBuilder out = new StringBuilder();
+        renderer.render(slowReader, out);
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    /**
+     * ユーザー定義関数のテスト
+     */
+    @Test
+    public void functionTest001() {
+        AtomicInteger sequence = new AtomicInteger();
+        FunctionRegistry.register(new FunctionDefinition("round", 2, true,
+                args -> args.getBigDecimal(0).setScale(args.getInt(1), RoundingMode.HALF_UP).toPlainString()));
+        FunctionRegistry.register(new FunctionDefinition("coalesce", FunctionDefinition.VARIABLE_ARITY, true, args -> {
+            for (int i = 0; i < args.size(); i++) {
+                if (!args.isEmpty(i)) {
+                    return args.get(i);
+                }
+            }
+            return null;
+        }));
+        FunctionRegistry.register(new FunctionDefinition("seq", 1, false, args -> args.getString(0) + sequence.incrementAndGet()));
+        try {
+            Map<String, String> contentsMap = new HashMap<>();
+            contentsMap.put("P", "12.345");
+            contentsMap.put("E", "");
+            AGELParser agelParser = new AGELParser(contentsMap);
+
+            assertEquals("12.35", agelParser.eval("#{round($CONSTANTS.P$, 2)}"));
+            assertEquals("true", agelParser.eval("#{round($CONSTANTS.P$ * 2, 1) == 24.7 && length(coalesce($CONSTANTS.E$, abc)) > 2}"));
+            assertEquals("x", agelParser.eval("#{coalesce($CONSTANTS.E$, null, x, y)}"));
+
+            // 純粋関数は畳み込み、その以外は評価ごとに呼び出す
+            assertTrue(AGELParser.compile("#{round(1.25, 1) + 1}").getNodes()[0] instanceof LiteralNode);
+            CompiledExpression impure = AGELParser.compile("#{seq(s)}");
+            assertTrue(impure.getNodes()[0] instanceof OperatorNode);
+            assertEquals("s1", impure.eval(agelParser));
+            assertEquals("s2", impure.eval(agelParser));
+            // 片方のみ数値の大小比較でも、オペランドは一回のみ評価する
+            sequence.set(0);
+            assertEquals("false", agelParser.eval("#{seq(1) > abc}"));
+            assertEquals("true", agelParser.eval("#{abc >= seq(2)}"));
+            assertEquals(2, sequence.get());
+
+            try {
+                agelParser.eval("#{round(1.25)}");
+                fail();
+            } catch (SystemException e) {
+                assertTrue(e.getMessage().contains("round"));
+            }
+            try {
+                FunctionRegistry.register(new FunctionDefinition("substring", 1, true, args -> ""));
+                fail();
+            } catch (SystemException e) {
+                assertTrue(e.getMessage().contains("substring"));
+            }
+        } finally {
+            FunctionRegistry.unregister("round");
+            FunctionRegistry.unregister("coalesce");
+            FunctionRegistry.unregister("seq");
+        }
+        assertEquals("round", new AGELParser().eval("#{round}"));
+    }
+
+    /**
+     * 評価結果のメモ化テスト
+     */
+    @Test
+    public void memoizeTest001() {
+        AtomicInteger calls = new AtomicInteger();
+        FunctionRegistry.register(new FunctionDefinition("price", 2, true, args -> {
+            calls.incrementAndGet();
+            return args.getString(0).length() * 100 + args.getInt(1);
+        }));
+        FunctionRegistry.register(new FunctionDefinition("seq", 1, false, args -> calls.incrementAndGet()));
+        try {
+            MemoizingEvaluator evaluator = new MemoizingEvaluator(
+                    AGELParser.compile("#{price($CONSTANTS.CODE$, $CONSTANTS.REGION$) > 300 ? high : low}"), 2, 1000);
+            assertTrue(evaluator.isMemoizable());
+
+            String[][] records = {{"AB", "1"}, {"ABCD", "1"}, {"AB", "1"}, {"AB", "1"}, {"ABCD", "1"}, {"AB", "2"}};
+            String[] expected = {"low", "high", "low", "low", "high", "low"};
+            for (int i = 0; i < records.length; i++) {
+                Map<String, String> record = new HashMap<>();
+                record.put("CODE", records[i][0]);
+                record.put("REGION", records[i][1]);
+                record.put("OTHER", String.valueOf(i));
+                assertEquals(expected[i], evaluator.eval(record));
+            }
+            assertEquals(3, calls.get());
+            assertEquals(3, evaluator.getHitCount());
+            assertEquals(3, evaluator.getMissCount());
+            assertEquals(0.5, evaluator.getHitRate(), 0);
+            assertEquals(2, evaluator.size());
+            assertEquals(1, evaluator.getEvictionCount());
+
+            // AGELParserで評価する場合も同じキャッシュを使用する
+            Map<String, String> parserRecord = new HashMap<>();
+            parserRecord.put("CODE", "AB");
+            parserRecord.put("REGION", "2");
+            assertEquals("low", evaluator.eval(new AGELParser(parserRecord)));
+            assertEquals(3, calls.get());
+            assertEquals(4, evaluator.getHitCount());
+
+            // 表現式を含む定数の値はメモ化しない
+            Map<String, String> record = new HashMap<>();
+            record.put("CODE", "#{$CONSTANTS.C$}");
+            record.put("C", "ABCDE");
+            record.put("REGION", "1");
+            assertEquals("high", evaluator.eval(record));
+            assertEquals(1, evaluator.getBypassCount());
+
+            // 純粋関数以外を含む表現式はメモ化しない
+            MemoizingEvaluator impure = new MemoizingEvaluator("#{seq(s) > $CONSTANTS.REGION$}");
+            assertTrue(!impure.isMemoizable());
+            calls.set(0);
+            impure.eval(record);
+            impure.eval(record);
+            assertEquals(2, calls.get());
+            assertEquals(0, impure.size());
+        } finally {
+            FunctionRegistry.unregister("price");
+            FunctionRegistry.unregister("seq");
+        }
+    }
+
+    /**
+     * 10進数の演算、大小比較の精度テスト
+     */
+    @Test
+    public void decimalTest001() {
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("A", "0.1");
+        contentsMap.put("B", "0.2");
+        AGELParser agelParser = new AGELParser(contentsMap);
+
+        assertEquals("0.3", agelParser.eval("#{$CONSTANTS.A$ + $CONSTANTS.B$}"));
+        assertEquals("true", agelParser.eval("#{$CONSTANTS.A$ + $CONSTANTS.B$ == 0.3}"));
+        assertEquals("37.020", agelParser.eval("#{12.34 * 3.0}"));
+        assertEquals("0.3702", agelParser.eval("#{12.34 * 3 / 100}"));
+        assertEquals("0.33", agelParser.eval("#{1.00 / 3}"));
+        // doubleでは同じ値になる数値も正確に比較する
+        assertEquals("true", agelParser.eval("#{12345678901234567.1 > 12345678901234567}"));
+        assertEquals("true", agelParser.eval("#{0.30000000000000001 > $CONSTANTS.A$ + $CONSTANTS.B$}"));
+        assertEquals("false", agelParser.eval("#{9007199254740993 <= 9007199254740992}"));
+
+        // 整数値とスケールの演算結果は、BigDecimal型の演算結果と同じ値、同じスケール
+        Random random = new Random(19);
+        String[] symbols = {"+", "-", "*", "/", ">", "<="};
+        for (int i = 0; i < 5000; i++) {
+            BigDecimal a = randomDecimal(random);
+            BigDecimal b = randomDecimal(random);
+            String symbol = symbols[random.nextInt(symbols.length)];
+            if ("/".equals(symbol) && b.signum() == 0) {
+                continue;
+            }
+            String expected;
+            switch (symbol) {
+                case "+":
+                    expected = a.add(b).toPlainString();
+                    break;
+                case "-":
+                    expected = a.subtract(b).toPlainString();
+                    break;
+                case "*":
+                    expected = a.multiply(b).toPlainString();
+                    break;
+                case "/":
+                    BigDecimal quotient;
+                    try {
+                        quotient = a.divide(b);
+                    } catch (ArithmeticException e) {
+                        quotient = a.divide(b, Math.max(a.scale(), b.scale()), RoundingMode.HALF_UP);
+                    }
+                    expected = (quotient.scale() < 0 ? quotient.setScale(0) : quotient).toPlainString();
+                    break;
+                case ">":
+                    expected = String.valueOf(a.compareTo(b) > 0);
+                    break;
+                default:
+                    expected = String.valueOf(a.compareTo(b) <= 0);
+                    break;
+            }
+            contentsMap.put("A", a.toPlainString());
+            contentsMap.put("B", b.toPlainString());
+            String message = a.toPlainString() + " " + symbol + " " + b.toPlainString();
+            assertEquals(message, expected, agelParser.eval("#{$CONSTANTS.A$ " + symbol + " $CONSTANTS.B$}"));
+            assertEquals(message, expected, agelParser.eval("#{$CONSTANTS.A$ " + symbol + " " + b.toPlainString() + "}"));
+        }
+
+        // クロージャー化後の数値リテラルとの比較
+        CompiledExpression compiled = AGELParser.compile("#{$CONSTANTS.A$ > 12.5 && -3 <= $CONSTANTS.A$}");
+        for (int i = 0; i < CompiledExpression.CLOSURE_THRESHOLD + 1000; i++) {
+            BigDecimal a = randomDecimal(random);
+            contentsMap.put("A", a.toPlainString());
+            boolean expected = a.compareTo(new BigDecimal("12.5")) > 0 && new BigDecimal(-3).compareTo(a) <= 0;
+            assertEquals(a.toPlainString(), String.valueOf(expected), compiled.eval(agelParser));
+        }
+        assertTrue(compiled.isClosureCompiled());
+    }
+
+    private static BigDecimal randomDecimal(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return BigDecimal.valueOf(random.nextInt(2001) - 1000);
+            case 1:
+                return BigDecimal.valueOf(random.nextInt(2000001) - 1000000, random.nextInt(7));
+            case 2:
+                return BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(19));
+            default:
+                return new BigDecimal(new java.math.BigInteger(80, random), random.nextInt(25)).negate();
+        }
+    }
+
+    /**
+     * 評価時間の集計、トレースのテスト
+     */
+    @Test
+    public void instrumentTest001() throws Exception {
+        Map<String, String> contentsMap = new HashMap<>();
+        contentsMap.put("A", "3");
+        AGELParser agelParser = new AGELParser(contentsMap);
+        String expression = "#{($CONSTANTS.A$ + 2) * 10 > 40 ? ok : ng}";
+
+        ExpressionMetrics metrics = new ExpressionMetrics(1, 2, 10);
+        Instrumentation.setListener(metrics);
+        metrics.register();
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("ok", agelParser.eval(expression));
+            }
+            assertEquals(new BigDecimal("6"), ArithmeticOperations.compile("a * b").eval(new BigDecimal("2"), new BigDecimal("3")));
+            try {
+                agelParser.eval("#{$CONSTANTS.A$ / 0}");
+                fail();
+            } catch (RuntimeException e) {
+                // 上限件数（1件）を超えた表現式は"(other)"にまとめる
+            }
+
+            assertEquals(5, metrics.getEvaluationCount());
+            assertTrue(metrics.getCompileCacheHitCount() >= 2);
+            Map<String, ExpressionStatistics> statistics = new HashMap<>();
+            for (ExpressionStatistics s : metrics.snapshot()) {
+                statistics.put(s.getEngine() + ":" + s.getExpression(), s);
+            }
+            ExpressionStatistics agel = statistics.get("AGEL:" + expression);
+            assertEquals(3, agel.getCount());
+            assertTrue(agel.getP50Nanos() <= agel.getP99Nanos() && agel.getP99Nanos() <= agel.getMaxNanos());
+            assertEquals(1, statistics.get("ARITHMETIC:a * b").getCount());
+            assertEquals(1, statistics.get("AGEL:(other)").getFailureCount());
+
+            // 2回に一回トレースし、演算子ごとの評価値を記録する
+            List<EvaluationTrace> traces = metrics.getTraces();
+            assertEquals(2, traces.size());
+            List<String> steps = new ArrayList<>();
+            for (EvaluationTrace.Step step : traces.get(0).getSteps()) {
+                steps.add(step.getOperator() + "=" + step.getResult());
+            }
+            assertEquals(Arrays.asList("+=5", "*=50", ">=true", ":=ok"), steps.subList(steps.size() - 4, steps.size()));
+            assertEquals("ok", traces.get(0).getResult());
+            assertEquals("6", traces.get(1).getResult());
+            assertEquals("*", traces.get(1).getSteps().get(0).getOperator());
+
+            assertEquals(5L, ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(new ObjectName(ExpressionMetrics.OBJECT_NAME), "EvaluationCount"));
+        } finally {
+            Instrumentation.setListener(null);
+            metrics.unregister();
+        }
+    }
+
+    /**
+     * 字句解析テスト
+     */
+    @Test
+    public void tokenizeTest001() {
+        String expression = "substring($CONSTANTS.C3$,1, -2.5e3)>=abc&&isNotEmpty( x )";
+        List<Token> tokens = ExpressionLexer.tokenize(expression, 0, expression.length());
+
+        assertEquals(Arrays.asList(
+                "OPERATOR:substring", "OPERATOR:(", "VALUE_EXPRESSION:$CONSTANTS.C3$", "OPERATOR:,",
+                "NUMBER:1", "OPERATOR:,", "NUMBER:-2.5e3", "OPERATOR:)", "STRING:>=abc&&isNotEmpty",
+                "OPERATOR:(", "STRING:x", "OPERATOR:)"), toStrings(tokens));
+
+        expression = "#{ a >= 1\t&& isEmpty(b) }";
+        tokens = ExpressionLexer.tokenize(expression, 2, expression.length() - 1);
+
+        assertEquals(Arrays.asList(
+                "STRING:a", "OPERATOR:>=", "NUMBER:1", "OPERATOR:&&", "OPERATOR:isEmpty",
+                "OPERATOR:(", "STRING:b", "OPERATOR:)"), toStrings(tokens));
+    }
+
+    private static List<String> toStrings(List<Token> tokens) {
+        List<String> result = new ArrayList<>();
+        for (Token token : tokens) {
+            result.add(token.toString());
+        }
+        return result;
+    }
 }
@@ -5,6 +5,12 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 
 public class ArithmeticOperationsTest {
 
@@ -42,4 +48,145 @@ public class ArithmeticOperationsTest {
         }
         Assert.fail();
     }
+
+    @Test
+    public void compileTest01() {
+        ArithmeticOperations calculator = new ArithmeticOperations();
+        Assert.assertEquals(new BigDecimal("401.02806"), calculator.eval(
+                "(3 + 4 * 2.4 / 2.123 + ( (-1 --2- (5)) * (2 + -100) + 1.12345 / 2.22 )--1)"));
+        Assert.assertEquals(new BigDecimal("3"), calculator.eval("10 / 3"));
+        Assert.assertEquals(new BigDecimal("3.33"), calculator.eval("10.00 / 3"));
+        Assert.assertEquals(new BigDecimal("93"), calculator.eval("100 - 3 * 2 - 1"));
+        Assert.assertEquals(new BigDecimal("0.502"), calculator.eval("1.005 / 2"));
+        Assert.assertEquals(new BigDecimal("-2"), calculator.eval("5 / -2"));
+        Assert.assertEquals(new BigDecimal("-3"), calculator.eval("-7 / 2"));
+
+        ArithmeticProgram program = ArithmeticOperations.compile("(a + b) * c / 100");
+        Assert.assertSame(program, ArithmeticOperations.compile("(a + b) * c / 100"));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), program.getVariableNames());
+
+        Map<String, BigDecimal> variables = new HashMap<>();
+        variables.put("a", new BigDecimal("12.5"));
+        variables.put("b", new BigDecimal("7.25"));
+        variables.put("c", new BigDecimal("3"));
+        BigDecimal expected = calculator.eval("(12.5 + 7.25) * 3 / 100");
+        Assert.assertEquals(expected, program.eval(variables));
+        Assert.assertEquals(expected, program.eval(new BigDecimal("12.5"), new BigDecimal("7.25"), new BigDecimal("3")));
+
+        Assert.assertEquals(new BigDecimal("0.60"),
+                program.withRoundingMode(RoundingMode.UP).eval(BigDecimal.ONE, BigDecimal.ZERO, new BigDecimal("59.01")));
+        Assert.assertEquals(new BigDecimal("0.3333"),
+                ArithmeticOperations.compile("x / 3").withMathContext(new MathContext(4)).eval(BigDecimal.ONE));
+        Assert.assertEquals(new BigDecimal("-5"), ArithmeticOperations.compile("2 - -a").eval(new BigDecimal("-7")));
+
+        variables.remove("b");
+        try {
+            program.eval(variables);
+            Assert.fail();
+        } catch (SystemException e) {
+            Assert.assertEquals("[b] is not bound.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void longArithmeticTest01() {
+        ArithmeticProgram program = ArithmeticOperations.compile("(a + b) * c / d - a / 3.000");
+        Assert.assertTrue(program.isLongArithmetic());
+        ArithmeticProgram exact = program.withLongArithmetic(false);
+
+        Random random = new Random(20261017L);
+        for (RoundingMode roundingMode : new RoundingMode[]{RoundingMode.HALF_DOWN, RoundingMode.HALF_UP,
+                RoundingMode.HALF_EVEN, RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR}) {
+            ArithmeticProgram fast = program.withRoundingMode(roundingMode);
+            ArithmeticProgram slow = exact.withRoundingMode(roundingMode);
+            for (int i = 0; i < 5000; i++) {
+                BigDecimal[] slots = new BigDecimal[4];
+                for (int j = 0; j < slots.length; j++) {
+                    // 桁数の大きい値を含めて、BigDecimalへの切り替えも確認する
+                    long unscaled = random.nextInt(5) == 0 ? random.nextLong() : random.nextInt(20001) - 10000;
+                    slots[j] = BigDecimal.valueOf(unscaled, random.nextInt(6));
+                }
+                if (slots[3].signum() == 0) {
+                    slots[3] = BigDecimal.ONE;
+                }
+                BigDecimal expected = slow.eval(slots);
+                BigDecimal actual = fast.eval(slots);
+                Assert.assertEquals(expected.toString(), actual.toString());
+                Assert.assertEquals(expected.scale(), actual.scale());
+
+                // スケールが同じ整数値で指定する場合
+                long[] unscaledValues = new long[slots.length];
+                for (int j = 0; j < slots.length; j++) {
+                    unscaledValues[j] = slots[j].unscaledValue().longValue();
+                    slots[j] = BigDecimal.valueOf(unscaledValues[j], 2);
+                }
+                Assert.assertEquals(slow.eval(slots).toString(), fast.eval(2, unscaledValues).toString());
+            }
+        }
+
+        Assert.assertEquals(new BigDecimal("-2"), ArithmeticOperations.compile("5 / -2").eval());
+        Assert.assertEquals(new BigDecimal("18446744073709551614"),
+                ArithmeticOperations.compile("9223372036854775807 * 2").eval());
+        try {
+            ArithmeticOperations.compile("1 / 0").eval();
+            Assert.fail();
+        } catch (SystemException e) {
+            Assert.assertTrue(e.getCause() instanceof ArithmeticException);
+        }
+    }
+
+    @Test
+    public void columnsTest01() {
+        int rowCount = 20000;
+        long[] a = new long[rowCount];
+        long[] b = new long[rowCount];
+        long[] c = new long[rowCount];
+        Random random = new Random(20261017L);
+        for (int i = 0; i < rowCount; i++) {
+            a[i] = random.nextInt(2000001) - 1000000;
+            b[i] = random.nextInt(20001) - 10000;
+            c[i] = random.nextInt(1000) - 500;
+            c[i] = c[i] == 0 ? 1 : c[i];
+        }
+        // オーバーフローする行、0除算の行
+        a[3] = Long.MAX_VALUE;
+        c[5] = 0;
+
+        ArithmeticProgram program = ArithmeticOperations.compile("(a + b) * 3 / c - a / 7");
+        ArithmeticColumns columns = new ArithmeticColumns().put("a", a, 2).put("b", b, 1).put("c", c, 0);
+        for (boolean parallel : new boolean[]{false, true}) {
+            ArithmeticColumnResult result = program.evalColumns(columns, parallel);
+            Assert.assertEquals(rowCount, result.getRowCount());
+            Assert.assertEquals(1, result.getInvalidCount());
+            Assert.assertFalse(result.isValid(5));
+            Assert.assertNull(result.getDecimal(5));
+            for (int i = 0; i < rowCount; i++) {
+                if (i != 5) {
+                    BigDecimal expected = program.withLongArithmetic(false).eval(
+                            BigDecimal.valueOf(a[i], 2), BigDecimal.valueOf(b[i], 1), BigDecimal.valueOf(c[i]));
+                    Assert.assertEquals(expected.toString(), result.getDecimal(i).toString());
+                }
+            }
+        }
+
+        // BigDecimal、double混在：null、NaNの行は無効
+        BigDecimal[] x = {new BigDecimal("1.10"), null, new BigDecimal("3"), new BigDecimal("4")};
+        double[] y = {0.5, 2.0, Double.NaN, 0.25};
+        ArithmeticColumns mixed = new ArithmeticColumns().put("x", x).put("y", y);
+        ArithmeticColumnResult decimals = ArithmeticOperations.evalColumns("x * y + 1", mixed, false);
+        Assert.assertEquals(Arrays.asList(new BigDecimal("1.550"), null, null, new BigDecimal("2.00")),
+                Arrays.asList(decimals.toDecimalArray()));
+        Assert.assertEquals("{0, 3}", decimals.getValidity().toString());
+
+        ArithmeticColumnResult doubles = ArithmeticOperations.compile("x * y + 1").evalColumnsAsDouble(mixed, false);
+        Assert.assertArrayEquals(new double[]{1.55, Double.NaN, Double.NaN, 2.0}, doubles.toDoubleArray(), 1e-12);
+        Assert.assertEquals(2, doubles.getInvalidCount());
+
+        try {
+            program.evalColumns(new ArithmeticColumns().put("a", a, 2), false);
+            Assert.fail();
+        } catch (SystemException e) {
+            Assert.assertEquals("[b] is not bound.", e.getMessage());
+        }
+    }
 }
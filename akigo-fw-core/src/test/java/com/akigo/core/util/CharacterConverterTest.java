@@ -0,0 +1,83 @@
+package com.akigo.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.text.Normalizer;
+import java.util.Random;
+
+public class CharacterConverterTest {
+
+    @Test
+    public void convertTest001() {
+        Assert.assertEquals("ABc123", Strings.toHalfAlphanumeric("ＡＢｃ１２３"));
+        Assert.assertEquals("ガギグパンヴヷヺ", Strings.toFullKana("ｶﾞｷﾞｸﾞﾊﾟﾝｳﾞﾜﾞｦﾞ"));
+        Assert.assertEquals("ア゛ッ゜「ー」", Strings.toFullKana("ｱﾞｯﾟ｢ｰ｣"));
+        Assert.assertEquals("ヒラガナヽヾカタカナ", Strings.toKatakana("ひらがなゝゞｶﾀｶﾅ"));
+        Assert.assertNull(Strings.toKatakana(null));
+        String unchanged = "abcアイウ漢字";
+        Assert.assertSame(unchanged, Strings.toKatakana(unchanged));
+
+        CharacterConverter converter = CharacterConverter.of(CharacterConverter.FULL_TO_HALF_ALPHANUMERIC
+                | CharacterConverter.FULL_TO_HALF_SYMBOL);
+        Assert.assertEquals("A-1 (x)", converter.convert("Ａ－１　（ｘ）"));
+        Assert.assertEquals("buf:A-1", converter.convert("Ａ－１", new StringBuilder("buf:")).toString());
+
+        char[] chars = "ｶﾞｲｼﾞﾝ".toCharArray();
+        int length = CharacterConverter.of(CharacterConverter.HALF_TO_FULL_KANA).convert(chars, 0, chars.length, chars, 0);
+        Assert.assertEquals("ガイジン", new String(chars, 0, length));
+
+        // 濁点、半濁点（単独）を含まない半角カナはNFKCと同じ結果
+        CharacterConverter all = CharacterConverter.of(CharacterConverter.FULL_TO_HALF_ALPHANUMERIC
+                | CharacterConverter.HALF_TO_FULL_KANA);
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = random.nextInt(20); j >= 0; j--) {
+                char c = (char) (0xFF61 + random.nextInt(0x3D));
+                builder.append(c);
+                if (random.nextInt(3) == 0 && Strings.toFullKana(c + "ﾞ").length() == 1) {
+                    builder.append('ﾞ');
+                }
+                builder.append((char) ('Ａ' + random.nextInt(26)));
+            }
+            String value = builder.toString();
+            Assert.assertEquals(value, Normalizer.normalize(value, Normalizer.Form.NFKC), all.convert(value));
+        }
+    }
+
+    @Test
+    public void readerTest001() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("ﾃﾞｰﾀ１２３ﾊﾟﾝ\n");
+        }
+        String source = builder.toString();
+        CharacterConverter converter = CharacterConverter.of(CharacterConverter.FULL_TO_HALF_ALPHANUMERIC
+                | CharacterConverter.HALF_TO_FULL_KANA);
+        String expected = converter.convert(source);
+
+        // 1文字ずつ返すReaderでも、読み込み範囲をまたぐ濁点、半濁点を合成する
+        Reader slow = new StringReader(source) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+        for (Reader in : new Reader[]{new StringReader(source), slow}) {
+            StringBuilder result = new StringBuilder();
+            try (Reader reader = converter.reader(in)) {
+                char[] buffer = new char[777];
+                int read;
+                while ((read = reader.read(buffer, 0, buffer.length)) >= 0) {
+                    result.append(buffer, 0, read);
+                }
+            }
+            Assert.assertEquals(expected, result.toString());
+        }
+        Assert.assertTrue(expected.startsWith("データ123パン\n"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.akigo.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RecordValidatorTest {
+
+    private static RecordValidator createValidator() {
+        return new RecordRules()
+                .required(0, "E001")
+                .charClass(0, CharClassProfile.HALF_ALPHANUMERIC, "E002")
+                .length(0, 1, 8, "E003")
+                .maxBytes(1, 6, "MS932", "E004")
+                .excludesCharClass(1, CharClassProfile.HALF_KANA, "E005")
+                .dateFormat(2, "uuuuMMdd", "E006")
+                .range(3, BigDecimal.ZERO, new BigDecimal("99999.99"), "E007")
+                .pattern(4, "[A-Z]{2}-\\d{4}", "E008")
+                .compile();
+    }
+
+    @Test
+    public void validateTest001() {
+        RecordValidator validator = createValidator();
+
+        Assert.assertTrue(validator.validate(new String[]{"A001", "東京都", "20240229", "1234.5", "AB-0001"}).isValid());
+        // 必須以外のルールは、空文字列、項目不足の場合はチェックしない
+        Assert.assertTrue(validator.validate(new String[]{"A001", "", null}).isValid());
+
+        ValidationResult result = validator.validate(new String[]{null, "東京都千代田区", "20231301", "-1", "ab-0001"});
+        Assert.assertEquals(Arrays.asList("E001", "E004", "E006", "E007", "E008"), result.getErrorCodes());
+        Assert.assertEquals(2, result.getField(2));
+
+        // 同じ項目は最初のエラーのみ
+        result = validator.validate(new String[]{"Ａ001_LONG_CODE", "ｱｲ", "2024-02-29", "1e3", "AB-0001"});
+        Assert.assertEquals(Arrays.asList("E002", "E005", "E006"), result.getErrorCodes());
+
+        Assert.assertFalse(validator.validate(new String[]{"ABCDEFGHI"}).isValid());
+        Assert.assertEquals("E003", validator.validate(new String[]{"ABCDEFGHI"}).getErrorCode(0));
+        Assert.assertTrue(validator.validate(new String[]{"A", "", "", "99999.990"}).isValid());
+        Assert.assertFalse(validator.validate(new String[]{"A", "", "", "99999.991"}).isValid());
+        Assert.assertFalse(validator.validate(new String[]{"A", "", "", "12,345"}).isValid());
+        Assert.assertTrue(validator.validate(new String[]{"A", "", "", "0.0000000000000000000001"}).isValid());
+
+        try {
+            new RecordRules().maxBytes(0, 10, "UTF9", "E001");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(true);
+        }
+    }
+
+    @Test
+    public void validateAllTest001() {
+        RecordValidator validator = createValidator();
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            records.add(i % 7 == 0
+                    ? new String[]{"", "ｱｲ", "20240229", String.valueOf(i), "AB-0001"}
+                    : new String[]{"A" + i, "東京", "20240229", String.valueOf(i), "AB-0001"});
+        }
+
+        BatchValidationResult sequential = validator.validateAll(records, false);
+        BatchValidationResult parallel = validator.validateAll(records, true);
+        Assert.assertEquals(20000, parallel.getRecordCount());
+        Assert.assertEquals((20000 + 6) / 7, parallel.getInvalidCount());
+        Assert.assertEquals(sequential.getErrorCount(), parallel.getErrorCount());
+        for (int i = 0; i < parallel.getErrorCount(); i++) {
+            Assert.assertEquals(sequential.getRow(i), parallel.getRow(i));
+            Assert.assertEquals(sequential.getErrorCode(i), parallel.getErrorCode(i));
+        }
+
+        int index = parallel.indexOf(14);
+        Assert.assertEquals("E001", parallel.getErrorCode(index));
+        Assert.assertEquals("E005", parallel.getErrorCode(index + 1));
+        Assert.assertEquals(-1, parallel.indexOf(15));
+        Assert.assertTrue(parallel.isValid(15));
+        // 項目値の範囲外
+        Assert.assertEquals("E007", validator.validateAll(Arrays.<String[]>asList(new String[]{"A", "", "", "100000"}), true).getErrorCode(0));
+    }
+}
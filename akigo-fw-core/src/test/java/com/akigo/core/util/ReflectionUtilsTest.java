@@ -0,0 +1,34 @@
+package com.akigo.core.util;
+
+import com.akigo.core.el.operator.Operator;
+import com.akigo.core.el.value.ValueExpression;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+public class ReflectionUtilsTest {
+
+    /**
+     * クラスインデックスの取得テスト（クラスパスを走査した結果と同じクラスのセット）
+     */
+    @Test
+    public void indexedClassesTest001() {
+        assertIndexedClasses("com.akigo.core.el", Operator.class);
+        assertIndexedClasses("com.akigo.core.el", ValueExpression.class);
+        assertIndexedClasses("com.akigo.core.el.operator.function", Operator.class);
+    }
+
+    private static void assertIndexedClasses(String packageName, Class<? extends Annotation> annotationClass) {
+        // コンパイル時にクラスインデックスが生成されていること（走査へのフォールバックでないこと）
+        Assert.assertNotNull(Thread.currentThread().getContextClassLoader()
+                .getResource("META-INF/akigo/index/" + annotationClass.getName()));
+
+        Set<Class<?>> indexed = ReflectionUtils.getIndexedClassesWith(packageName, annotationClass);
+        Set<Class<?>> scanned = ReflectionUtils.getAllClassesWith(packageName, annotationClass);
+
+        Assert.assertFalse(scanned.isEmpty());
+        Assert.assertEquals(scanned, indexed);
+    }
+}
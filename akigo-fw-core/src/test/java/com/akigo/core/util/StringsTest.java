@@ -0,0 +1,270 @@
+package com.akigo.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.Character.UnicodeBlock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+public class StringsTest {
+
+    private static final String HALF_MARKS = " !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    private static final String FULL_MARKS = "！＂＃＄％＆＇（）＊＋，－．／：；＜＝＞？＠［￥］＾＿｀｛｜｝～・。、";
+
+    private static final IntPredicate HALF_ALPHABET_LOWER = c -> c >= 'a' && c <= 'z';
+    private static final IntPredicate HALF_ALPHABET_UPPER = c -> c >= 'A' && c <= 'Z';
+    private static final IntPredicate HALF_ALPHABET = HALF_ALPHABET_LOWER.or(HALF_ALPHABET_UPPER);
+    private static final IntPredicate HALF_NUMBER = c -> c >= '0' && c <= '9';
+    private static final IntPredicate HALF_KANA = c -> c >= CharacterCode.HALF_KANA_START && c <= CharacterCode.HALF_KANA_END;
+    private static final IntPredicate HALF_LOWER_KANA = c -> c >= CharacterCode.HALF_LOWER_KANA_START && c <= CharacterCode.HALF_LOWER_KANA_END;
+    private static final IntPredicate HALF_MARK = c -> HALF_MARKS.indexOf(c) >= 0;
+    private static final IntPredicate HALF = HALF_ALPHABET.or(HALF_NUMBER).or(HALF_KANA).or(HALF_MARK);
+    private static final IntPredicate FULL_ALPHABET_LOWER = c -> c >= 'ａ' && c <= 'ｚ';
+    private static final IntPredicate FULL_ALPHABET_UPPER = c -> c >= 'Ａ' && c <= 'Ｚ';
+    private static final IntPredicate FULL_ALPHABET = FULL_ALPHABET_LOWER.or(FULL_ALPHABET_UPPER);
+    private static final IntPredicate FULL_NUMBER = c -> c >= '０' && c <= '９';
+
+    /**
+     * 文字種の判定処理と、従来の実装（一文字ずつの判定）の組
+     */
+    private static final List<CharClassCheck> CHECKS = new ArrayList<>();
+
+    static {
+        CHECKS.add(new CharClassCheck("isAlphabet", Strings::isAlphabet, CharClassProfile::isAlphabet,
+                HALF_ALPHABET.or(FULL_ALPHABET)));
+        CHECKS.add(new CharClassCheck("isNumber", Strings::isNumber, CharClassProfile::isNumber,
+                HALF_NUMBER.or(FULL_NUMBER)));
+        CHECKS.add(new CharClassCheck("isHalfOnly", Strings::isHalfOnly, CharClassProfile::isHalfOnly, HALF));
+        CHECKS.add(new CharClassCheck("isHalfOnlyExcludesLowerKana", Strings::isHalfOnlyExcludesLowerKana,
+                CharClassProfile::isHalfOnlyExcludesLowerKana, HALF.and(HALF_LOWER_KANA.negate())));
+        CHECKS.add(new CharClassCheck("isHalfAlphabet", Strings::isHalfAlphabet, CharClassProfile::isHalfAlphabet,
+                HALF_ALPHABET));
+        CHECKS.add(new CharClassCheck("isHalfAlphabetLowerCase", Strings::isHalfAlphabetLowerCase,
+                CharClassProfile::isHalfAlphabetLowerCase, HALF_ALPHABET_LOWER));
+        CHECKS.add(new CharClassCheck("isHalfAlphabetUpperCase", Strings::isHalfAlphabetUpperCase,
+                CharClassProfile::isHalfAlphabetUpperCase, HALF_ALPHABET_UPPER));
+        CHECKS.add(new CharClassCheck("isHalfNumber", Strings::isHalfNumber, CharClassProfile::isHalfNumber, HALF_NUMBER));
+        CHECKS.add(new CharClassCheck("isHalfAlphanumeric", Strings::isHalfAlphanumeric,
+                CharClassProfile::isHalfAlphanumeric, HALF_ALPHABET.or(HALF_NUMBER)));
+        CHECKS.add(new CharClassCheck("isHalfKana", Strings::isHalfKana, CharClassProfile::isHalfKana, HALF_KANA));
+        CHECKS.add(new CharClassCheck("isHalfKanaExcludesLowerKana", Strings::isHalfKanaExcludesLowerKana,
+                CharClassProfile::isHalfKanaExcludesLowerKana, HALF_KANA.and(HALF_LOWER_KANA.negate())));
+        CHECKS.add(new CharClassCheck("isHalfMark", Strings::isHalfMark, CharClassProfile::isHalfMark, HALF_MARK));
+        CHECKS.add(new CharClassCheck("isFullOnly", Strings::isFullOnly, CharClassProfile::isFullOnly, HALF.negate()));
+        CHECKS.add(new CharClassCheck("isFullAlphabet", Strings::isFullAlphabet, CharClassProfile::isFullAlphabet,
+                FULL_ALPHABET));
+        CHECKS.add(new CharClassCheck("isFullAlphabetLowerCase", Strings::isFullAlphabetLowerCase,
+                CharClassProfile::isFullAlphabetLowerCase, FULL_ALPHABET_LOWER));
+        CHECKS.add(new CharClassCheck("isFullAlphabetUpperCase", Strings::isFullAlphabetUpperCase,
+                CharClassProfile::isFullAlphabetUpperCase, FULL_ALPHABET_UPPER));
+        CHECKS.add(new CharClassCheck("isFullNumber", Strings::isFullNumber, CharClassProfile::isFullNumber, FULL_NUMBER));
+        CHECKS.add(new CharClassCheck("isFullKana", Strings::isFullKana, CharClassProfile::isFullKana,
+                c -> c >= CharacterCode.FULL_KANA_START && c <= CharacterCode.FULL_KANA_END));
+        CHECKS.add(new CharClassCheck("isHiragana", Strings::isHiragana, CharClassProfile::isHiragana,
+                c -> (c >= CharacterCode.FULL_HIRA_START && c <= CharacterCode.FULL_HIRA_END) || c == CharacterCode.FULL_KANA_HYPHEN));
+        CHECKS.add(new CharClassCheck("isKanji", Strings::isKanji, CharClassProfile::isKanji,
+                c -> UnicodeBlock.of(c) == UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS));
+        CHECKS.add(new CharClassCheck("isFullMark", Strings::isFullMark, CharClassProfile::isFullMark,
+                c -> FULL_MARKS.indexOf(c) >= 0));
+        // 空文字列、nullの場合はtrue
+        CHECKS.add(new CharClassCheck("isNullOrEmptyOrWhitespace", Strings::isNullOrEmptyOrWhitespace,
+                CharClassProfile::isEmptyOrWhitespace, c -> Character.isWhitespace(c) || c == CharacterCode.FULL_SPACE, true));
+        CHECKS.add(new CharClassCheck("isExcludesHalfKana", Strings::isExcludesHalfKana,
+                CharClassProfile::isExcludesHalfKana, HALF_KANA.negate(), true));
+    }
+
+    /**
+     * 文字種の判定テスト（基本多言語面の全ての文字について、従来の実装と同じ結果）
+     */
+    @Test
+    public void charClassTest001() {
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            String str = String.valueOf((char) c);
+            for (CharClassCheck check : CHECKS) {
+                Assert.assertEquals(check.name + ": " + Integer.toHexString(c), check.expected(str), check.validator.test(str));
+            }
+        }
+
+        // 補助文字（サロゲートペア）は、従来の実装と同じくchar単位で判定する（CJK統合漢字拡張Bは漢字ではない）
+        Assert.assertFalse(Strings.isKanji("\uD840\uDC0B"));
+        Assert.assertFalse(Strings.isKanji("漢\uD840\uDC0B"));
+        Assert.assertTrue(Strings.isFullOnly("漢\uD840\uDC0B"));
+        Assert.assertFalse(Strings.isHalfOnly("a\uD83D\uDE00"));
+        // 改行を含む場合も半角カナを検出する
+        Assert.assertFalse(Strings.isExcludesHalfKana("abc\nｱ"));
+    }
+
+    /**
+     * 文字種の判定テスト（一回の走査結果{@link CharClassProfile}と、文字種ごとの判定の結果が同じ）
+     */
+    @Test
+    public void profileTest001() {
+        for (CharClassCheck check : CHECKS) {
+            Assert.assertEquals(check.name, check.emptyResult, check.validator.test(null));
+            Assert.assertEquals(check.name, check.emptyResult, check.validator.test(""));
+            Assert.assertEquals(check.name, check.emptyResult, check.profile.test(Strings.profile(null)));
+            Assert.assertEquals(check.name, check.emptyResult, check.profile.test(Strings.profile("")));
+        }
+
+        String[] tokens = {
+                "a", "Z", "5", "ａ", "Ｚ", "５", "ｱ", "ｧ", "ｯ", "ﾟ", "ア", "ヶ", "ー", "あ", "ゖ", "漢", "々",
+                "!", "~", "\\", "！", "￥", "・", "。", " ", "　", "\t", "\n", "\uD840\uDC0B", "\uD83D\uDE00", "\uD800", "é",
+        };
+        Random random = new Random(21);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            sb.setLength(0);
+            // 同じ文字種に該当する組み合わせが出現するよう、少ない種類の文字から生成する
+            int kinds = 1 + random.nextInt(3);
+            int first = random.nextInt(tokens.length);
+            for (int j = random.nextInt(6); j >= 0; j--) {
+                sb.append(tokens[(first + random.nextInt(kinds)) % tokens.length]);
+            }
+            String str = sb.toString();
+            CharClassProfile profile = Strings.profile(str);
+            Assert.assertEquals(str.length(), profile.length());
+            for (CharClassCheck check : CHECKS) {
+                boolean expected = check.expected(str);
+                Assert.assertEquals(check.name + ": " + str, expected, check.validator.test(str));
+                Assert.assertEquals(check.name + ": " + str, expected, check.profile.test(profile));
+            }
+        }
+    }
+
+    @Test
+    public void splitTest001() {
+        Assert.assertEquals(Arrays.asList("a", "b", "", "c"), Strings.split("a,b,,c,,", ","));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), Strings.split("a1b22c", "\\d+"));
+        Assert.assertEquals(Arrays.asList("a", "b"), Strings.split("a.b", "\\."));
+        Assert.assertSame(Strings.compilePattern("\\d+"), Strings.compilePattern("\\d+"));
+        Assert.assertEquals(Optional.of("22"), Strings.matchesFirst("a22b333", "\\d+"));
+        Assert.assertEquals(Arrays.asList("22", "333"), Strings.matches("a22b333", "\\d+"));
+
+        SplitFields fields = Strings.splitLiteral("a,bc,,d,", ',');
+        Assert.assertEquals(Arrays.asList("a", "bc", "", "d", ""), fields.toStringList());
+        Assert.assertEquals(2, fields.start(1));
+        Assert.assertEquals(4, fields.end(1));
+        Assert.assertEquals("bc", fields.get(1).toString());
+        Assert.assertEquals('c', fields.get(1).charAt(1));
+        Assert.assertEquals("bc", fields.getString(1));
+        Assert.assertEquals(0, fields.length(2));
+        Assert.assertEquals("[a, bc, , d, ]", fields.toString());
+        // 項目は内容で比較しないため、Listとして扱わない（文字列の比較、検索はtoStringList()で行う）
+        Assert.assertFalse(List.class.isAssignableFrom(SplitFields.class));
+        Assert.assertTrue(fields.toStringList().contains("d"));
+        Assert.assertEquals(3, fields.toStringList().indexOf("d"));
+        try {
+            fields.get(5);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            Assert.assertEquals("index: 5, size: 5", e.getMessage());
+        }
+        Assert.assertEquals(Collections.singletonList(""), Strings.splitLiteral("", ',').toStringList());
+        Assert.assertEquals(0, Strings.splitLiteral(null, ',').size());
+
+        Assert.assertEquals(Arrays.asList("a", "b", "", "c", ""), Strings.splitLiteral("a.*b.*.*c.*", ".*").toStringList());
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), Strings.splitLiteral(new StringBuilder("a||b||c"), "||").toStringList());
+        Assert.assertEquals(Collections.singletonList("abc"), Strings.splitLiteral("abc", "||").toStringList());
+    }
+
+    /**
+     * バイト数の計算テスト（{@link String#getBytes(String)}のバイト数と同じ）
+     */
+    @Test
+    public void byteLengthTest001() throws Exception {
+        String[] encodings = {"UTF-8", "UTF8", "MS932", "Shift_JIS", "EUC-JP", "ISO-2022-JP", "UTF-16"};
+        String[] tokens = {
+                "a", "~", "\\", "é", "ア", "ｱ", "漢", "～", "①", "㈱", "￥", "\u00A5", "\u203E", "\uD840\uDC0B",
+                "\uD83D\uDE00", "\uD800", "\uDC00", "\t", "\u0000",
+        };
+        Random random = new Random(22);
+        StringBuilder sb = new StringBuilder();
+        for (String enc : encodings) {
+            ByteLengthCounter counter = ByteLengthCounter.forName(enc);
+            Assert.assertNotNull(enc, counter);
+            Assert.assertSame(counter, ByteLengthCounter.forName(enc));
+            for (int i = 0; i < 5000; i++) {
+                sb.setLength(0);
+                for (int j = random.nextInt(12); j > 0; j--) {
+                    sb.append(tokens[random.nextInt(tokens.length)]);
+                }
+                // 末尾の不正なサロゲート
+                if (random.nextInt(8) == 0) {
+                    sb.append('\uD83D');
+                }
+                String str = sb.toString();
+                int expected = str.getBytes(enc).length;
+                String message = enc + ": " + str;
+                Assert.assertEquals(message, expected, counter.count(str, Long.MAX_VALUE));
+                Assert.assertEquals(message, expected, counter.count(new StringBuilder(str), Long.MAX_VALUE));
+                Assert.assertTrue(message, Strings.isLimitedBytes(str, expected, enc));
+                Assert.assertFalse(message, Strings.isLimitedBytes(str, expected - 1, enc));
+                if (expected > 0) {
+                    Assert.assertTrue(message, counter.count(str, expected - 1) > expected - 1);
+                }
+            }
+
+            // 上限を超えた時点で打ち切る
+            sb.setLength(0);
+            for (int i = 0; i < 100000; i++) {
+                sb.append("漢a");
+            }
+            long count = counter.count(sb, 10);
+            Assert.assertTrue(enc + ": " + count, count > 10 && count < sb.toString().getBytes(enc).length);
+            Assert.assertFalse(Strings.isLimitedBytes(sb.toString(), 10, enc));
+        }
+
+        Assert.assertTrue(Strings.isLimitedBytes("漢", 3, null));
+        Assert.assertFalse(Strings.isLimitedBytes("漢", 2, null));
+        // サポートされていないエンコード
+        for (String enc : new String[]{"UTFX", "x-unknown-charset", "", "UTF 8"}) {
+            Assert.assertNull(enc, ByteLengthCounter.forName(enc));
+            Assert.assertNull(enc, ByteLengthCounter.forName(enc));
+            Assert.assertFalse(enc, Strings.isLimitedBytes("", 1, enc));
+        }
+    }
+
+    private static final class CharClassCheck {
+
+        private final String name;
+
+        private final Predicate<String> validator;
+
+        private final Predicate<CharClassProfile> profile;
+
+        /**
+         * 従来の実装の一文字ごとの判定
+         */
+        private final IntPredicate reference;
+
+        /**
+         * 空文字列、nullの場合の結果
+         */
+        private final boolean emptyResult;
+
+        private CharClassCheck(String name, Predicate<String> validator, Predicate<CharClassProfile> profile, IntPredicate reference) {
+            this(name, validator, profile, reference, false);
+        }
+
+        private CharClassCheck(String name, Predicate<String> validator, Predicate<CharClassProfile> profile, IntPredicate reference,
+                               boolean emptyResult) {
+            this.name = name;
+            this.validator = validator;
+            this.profile = profile;
+            this.reference = reference;
+            this.emptyResult = emptyResult;
+        }
+
+        private boolean expected(String str) {
+            return str.isEmpty() ? this.emptyResult : str.chars().allMatch(this.reference);
+        }
+    }
+}
@@ -113,7 +113,7 @@ public class ConnectionUtils {
             }
 
             // LOG 接続先のデータソース名を出力します。dsName:データソース名
-            logger.debug("■■■ 接続先: " + dsName + " ■■■");
+            logger.debug("■■■ 接続先: {} ■■■", dsName);
 
             InitialContext ctx = new InitialContext();
             DataSource dataSource = (DataSource) ctx.lookup(dsName);
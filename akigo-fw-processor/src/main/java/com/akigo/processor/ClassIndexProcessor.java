@@ -0,0 +1,128 @@
+/*
+ * ClassIndexProcessor.java
+ * Created on  2026/10/17 19:30
+ *
+ * Copyright (c) 2017-2099. AkiGo科技有限公司 版权所有
+ * AkiGo TECHNOLOGY CO.,LTD. All Rights Reserved.
+ *
+ */
+package com.akigo.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * クラスインデックスの生成アノテーションプロセッサー<br>
+ * <pre>
+ * コンパイル時に{@code @Operator}、{@code @ValueExpression}を付与したクラス（抽象クラスを除く）を収集し、
+ * アノテーションごとのインデックスファイルにバイナリ名を一行ずつ出力する。
+ *   出力先：META-INF/akigo/index/アノテーションの完全修飾名
+ *
+ * 実行時は{@code ReflectionUtils#getIndexedClassesWith}がインデックスファイルを読み込み、
+ * クラスパスの走査を行わずに対象クラスを取得する。
+ * 差分コンパイルの場合は既存のインデックスファイルを読み込み、存在しなくなったクラスを除いてマージする。
+ * </pre>
+ *
+ * @author chenhao
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes({ClassIndexProcessor.OPERATOR, ClassIndexProcessor.VALUE_EXPRESSION})
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * インデックスファイルの出力先ディレクトリ
+     */
+    public static final String INDEX_DIRECTORY = "META-INF/akigo/index/";
+
+    static final String OPERATOR = "com.akigo.core.el.operator.Operator";
+
+    static final String VALUE_EXPRESSION = "com.akigo.core.el.value.ValueExpression";
+
+    /**
+     * アノテーションの完全修飾名 → 対象クラスのバイナリ名
+     */
+    private final Map<String, Set<String>> indexes = new HashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Set<String> index = getIndex(annotation.getQualifiedName().toString());
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+                    index.add(this.processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            this.indexes.forEach(this::writeIndex);
+        }
+        return false;
+    }
+
+    private Set<String> getIndex(String annotationName) {
+        return this.indexes.computeIfAbsent(annotationName, this::readIndex);
+    }
+
+    private Set<String> readIndex(String annotationName) {
+        Set<String> index = new TreeSet<>();
+        try {
+            FileObject file = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_DIRECTORY + annotationName);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String className = line.trim();
+                    // 削除されたクラスは引き継がない
+                    if (!className.isEmpty() && this.processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null) {
+                        index.add(className);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 既存のインデックスファイルが存在しない場合
+        }
+        return index;
+    }
+
+    private void writeIndex(String annotationName, Set<String> index) {
+        if (index.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_DIRECTORY + annotationName);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String className : index) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    INDEX_DIRECTORY + annotationName + "の出力に失敗しました。" + e.getMessage());
+        }
+    }
+}
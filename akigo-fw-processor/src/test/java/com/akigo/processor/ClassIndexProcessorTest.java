@@ -0,0 +1,120 @@
+package com.akigo.processor;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ClassIndexProcessorTest {
+
+    private static final String OPERATOR_SOURCE = "package com.akigo.core.el.operator;\n"
+            + "public @interface Operator {}\n";
+
+    private static final String VALUE_EXPRESSION_SOURCE = "package com.akigo.core.el.value;\n"
+            + "public @interface ValueExpression {}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * インデックスの生成テスト（抽象クラス、アノテーションなしのクラスを除き、ネストクラスはバイナリ名で出力）
+     */
+    @Test
+    public void processTest001() throws IOException {
+        Path output = this.folder.newFolder("classes").toPath();
+
+        compile(output,
+                source("com/akigo/core/el/operator/Operator.java", OPERATOR_SOURCE),
+                source("com/akigo/core/el/value/ValueExpression.java", VALUE_EXPRESSION_SOURCE),
+                source("sample/Plus.java", "package sample;\n"
+                        + "@com.akigo.core.el.operator.Operator public class Plus {}\n"),
+                source("sample/Base.java", "package sample;\n"
+                        + "@com.akigo.core.el.operator.Operator public abstract class Base {}\n"),
+                source("sample/Outer.java", "package sample;\n"
+                        + "public class Outer {\n"
+                        + "    @com.akigo.core.el.operator.Operator public static class Inner {}\n"
+                        + "}\n"),
+                source("sample/Constant.java", "package sample;\n"
+                        + "@com.akigo.core.el.value.ValueExpression public class Constant {}\n"),
+                source("sample/Plain.java", "package sample;\n"
+                        + "public class Plain {}\n"));
+
+        Assert.assertEquals(Arrays.asList("sample.Outer$Inner", "sample.Plus"),
+                readIndex(output, ClassIndexProcessor.OPERATOR));
+        Assert.assertEquals(Collections.singletonList("sample.Constant"),
+                readIndex(output, ClassIndexProcessor.VALUE_EXPRESSION));
+    }
+
+    /**
+     * 差分コンパイルのテスト（既存のインデックスにマージし、削除されたクラスは除く）
+     */
+    @Test
+    public void processTest002() throws IOException {
+        Path output = this.folder.newFolder("classes").toPath();
+
+        compile(output,
+                source("com/akigo/core/el/operator/Operator.java", OPERATOR_SOURCE),
+                source("sample/Plus.java", "package sample;\n"
+                        + "@com.akigo.core.el.operator.Operator public class Plus {}\n"),
+                source("sample/Minus.java", "package sample;\n"
+                        + "@com.akigo.core.el.operator.Operator public class Minus {}\n"));
+        Assert.assertEquals(Arrays.asList("sample.Minus", "sample.Plus"),
+                readIndex(output, ClassIndexProcessor.OPERATOR));
+
+        // Minusを削除し、Multiのみを追加でコンパイルする
+        Files.delete(output.resolve("sample/Minus.class"));
+        compile(output,
+                source("sample/Multi.java", "package sample;\n"
+                        + "@com.akigo.core.el.operator.Operator public class Multi {}\n"));
+
+        Assert.assertEquals(Arrays.asList("sample.Multi", "sample.Plus"),
+                readIndex(output, ClassIndexProcessor.OPERATOR));
+
+        // 対象クラスを含まないコンパイルではインデックスを変更しない
+        compile(output,
+                source("sample/Plain.java", "package sample;\n"
+                        + "public class Plain {}\n"));
+
+        Assert.assertEquals(Arrays.asList("sample.Multi", "sample.Plus"),
+                readIndex(output, ClassIndexProcessor.OPERATOR));
+    }
+
+    private File source(String path, String content) throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve("src").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    private static void compile(Path output, File... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", output.toString(), "-classpath", output.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sources));
+            task.setProcessors(Collections.singletonList(new ClassIndexProcessor()));
+            Assert.assertTrue(diagnostics.getDiagnostics().toString(), task.call());
+        }
+    }
+
+    private static List<String> readIndex(Path output, String annotationName) throws IOException {
+        Path index = output.resolve(ClassIndexProcessor.INDEX_DIRECTORY + annotationName);
+        return index.toFile().exists() ? Files.readAllLines(index, StandardCharsets.UTF_8) : new ArrayList<>();
+    }
+}